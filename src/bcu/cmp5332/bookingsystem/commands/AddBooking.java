@@ -1,45 +1,91 @@
-package bcu.cmp5332.bookingsystem.commands;
-
-import java.time.LocalDate;
-
-import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
-import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
-
-/**
- * The AddBooking class represents a command to add a booking for a customer on a flight
- * in the flight booking system. It implements the Command interface.
- * 
- * @author Sujal Manandhar
- */
-public class AddBooking implements Command {
-
-    private final int cusId;
-    private final int flightId;
-    private final LocalDate bookingDate;
-
-    /**
-     * Constructs an AddBooking command with the specified customer ID, flight ID,
-     * and booking date.
-     *
-     * @param cusId       The ID of the customer making the booking.
-     * @param flightId    The ID of the flight for which the booking is being made.
-     * @param bookingDate The date on which the booking is made.
-     */
-    public AddBooking(int cusId, int flightId, LocalDate bookingDate) {
-        this.cusId = cusId;
-        this.flightId = flightId;
-        this.bookingDate = bookingDate;
-    }
-
-    /**
-     * Executes the AddBooking command by adding a booking for the specified customer
-     * on the specified flight using the provided booking date.
-     *
-     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
-     * @throws FlightBookingSystemException If an error occurs during the booking addition process.
-     */
-    @Override
-    public void execute(FlightBookingSystem flightBookingSystem) throws FlightBookingSystemException {
-        flightBookingSystem.addBookingByIds(cusId, flightId, bookingDate);
-    }
-}
+package bcu.cmp5332.bookingsystem.commands;
+
+import java.io.PrintStream;
+import java.time.LocalDate;
+
+import bcu.cmp5332.bookingsystem.data.CommandJournal;
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Booking;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+/**
+ * The AddBooking class represents a command to add a booking for a customer on a flight
+ * in the flight booking system. It implements the Command interface.
+ * 
+ * @author Sujal Manandhar
+ */
+public class AddBooking implements Command {
+
+    private final int cusId;
+    private final int flightId;
+    private final LocalDate bookingDate;
+    private final String seat;
+
+    /**
+     * Constructs an AddBooking command with the specified customer ID, flight ID,
+     * and booking date.
+     *
+     * @param cusId       The ID of the customer making the booking.
+     * @param flightId    The ID of the flight for which the booking is being made.
+     * @param bookingDate The date on which the booking is made.
+     */
+    public AddBooking(int cusId, int flightId, LocalDate bookingDate) {
+        this(cusId, flightId, bookingDate, null);
+    }
+
+    /**
+     * Constructs an AddBooking command for a specific seat.
+     *
+     * @param cusId       The ID of the customer making the booking.
+     * @param flightId    The ID of the flight for which the booking is being made.
+     * @param bookingDate The date on which the booking is made.
+     * @param seat        The label of the seat to book, for example "12C", or null for the first free seat.
+     */
+    public AddBooking(int cusId, int flightId, LocalDate bookingDate, String seat) {
+        this.cusId = cusId;
+        this.flightId = flightId;
+        this.bookingDate = bookingDate;
+        this.seat = seat;
+    }
+
+    /**
+     * Executes the AddBooking command, printing its messages to the console.
+     *
+     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
+     * @throws FlightBookingSystemException If an error occurs during the booking addition process.
+     */
+    @Override
+    public void execute(FlightBookingSystem flightBookingSystem) throws FlightBookingSystemException {
+        execute(flightBookingSystem, System.out);
+    }
+
+    /**
+     * Executes the AddBooking command by adding a booking for the specified customer
+     * on the specified flight using the provided booking date. If the flight is fully
+     * booked the customer is put on its waitlist instead.
+     *
+     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
+     * @param out The stream to print the command's messages to.
+     * @throws FlightBookingSystemException If an error occurs during the booking addition process.
+     */
+    @Override
+    public void execute(FlightBookingSystem flightBookingSystem, PrintStream out) throws FlightBookingSystemException {
+        Booking booking = flightBookingSystem.addBookingOrWaitlist(cusId, flightId, bookingDate, seat);
+        if (booking != null) {
+            out.println("Booked seat " + booking.getSeatLabel() + ".");
+        } else {
+            out.println("Seats for this flight are fully booked. Customer #" + cusId + " added to the waitlist ("
+                    + flightBookingSystem.getWaitlist(flightId).size() + " waiting).");
+        }
+    }
+
+    /**
+     * Builds the journal record for this command.
+     *
+     * @return The journal record.
+     */
+    @Override
+    public String journalRecord() {
+        return CommandJournal.record("addbooking", cusId, flightId, bookingDate, seat);
+    }
+}
@@ -0,0 +1,78 @@
+package bcu.cmp5332.bookingsystem.commands;
+
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import bcu.cmp5332.bookingsystem.data.CommandJournal;
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Booking;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+/**
+ * The AddGroupBooking class represents a command to book a party of customers onto a flight
+ * together, so that either the whole party is booked or nobody is.
+ * It implements the Command interface.
+ * 
+ * @author Sujal Manandhar
+ */
+public class AddGroupBooking implements Command {
+
+    private final List<Integer> customerIds;
+    private final int flightId;
+    private final LocalDate bookingDate;
+
+    /**
+     * Constructs an AddGroupBooking command with the specified customers, flight ID and booking date.
+     *
+     * @param customerIds The IDs of the customers in the party.
+     * @param flightId    The ID of the flight for which the booking is being made.
+     * @param bookingDate The date on which the booking is made.
+     */
+    public AddGroupBooking(List<Integer> customerIds, int flightId, LocalDate bookingDate) {
+        this.customerIds = List.copyOf(customerIds);
+        this.flightId = flightId;
+        this.bookingDate = bookingDate;
+    }
+
+    /**
+     * Executes the AddGroupBooking command, printing its messages to the console.
+     *
+     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
+     * @throws FlightBookingSystemException If any customer in the party cannot be booked.
+     */
+    @Override
+    public void execute(FlightBookingSystem flightBookingSystem) throws FlightBookingSystemException {
+        execute(flightBookingSystem, System.out);
+    }
+
+    /**
+     * Executes the AddGroupBooking command by booking every customer in the party on the flight
+     * and printing the group ID and seats.
+     *
+     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
+     * @param out The stream to print the command's messages to.
+     * @throws FlightBookingSystemException If any customer in the party cannot be booked.
+     */
+    @Override
+    public void execute(FlightBookingSystem flightBookingSystem, PrintStream out) throws FlightBookingSystemException {
+        int groupId = flightBookingSystem.addGroupBooking(customerIds, flightId, bookingDate);
+        StringBuilder seats = new StringBuilder();
+        for (Booking booking : flightBookingSystem.bookingsForGroup(groupId)) {
+            seats.append(' ').append(booking.getSeatLabel());
+        }
+        out.println("Group booking #" + groupId + " added, seats:" + seats);
+    }
+
+    /**
+     * Builds the journal record for this command.
+     *
+     * @return The journal record.
+     */
+    @Override
+    public String journalRecord() {
+        return CommandJournal.record("addgroupbooking", flightId, bookingDate,
+                customerIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+    }
+}
@@ -0,0 +1,61 @@
+package bcu.cmp5332.bookingsystem.commands;
+
+import java.io.PrintStream;
+
+import bcu.cmp5332.bookingsystem.data.CommandJournal;
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+/**
+ * The CancelGroupBooking class represents a command to cancel every booking in a group booking.
+ * It implements the Command interface.
+ * 
+ * @author Sujal Manandhar
+ */
+public class CancelGroupBooking implements Command {
+
+    private final int groupId;
+
+    /**
+     * Constructs a CancelGroupBooking command with the specified group ID.
+     *
+     * @param groupId The ID of the group booking to cancel.
+     */
+    public CancelGroupBooking(int groupId) {
+        this.groupId = groupId;
+    }
+
+    /**
+     * Executes the CancelGroupBooking command, printing its messages to the console.
+     *
+     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
+     * @throws FlightBookingSystemException If there is no group booking with the ID.
+     */
+    @Override
+    public void execute(FlightBookingSystem flightBookingSystem) throws FlightBookingSystemException {
+        execute(flightBookingSystem, System.out);
+    }
+
+    /**
+     * Executes the CancelGroupBooking command by cancelling every booking in the group.
+     *
+     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
+     * @param out The stream to print the command's messages to.
+     * @throws FlightBookingSystemException If there is no group booking with the ID.
+     */
+    @Override
+    public void execute(FlightBookingSystem flightBookingSystem, PrintStream out) throws FlightBookingSystemException {
+        int cancelled = flightBookingSystem.cancelGroupBooking(groupId);
+        out.println(cancelled + " booking(s) in group #" + groupId + " cancelled");
+    }
+
+    /**
+     * Builds the journal record for this command.
+     *
+     * @return The journal record.
+     */
+    @Override
+    public String journalRecord() {
+        return CommandJournal.record("cancelgroupbooking", groupId);
+    }
+}
@@ -1,50 +1,83 @@
-package bcu.cmp5332.bookingsystem.commands;
-
-import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
-import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
-
-/**
- * The Command interface defines a contract for executing commands within a flight booking system.
- * Each command represents a specific action that can be performed, such as adding a flight, listing
- * bookings, or canceling a booking. Implementing classes must provide an implementation of the
- * {@link #execute(FlightBookingSystem)} method.
- *
- * <p>The interface also defines a {@link #HELP_MESSAGE} constant that provides a list of available
- * commands and their descriptions.
- *
- * @author Sujal Manandhar
- */
-public interface Command {
-
-    /**
-     * Help message containing descriptions of all available commands.
-     */
-    public static final String HELP_MESSAGE = "Commands:\n"
-            + "\tlistflights                               print all flights\n"
-            + "\tlistbookings                              print all bookings\n"
-            + "\tlistcustomers                             print all customers\n"
-            + "\taddflight                                 add a new flight\n"
-            + "\taddcustomer                               add a new customer\n"
-            + "\tshowflight [flight id]                    show flight details\n"
-            + "\tshowcustomer [customer id]                show customer details\n"
-            + "\tcustomerbookinglist [customer id]         show customer's booking list\n"
-            + "\tdeleteflight [flight id]                  delete flight details\n"
-            + "\tdeletecustomer [customer id]              delete customer details\n"
-            + "\tremainingseats [flight id]                show flight's remaining seats details\n"
-            + "\teditcustomer [customer id]                edit customer details\n"
-            + "\taddbooking [customer id] [flight id]      add a new booking\n"
-            + "\tcancelbooking [customer id] [flight id]   cancel a booking\n"
-            + "\teditbooking [customer id] [flight id]     update a booking\n"
-            + "\tloadgui                                   loads the GUI version of the app\n"
-            + "\thelp                                      prints this help message\n"
-            + "\texit                                      exits the program";
-
-    /**
-     * Executes the command using the provided {@link FlightBookingSystem} instance.
-     *
-     * @param flightBookingSystem The {@link FlightBookingSystem} instance to execute the command on.
-     * @throws FlightBookingSystemException If an error occurs while executing the command.
-     */
-    public void execute(FlightBookingSystem flightBookingSystem) throws FlightBookingSystemException;
-
-}
+package bcu.cmp5332.bookingsystem.commands;
+
+import java.io.PrintStream;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+/**
+ * The Command interface defines a contract for executing commands within a flight booking system.
+ * Each command represents a specific action that can be performed, such as adding a flight, listing
+ * bookings, or canceling a booking. Implementing classes must provide an implementation of the
+ * {@link #execute(FlightBookingSystem)} method.
+ *
+ * <p>The interface also defines a {@link #HELP_MESSAGE} constant that provides a list of available
+ * commands and their descriptions.
+ *
+ * @author Sujal Manandhar
+ */
+public interface Command {
+
+    /**
+     * Help message containing descriptions of all available commands.
+     */
+    public static final String HELP_MESSAGE = "Commands:\n"
+            + "\tlistflights                               print all flights\n"
+            + "\tlistbookings                              print all bookings\n"
+            + "\tlistcustomers                             print all customers\n"
+            + "\taddflight                                 add a new flight\n"
+            + "\taddcustomer                               add a new customer\n"
+            + "\tshowflight [flight id]                    show flight details\n"
+            + "\tshowcustomer [customer id]                show customer details\n"
+            + "\tcustomerbookinglist [customer id]         show customer's booking list\n"
+            + "\tdeleteflight [flight id]                  delete flight details\n"
+            + "\tdeletecustomer [customer id]              delete customer details\n"
+            + "\tremainingseats [flight id]                show flight's remaining seats details\n"
+            + "\teditcustomer [customer id]                edit customer details\n"
+            + "\taddbooking [customer id] [flight id]      add a new booking\n"
+            + "\taddbooking [customer id] [flight id] [seat] add a new booking in a seat such as 12C\n"
+            + "\tcancelbooking [customer id] [flight id]   cancel a booking\n"
+            + "\teditbooking [customer id] [flight id]     update a booking\n"
+            + "\taddgroupbooking [flight id] [id,id,...]   book a party of customers together\n"
+            + "\tcancelgroupbooking [group id]             cancel every booking in a group\n"
+            + "\tfindflight [flight number] [date]         find a flight by number and departure date\n"
+            + "\tcompact                                   archive deleted and departed flights\n"
+            + "\twaitlist                                  show how many customers wait for each flight\n"
+            + "\treport                                    show revenue, seats sold and load factor\n"
+            + "\tloadgui                                   loads the GUI version of the app\n"
+            + "\thelp                                      prints this help message\n"
+            + "\texit                                      exits the program";
+
+    /**
+     * Executes the command using the provided {@link FlightBookingSystem} instance.
+     *
+     * @param flightBookingSystem The {@link FlightBookingSystem} instance to execute the command on.
+     * @throws FlightBookingSystemException If an error occurs while executing the command.
+     */
+    public void execute(FlightBookingSystem flightBookingSystem) throws FlightBookingSystemException;
+
+    /**
+     * Executes the command, printing its messages to the given stream rather than the console,
+     * so the command journal can replay commands quietly without touching System.out. Commands
+     * that are journaled override this method; the others print to the console as usual.
+     *
+     * @param flightBookingSystem The {@link FlightBookingSystem} instance to execute the command on.
+     * @param out The stream to print the command's messages to.
+     * @throws FlightBookingSystemException If an error occurs while executing the command.
+     */
+    public default void execute(FlightBookingSystem flightBookingSystem, PrintStream out) throws FlightBookingSystemException {
+        execute(flightBookingSystem);
+    }
+
+    /**
+     * Builds the record written to the command journal before the command is applied, from which
+     * the command can be rebuilt and applied again on restart. Commands that do not change the
+     * system return null and are not journaled.
+     *
+     * @return The journal record, or null if the command does not change the system.
+     */
+    public default String journalRecord() {
+        return null;
+    }
+
+}
@@ -0,0 +1,51 @@
+package bcu.cmp5332.bookingsystem.commands;
+
+import java.io.PrintStream;
+
+import bcu.cmp5332.bookingsystem.data.CommandJournal;
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+/**
+ * The CompactFlights class represents a command to move deleted and departed flights, with their
+ * bookings, out of the flight booking system and into the flight archive.
+ * It implements the Command interface.
+ * 
+ * @author Sujal Manandhar
+ */
+public class CompactFlights implements Command {
+
+    /**
+     * Executes the CompactFlights command, printing its messages to the console.
+     *
+     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
+     * @throws FlightBookingSystemException If the flights cannot be archived.
+     */
+    @Override
+    public void execute(FlightBookingSystem flightBookingSystem) throws FlightBookingSystemException {
+        execute(flightBookingSystem, System.out);
+    }
+
+    /**
+     * Executes the CompactFlights command by archiving every deleted or departed flight.
+     *
+     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
+     * @param out The stream to print the command's messages to.
+     * @throws FlightBookingSystemException If the flights cannot be archived.
+     */
+    @Override
+    public void execute(FlightBookingSystem flightBookingSystem, PrintStream out) throws FlightBookingSystemException {
+        int archived = flightBookingSystem.compactFlights();
+        out.println(archived + " flight(s) archived");
+    }
+
+    /**
+     * Builds the journal record for this command.
+     *
+     * @return The journal record.
+     */
+    @Override
+    public String journalRecord() {
+        return CommandJournal.record("compact");
+    }
+}
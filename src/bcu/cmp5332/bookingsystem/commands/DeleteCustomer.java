@@ -1,36 +1,61 @@
-package bcu.cmp5332.bookingsystem.commands;
-
-import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
-import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
-
-/**
- * The DeleteCustomer class represents a command to delete a customer from the flight booking system.
- * It implements the Command interface.
- * 
- * @author Sujal Manandhar
- */
-public class DeleteCustomer implements Command {
-
-    private final int id;
-
-    /**
-     * Constructs a DeleteCustomer command with the specified customer ID.
-     *
-     * @param id The ID of the customer to be deleted.
-     */
-    public DeleteCustomer(int id) {
-        this.id = id;
-    }
-
-    /**
-     * Executes the DeleteCustomer command by deleting the customer with the specified ID from the flight booking system.
-     *
-     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
-     * @throws FlightBookingSystemException If an error occurs while deleting the customer.
-     */
-    @Override
-    public void execute(FlightBookingSystem flightBookingSystem) throws FlightBookingSystemException {
-        flightBookingSystem.deleteCustomer(id);
-        System.out.println("Customer detail Deleted successfully");
-    }
-}
+package bcu.cmp5332.bookingsystem.commands;
+
+import java.io.PrintStream;
+
+import bcu.cmp5332.bookingsystem.data.CommandJournal;
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+/**
+ * The DeleteCustomer class represents a command to delete a customer from the flight booking system.
+ * It implements the Command interface.
+ * 
+ * @author Sujal Manandhar
+ */
+public class DeleteCustomer implements Command {
+
+    private final int id;
+
+    /**
+     * Constructs a DeleteCustomer command with the specified customer ID.
+     *
+     * @param id The ID of the customer to be deleted.
+     */
+    public DeleteCustomer(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Executes the DeleteCustomer command, printing its messages to the console.
+     *
+     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
+     * @throws FlightBookingSystemException If an error occurs while deleting the customer.
+     */
+    @Override
+    public void execute(FlightBookingSystem flightBookingSystem) throws FlightBookingSystemException {
+        execute(flightBookingSystem, System.out);
+    }
+
+    /**
+     * Executes the DeleteCustomer command by deleting the customer with the specified ID from the flight booking system.
+     *
+     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
+     * @param out The stream to print the command's messages to.
+     * @throws FlightBookingSystemException If an error occurs while deleting the customer.
+     */
+    @Override
+    public void execute(FlightBookingSystem flightBookingSystem, PrintStream out) throws FlightBookingSystemException {
+        flightBookingSystem.deleteCustomer(id);
+        out.println("Customer detail Deleted successfully");
+    }
+
+    /**
+     * Builds the journal record for this command.
+     *
+     * @return The journal record.
+     */
+    @Override
+    public String journalRecord() {
+        return CommandJournal.record("deletecustomer", id);
+    }
+}
@@ -1,36 +1,61 @@
-package bcu.cmp5332.bookingsystem.commands;
-
-import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
-import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
-
-/**
- * The DeleteFlight class represents a command to delete a flight from the flight booking system.
- * It implements the Command interface.
- * 
- * @author Sujal Manandhar
- */
-public class DeleteFlight implements Command {
-
-    private final int id;
-
-    /**
-     * Constructs a DeleteFlight command with the specified flight ID.
-     *
-     * @param id The ID of the flight to be deleted.
-     */
-    public DeleteFlight(int id) {
-        this.id = id;
-    }
-
-    /**
-     * Executes the DeleteFlight command by deleting the flight with the specified ID from the flight booking system.
-     *
-     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
-     * @throws FlightBookingSystemException If an error occurs while deleting the flight.
-     */
-    @Override
-    public void execute(FlightBookingSystem flightBookingSystem) throws FlightBookingSystemException {
-        flightBookingSystem.deleteFlight(id);
-        System.out.println("Flight details Deleted successfully");
-    }
-}
+package bcu.cmp5332.bookingsystem.commands;
+
+import java.io.PrintStream;
+
+import bcu.cmp5332.bookingsystem.data.CommandJournal;
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+/**
+ * The DeleteFlight class represents a command to delete a flight from the flight booking system.
+ * It implements the Command interface.
+ * 
+ * @author Sujal Manandhar
+ */
+public class DeleteFlight implements Command {
+
+    private final int id;
+
+    /**
+     * Constructs a DeleteFlight command with the specified flight ID.
+     *
+     * @param id The ID of the flight to be deleted.
+     */
+    public DeleteFlight(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Executes the DeleteFlight command, printing its messages to the console.
+     *
+     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
+     * @throws FlightBookingSystemException If an error occurs while deleting the flight.
+     */
+    @Override
+    public void execute(FlightBookingSystem flightBookingSystem) throws FlightBookingSystemException {
+        execute(flightBookingSystem, System.out);
+    }
+
+    /**
+     * Executes the DeleteFlight command by deleting the flight with the specified ID from the flight booking system.
+     *
+     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
+     * @param out The stream to print the command's messages to.
+     * @throws FlightBookingSystemException If an error occurs while deleting the flight.
+     */
+    @Override
+    public void execute(FlightBookingSystem flightBookingSystem, PrintStream out) throws FlightBookingSystemException {
+        flightBookingSystem.deleteFlight(id);
+        out.println("Flight details Deleted successfully");
+    }
+
+    /**
+     * Builds the journal record for this command.
+     *
+     * @return The journal record.
+     */
+    @Override
+    public String journalRecord() {
+        return CommandJournal.record("deleteflight", id);
+    }
+}
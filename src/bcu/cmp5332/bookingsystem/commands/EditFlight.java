@@ -1,42 +1,67 @@
-package bcu.cmp5332.bookingsystem.commands;
-
-import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
-import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
-
-/**
- * The EditFlight class represents a command to edit an existing flight's information in the flight booking system.
- * It implements the Command interface.
- * 
- * @author Sujal Manandhar
- */
-public class EditFlight implements Command {
-
-    private final int id;
-    private final int numOfSeats;
-    private final int price;
-
-    /**
-     * Constructs an EditFlight command with the specified parameters.
-     *
-     * @param id The ID of the flight to be edited.
-     * @param numOfSeats The new number of seats for the flight.
-     * @param price The new price for the flight.
-     */
-    public EditFlight(int id, int numOfSeats, int price) {
-        this.id = id;
-        this.numOfSeats = numOfSeats;
-        this.price = price;
-    }
-
-    /**
-     * Executes the EditFlight command by updating the flight's information in the flight booking system.
-     *
-     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
-     * @throws FlightBookingSystemException If an error occurs while updating the flight information.
-     */
-    @Override
-    public void execute(FlightBookingSystem flightBookingSystem) throws FlightBookingSystemException {
-        flightBookingSystem.updateFlight(id, numOfSeats, price);
-        System.out.println("Flight info updated successfully..");
-    }
-}
+package bcu.cmp5332.bookingsystem.commands;
+
+import java.io.PrintStream;
+
+import bcu.cmp5332.bookingsystem.data.CommandJournal;
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+/**
+ * The EditFlight class represents a command to edit an existing flight's information in the flight booking system.
+ * It implements the Command interface.
+ * 
+ * @author Sujal Manandhar
+ */
+public class EditFlight implements Command {
+
+    private final int id;
+    private final int numOfSeats;
+    private final int price;
+
+    /**
+     * Constructs an EditFlight command with the specified parameters.
+     *
+     * @param id The ID of the flight to be edited.
+     * @param numOfSeats The new number of seats for the flight.
+     * @param price The new price for the flight.
+     */
+    public EditFlight(int id, int numOfSeats, int price) {
+        this.id = id;
+        this.numOfSeats = numOfSeats;
+        this.price = price;
+    }
+
+    /**
+     * Executes the EditFlight command, printing its messages to the console.
+     *
+     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
+     * @throws FlightBookingSystemException If an error occurs while updating the flight information.
+     */
+    @Override
+    public void execute(FlightBookingSystem flightBookingSystem) throws FlightBookingSystemException {
+        execute(flightBookingSystem, System.out);
+    }
+
+    /**
+     * Executes the EditFlight command by updating the flight's information in the flight booking system.
+     *
+     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
+     * @param out The stream to print the command's messages to.
+     * @throws FlightBookingSystemException If an error occurs while updating the flight information.
+     */
+    @Override
+    public void execute(FlightBookingSystem flightBookingSystem, PrintStream out) throws FlightBookingSystemException {
+        flightBookingSystem.updateFlight(id, numOfSeats, price);
+        out.println("Flight info updated successfully..");
+    }
+
+    /**
+     * Builds the journal record for this command.
+     *
+     * @return The journal record.
+     */
+    @Override
+    public String journalRecord() {
+        return CommandJournal.record("editflight", id, numOfSeats, price);
+    }
+}
@@ -0,0 +1,42 @@
+package bcu.cmp5332.bookingsystem.commands;
+
+import java.time.LocalDate;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+/**
+ * The FindFlight class represents a command to look up a flight by its flight number
+ * and departure date. It implements the Command interface.
+ * 
+ * @author Sujal Manandhar
+ */
+public class FindFlight implements Command {
+
+    private final String flightNumber;
+    private final LocalDate departureDate;
+
+    /**
+     * Constructs a FindFlight command with the specified flight number and departure date.
+     *
+     * @param flightNumber  The flight number to look up.
+     * @param departureDate The departure date of the flight.
+     */
+    public FindFlight(String flightNumber, LocalDate departureDate) {
+        this.flightNumber = flightNumber;
+        this.departureDate = departureDate;
+    }
+
+    /**
+     * Executes the FindFlight command by printing the short details of the matching flight.
+     *
+     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
+     * @throws FlightBookingSystemException If no flight matches the number and departure date.
+     */
+    @Override
+    public void execute(FlightBookingSystem flightBookingSystem) throws FlightBookingSystemException {
+        Flight flight = flightBookingSystem.findFlight(flightNumber, departureDate);
+        System.out.println(flight.getDetailsShort());
+    }
+}
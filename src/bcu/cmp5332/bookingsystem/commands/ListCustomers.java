@@ -1,31 +1,31 @@
-package bcu.cmp5332.bookingsystem.commands;
-
-import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
-import bcu.cmp5332.bookingsystem.model.Customer;
-import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
-
-import java.util.List;
-
-/**
- * The ListCustomers class represents a command to list all customers in the flight booking system.
- * It implements the Command interface.
- * 
- * @author Sujal Manandhar
- */
-public class ListCustomers implements Command {
-
-    /**
-     * Executes the ListCustomers command by retrieving and printing all customers in the flight booking system.
-     *
-     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
-     * @throws FlightBookingSystemException If an error occurs while retrieving customers.
-     */
-    @Override
-    public void execute(FlightBookingSystem flightBookingSystem) throws FlightBookingSystemException {
-        List<Customer> customers = flightBookingSystem.getCustomers();
-        for (Customer customer : customers) {
-            System.out.println(customer.getDetailsShort());
-        }
-        System.out.println(customers.size() + " customer(s)");
-    }
-}
+package bcu.cmp5332.bookingsystem.commands;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+import java.util.List;
+
+/**
+ * The ListCustomers class represents a command to list all customers in the flight booking system.
+ * It implements the Command interface.
+ * 
+ * @author Sujal Manandhar
+ */
+public class ListCustomers implements Command {
+
+    /**
+     * Executes the ListCustomers command by retrieving and printing all customers in the flight booking system.
+     *
+     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
+     * @throws FlightBookingSystemException If an error occurs while retrieving customers.
+     */
+    @Override
+    public void execute(FlightBookingSystem flightBookingSystem) throws FlightBookingSystemException {
+        List<Customer> customers = flightBookingSystem.snapshot().getCustomers();
+        for (Customer customer : customers) {
+            System.out.println(customer.getDetailsShort());
+        }
+        System.out.println(customers.size() + " customer(s)");
+    }
+}
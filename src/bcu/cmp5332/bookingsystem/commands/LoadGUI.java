@@ -1,14 +1,14 @@
-package bcu.cmp5332.bookingsystem.commands;
-
-import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
-import bcu.cmp5332.bookingsystem.gui.MainWindow;
-import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
-
-public class LoadGUI implements Command {
-
-    @Override
-    public void execute(FlightBookingSystem flightBookingSystem) throws FlightBookingSystemException {
-        new MainWindow(flightBookingSystem);
-    }
-    
-};
+package bcu.cmp5332.bookingsystem.commands;
+
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+import bcu.cmp5332.bookingsystem.gui.MainWindow;
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+
+public class LoadGUI implements Command {
+
+    @Override
+    public void execute(FlightBookingSystem flightBookingSystem) throws FlightBookingSystemException {
+        new MainWindow(flightBookingSystem);
+    }
+    
+};
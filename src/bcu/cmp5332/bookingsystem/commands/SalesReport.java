@@ -0,0 +1,39 @@
+package bcu.cmp5332.bookingsystem.commands;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+import bcu.cmp5332.bookingsystem.model.SalesFigures;
+
+/**
+ * The SalesReport class represents a command to show the revenue, seats sold and load factor of
+ * each active flight, each route and each departure date. It implements the Command interface.
+ * 
+ * @author Sujal Manandhar
+ */
+public class SalesReport implements Command {
+
+    /**
+     * Executes the SalesReport command by printing the running sales figures kept by the system.
+     *
+     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
+     * @throws FlightBookingSystemException If an error occurs while reading the figures.
+     */
+    @Override
+    public void execute(FlightBookingSystem flightBookingSystem) throws FlightBookingSystemException {
+        System.out.println("By flight:");
+        for (Map.Entry<Integer, SalesFigures> sales : flightBookingSystem.getSalesByFlight().entrySet()) {
+            System.out.println("  Flight #" + sales.getKey() + " - " + sales.getValue());
+        }
+        System.out.println("By route:");
+        for (Map.Entry<String, SalesFigures> sales : flightBookingSystem.getSalesByRoute().entrySet()) {
+            System.out.println("  " + sales.getKey() + " - " + sales.getValue());
+        }
+        System.out.println("By departure date:");
+        for (Map.Entry<LocalDate, SalesFigures> sales : flightBookingSystem.getSalesByDate().entrySet()) {
+            System.out.println("  " + sales.getKey() + " - " + sales.getValue());
+        }
+    }
+}
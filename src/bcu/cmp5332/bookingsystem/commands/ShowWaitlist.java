@@ -0,0 +1,30 @@
+package bcu.cmp5332.bookingsystem.commands;
+
+import java.util.Map;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+/**
+ * The ShowWaitlist class represents a command to show how many customers are waiting for a seat
+ * on each fully booked flight. It implements the Command interface.
+ * 
+ * @author Sujal Manandhar
+ */
+public class ShowWaitlist implements Command {
+
+    /**
+     * Executes the ShowWaitlist command by printing the waitlist depth of each flight that has one.
+     *
+     * @param flightBookingSystem The FlightBookingSystem instance to execute the command on.
+     * @throws FlightBookingSystemException If an error occurs while reading the waitlists.
+     */
+    @Override
+    public void execute(FlightBookingSystem flightBookingSystem) throws FlightBookingSystemException {
+        Map<Integer, Integer> depths = flightBookingSystem.getWaitlistDepths();
+        for (Map.Entry<Integer, Integer> depth : depths.entrySet()) {
+            System.out.println("Flight #" + depth.getKey() + " - " + depth.getValue() + " customer(s) waiting");
+        }
+        System.out.println(depths.size() + " flight(s) with a waitlist");
+    }
+}
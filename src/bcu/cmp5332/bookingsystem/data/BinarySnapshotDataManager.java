@@ -0,0 +1,323 @@
+package bcu.cmp5332.bookingsystem.data;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Booking;
+import bcu.cmp5332.bookingsystem.model.ChangeTracker;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+import bcu.cmp5332.bookingsystem.model.SeatMap;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * Loads and stores flights, customers and bookings as one binary snapshot file, an alternative
+ * to the three text files for large datasets. The file is laid out as:
+ *
+ * <pre>
+ * magic      int    "FBSS"
+ * version    short
+ * strings    int count, then per string: short length, UTF-8 bytes
+ * flights    int count, then per flight (30 bytes):
+ *            id, flightNumber, origin, destination, departureDate, numberOfSeats, price (ints), deleted,
+ *            seatColumns (bytes)
+ * customers  int count, then per customer (16 bytes): id, name, phone, email (ints)
+ * bookings   int count, then per booking (24 bytes): id, customerId, flightId, bookingDate, seat, groupId (ints)
+ * checksum   int    CRC32 of every byte before it
+ * </pre>
+ *
+ * Every string is stored once in the dictionary at the front and referred to by its index, so
+ * airports and flight numbers shared by many flights cost four bytes each, and every record is
+ * fixed width. Dates are stored as epoch days. Loading reads the whole file in one sequential
+ * read, checks the checksum and decodes the records straight from the buffer.
+ *
+ * The file is written to a temporary file and moved into place, and the directory is synced, so a
+ * crash while saving leaves either the previous snapshot or the new one. When there is no snapshot
+ * yet, the text files are loaded instead and the next save writes the first snapshot. A save is
+ * skipped when no flight, customer or booking has changed since the snapshot was written.
+ *
+ * @author Sujal Manandhar
+ */
+public class BinarySnapshotDataManager implements DataManager {
+
+    public final String RESOURCE = "resources/data/snapshot.bin";
+
+    private static final int MAGIC = 0x46425353; // "FBSS"
+    private static final short VERSION = 2;
+    private static final short VERSION_WITHOUT_COLUMNS = 1; // Flights had no seatColumns byte
+    private static final int FLIGHT_BYTES = 7 * Integer.BYTES + 2;
+    private static final int CUSTOMER_BYTES = 4 * Integer.BYTES;
+    private static final int BOOKING_BYTES = 6 * Integer.BYTES;
+    private static final int NO_STRING = -1; // Dictionary index written for a null string
+    private static final ChangeTracker.Kind[] SNAPSHOT_KINDS = {
+        ChangeTracker.Kind.FLIGHTS, ChangeTracker.Kind.CUSTOMERS, ChangeTracker.Kind.BOOKINGS
+    };
+
+    @Override
+    public void loadData(FlightBookingSystem fbs) throws IOException, FlightBookingSystemException {
+        Path path = Paths.get(RESOURCE);
+        if (!Files.exists(path)) {
+            // First start with binary storage: read the text files, the next save writes the snapshot
+            new FlightDataManager().loadData(fbs);
+            new CustomerDataManager().loadData(fbs);
+            new BookingDataManager().loadData(fbs);
+            return;
+        }
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new FlightBookingSystemException("Snapshot file " + RESOURCE + " is too large to load.");
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Read the whole file in as few reads as the channel allows
+            }
+            buffer.flip();
+        }
+        if (buffer.remaining() < Integer.BYTES * 2 + Short.BYTES) {
+            throw new FlightBookingSystemException("Snapshot file " + RESOURCE + " is truncated.");
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.limit() - Integer.BYTES);
+        if ((int) crc.getValue() != buffer.getInt(buffer.limit() - Integer.BYTES)) {
+            throw new FlightBookingSystemException("Snapshot file " + RESOURCE + " is corrupt: checksum mismatch.");
+        }
+        if (buffer.getInt() != MAGIC) {
+            throw new FlightBookingSystemException("File " + RESOURCE + " is not a flight booking snapshot.");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION && version != VERSION_WITHOUT_COLUMNS) {
+            throw new FlightBookingSystemException("Unsupported snapshot version " + version + " in " + RESOURCE + ".");
+        }
+
+        try {
+            String[] strings = new String[buffer.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                int length = Short.toUnsignedInt(buffer.getShort());
+                strings[i] = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+            }
+
+            int flightCount = buffer.getInt();
+            for (int i = 0; i < flightCount; i++) {
+                int id = buffer.getInt();
+                String flightNumber = string(strings, buffer.getInt());
+                String origin = string(strings, buffer.getInt());
+                String destination = string(strings, buffer.getInt());
+                LocalDate departureDate = LocalDate.ofEpochDay(buffer.getInt());
+                int numberOfSeats = buffer.getInt();
+                int price = buffer.getInt();
+                boolean deleted = buffer.get() != 0;
+                int seatColumns = version == VERSION ? buffer.get() : SeatMap.DEFAULT_COLUMNS;
+                Flight flight = new Flight(id, flightNumber, origin, destination, departureDate, numberOfSeats, price, seatColumns);
+                flight.setDeleted(deleted);
+                fbs.addFlight(flight);
+            }
+
+            int customerCount = buffer.getInt();
+            for (int i = 0; i < customerCount; i++) {
+                fbs.addCustomer(new Customer(buffer.getInt(), string(strings, buffer.getInt()), string(strings, buffer.getInt()),
+                        string(strings, buffer.getInt()), new ArrayList<>()));
+            }
+
+            int bookingCount = buffer.getInt();
+            for (int i = 0; i < bookingCount; i++) {
+                int id = buffer.getInt();
+                Customer customer = fbs.getCustomerByID(buffer.getInt());
+                Flight flight = fbs.getFlightByID(buffer.getInt());
+                Booking booking = new Booking(customer, flight, LocalDate.ofEpochDay(buffer.getInt()));
+                booking.setId(id);
+                booking.setSeat(buffer.getInt());
+                booking.setGroupId(buffer.getInt());
+                fbs.addBooking(booking);
+            }
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException ex) {
+            throw new FlightBookingSystemException("Snapshot file " + RESOURCE + " is malformed.\nError: " + ex);
+        }
+    }
+
+    @Override
+    public void storeData(FlightBookingSystem fbs) throws IOException {
+        ChangeTracker changes = fbs.getChanges();
+        Map<ChangeTracker.Kind, Set<Integer>> changed = new EnumMap<>(ChangeTracker.Kind.class);
+        for (ChangeTracker.Kind kind : SNAPSHOT_KINDS) {
+            Set<Integer> ids = changes.take(kind);
+            if (ids != null) {
+                changed.put(kind, ids);
+            }
+        }
+        if (changed.isEmpty() && Files.exists(Paths.get(RESOURCE))) {
+            return; // Nothing in the snapshot has changed since it was written
+        }
+        try {
+            writeSnapshot(fbs);
+        } catch (IOException | RuntimeException ex) {
+            for (Map.Entry<ChangeTracker.Kind, Set<Integer>> entry : changed.entrySet()) {
+                changes.restore(entry.getKey(), entry.getValue()); // Save them next time
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Writes every flight, customer and booking to a new snapshot file.
+     *
+     * @param fbs The flight booking system.
+     * @throws IOException If the file cannot be written.
+     */
+    private void writeSnapshot(FlightBookingSystem fbs) throws IOException {
+        List<Customer> customers = fbs.getCustomers();
+        List<Booking> bookings = fbs.getBookingsToStore(); // A copy, after the customers, so each booking's customer is among them
+        List<Flight> flights = new ArrayList<>(fbs.getFlights());
+        Set<Integer> deletedFlightIds = new HashSet<>();
+        for (Booking booking : bookings) {
+            Flight flight = booking.getFlight();
+            if (flight.getDeleted() && deletedFlightIds.add(flight.getId())) {
+                flights.add(flight); // Keep deleted flights that still have bookings
+            }
+        }
+
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        long stringBytes = 0;
+        List<byte[]> encoded = new ArrayList<>();
+        for (Flight flight : flights) {
+            stringBytes += intern(dictionary, encoded, flight.getFlightNumber());
+            stringBytes += intern(dictionary, encoded, flight.getOrigin());
+            stringBytes += intern(dictionary, encoded, flight.getDestination());
+        }
+        for (Customer customer : customers) {
+            stringBytes += intern(dictionary, encoded, customer.getName());
+            stringBytes += intern(dictionary, encoded, customer.getPhone());
+            stringBytes += intern(dictionary, encoded, customer.getEmail());
+        }
+
+        long size = Integer.BYTES + Short.BYTES
+                + Integer.BYTES + (long) encoded.size() * Short.BYTES + stringBytes
+                + Integer.BYTES + (long) flights.size() * FLIGHT_BYTES
+                + Integer.BYTES + (long) customers.size() * CUSTOMER_BYTES
+                + Integer.BYTES + (long) bookings.size() * BOOKING_BYTES
+                + Integer.BYTES;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Too much data for one snapshot file.");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        buffer.putInt(MAGIC).putShort(VERSION);
+
+        buffer.putInt(encoded.size());
+        for (byte[] bytes : encoded) {
+            buffer.putShort((short) bytes.length).put(bytes);
+        }
+
+        buffer.putInt(flights.size());
+        for (Flight flight : flights) {
+            buffer.putInt(flight.getId())
+                  .putInt(index(dictionary, flight.getFlightNumber()))
+                  .putInt(index(dictionary, flight.getOrigin()))
+                  .putInt(index(dictionary, flight.getDestination()))
+                  .putInt((int) flight.getDepartureDate().toEpochDay())
+                  .putInt(flight.getNumberOfSeats())
+                  .putInt(flight.getPrice())
+                  .put((byte) (flight.getDeleted() ? 1 : 0))
+                  .put((byte) flight.getSeatColumns());
+        }
+
+        buffer.putInt(customers.size());
+        for (Customer customer : customers) {
+            buffer.putInt(customer.getId())
+                  .putInt(index(dictionary, customer.getName()))
+                  .putInt(index(dictionary, customer.getPhone()))
+                  .putInt(index(dictionary, customer.getEmail()));
+        }
+
+        buffer.putInt(bookings.size()); // The buffer was sized from this same list
+        for (Booking booking : bookings) {
+            buffer.putInt(booking.getId())
+                  .putInt(booking.getCustomer().getId())
+                  .putInt(booking.getFlight().getId())
+                  .putInt((int) booking.getBookingDate().toEpochDay())
+                  .putInt(booking.getSeat())
+                  .putInt(booking.getGroupId());
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+
+        Path path = Paths.get(RESOURCE);
+        Path temp = Paths.get(RESOURCE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        RecordWriter.syncDirectory(path);
+    }
+
+    /**
+     * Adds a string to the dictionary if it is not already there.
+     *
+     * @param dictionary The dictionary, string to index.
+     * @param encoded The UTF-8 bytes of each dictionary string, in index order.
+     * @param value The string to add.
+     * @return The number of bytes the string adds to the dictionary, 0 if it was already there.
+     * @throws IOException If the string is too long to store.
+     */
+    private static int intern(Map<String, Integer> dictionary, List<byte[]> encoded, String value) throws IOException {
+        if (value == null || dictionary.containsKey(value)) {
+            return 0;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IOException("String too long for a snapshot: " + value.substring(0, 20) + "...");
+        }
+        dictionary.put(value, encoded.size());
+        encoded.add(bytes);
+        return bytes.length;
+    }
+
+    /**
+     * Looks up the dictionary index of a string.
+     *
+     * @param dictionary The dictionary, string to index.
+     * @param value The string.
+     * @return The index, or NO_STRING for null.
+     */
+    private static int index(Map<String, Integer> dictionary, String value) {
+        return value == null ? NO_STRING : dictionary.get(value);
+    }
+
+    /**
+     * Looks up a string by its dictionary index.
+     *
+     * @param strings The dictionary.
+     * @param index The index.
+     * @return The string, or null for NO_STRING.
+     */
+    private static String string(String[] strings, int index) {
+        return index == NO_STRING ? null : strings[index];
+    }}
@@ -1,89 +1,179 @@
-package bcu.cmp5332.bookingsystem.data;
-
-import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
-import bcu.cmp5332.bookingsystem.model.Booking;
-import bcu.cmp5332.bookingsystem.model.Customer;
-import bcu.cmp5332.bookingsystem.model.Flight;
-import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
-
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.io.PrintWriter;
-import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Scanner;
-
-public class BookingDataManager implements DataManager {
-    
-    public final String RESOURCE = "resources/data/bookings.txt";
-
-    @Override
-    public void loadData(FlightBookingSystem fbs) throws IOException, FlightBookingSystemException {
-        // TODO: implementation here
-    	try (Scanner sc = new Scanner(new File(RESOURCE))) {
-            int line_idx = 1;
-            while (sc.hasNextLine()) {
-                String line = sc.nextLine();
-                String[] properties = line.split(SEPARATOR, -1);
-                try {
-                	int id = Integer.parseInt(properties[0]);
-                    String name = properties[1];
-                    String phone = properties[2];
-                    String email = properties[3];
-                    List<Booking> bookings = new ArrayList<>();
-                    Customer customer= new Customer(id, name, phone, email, bookings); 
-                    
-                    int flightId = Integer.parseInt(properties[4]);
-                    String flightNumber = properties[5];
-                    String origin = properties[6];
-                    String destination = properties[7];
-                    LocalDate departureDate = LocalDate.parse(properties[8]);
-                    int numberOfSeats = Integer.parseInt(properties[9]);
-                    int price = Integer.parseInt(properties[10]);
-                    Flight flight = new Flight(flightId, flightNumber, origin, destination, departureDate, numberOfSeats, price);
-                    
-                    LocalDate bookingDate = LocalDate.parse(properties[11]);
-                    
-                    Booking booking = new Booking(customer, flight, bookingDate);
-                    fbs.addBooking(booking);
-                    
-                } catch (NumberFormatException ex) {
-                    throw new FlightBookingSystemException("Unable to parse book id " + properties[0] + " on line " + line_idx
-                        + "\nError: " + ex);
-                }
-                line_idx++;
-            }
-        }
-    	
-    }
-
-    @Override
-    public void storeData(FlightBookingSystem fbs) throws IOException {
-        try (PrintWriter out = new PrintWriter(new FileWriter(RESOURCE))) {
-           
-            for (Booking booking : fbs.getBookings()) {
-                Customer customer = booking.getCustomer();
-                out.print(customer.getId() + SEPARATOR);
-                out.print(customer.getName() + SEPARATOR);
-                out.print(customer.getPhone() + SEPARATOR);
-                out.print(customer.getEmail() + SEPARATOR);
-                
-                Flight flight = booking.getFlight();
-                out.print(flight.getId() + SEPARATOR);
-                out.print(flight.getFlightNumber() + SEPARATOR);
-                out.print(flight.getOrigin() + SEPARATOR);
-                out.print(flight.getDestination() + SEPARATOR);
-                out.print(flight.getDepartureDate() + SEPARATOR);
-                out.print(flight.getNumberOfSeats() + SEPARATOR);
-                out.print(flight.getPrice() + SEPARATOR);
-
-                out.print(booking.getBookingDate() + SEPARATOR);
-                out.println();
-            }
-        } 
-    }
-}
-    
-
+package bcu.cmp5332.bookingsystem.data;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Booking;
+import bcu.cmp5332.bookingsystem.model.ChangeTracker;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+
+/**
+ * Loads and stores the bookings. Each line is one booking, referring to its customer and flight
+ * by ID:
+ *
+ * <pre>
+ * customerId::flightId::bookingDate::[seat::[groupId::]]
+ * </pre>
+ *
+ * Files written before this format repeated every customer and flight column on each booking:
+ *
+ * <pre>
+ * customerId::name::phone::email::flightId::flightNumber::origin::destination::departureDate::numberOfSeats::price::bookingDate::[seat::[groupId::]]
+ * </pre>
+ *
+ * Lines in that format are recognised by their number of fields and still load, so an old file
+ * is migrated by loading it and saving once: a file with any such line is rewritten on the next
+ * save even if no booking has changed.
+ *
+ * @author Sujal Manandhar
+ */
+public class BookingDataManager implements DataManager {
+    
+    public final String RESOURCE = "resources/data/bookings.txt";
+
+    private final RecordBuffer buffer = new RecordBuffer(); // Lent to the writer of every save
+
+    private static final int LEGACY_FIELDS = 12; // Fewest fields on a line in the old format
+
+    private final boolean mapped; // Read the file through a memory mapping rather than a stream
+    private volatile boolean legacy; // The file loaded has lines in the old format
+
+    public BookingDataManager() {
+        this(false);
+    }
+
+    public BookingDataManager(boolean mapped) {
+        this.mapped = mapped;
+    }
+
+    @Override
+    public void loadData(FlightBookingSystem fbs) throws IOException, FlightBookingSystemException {
+        try (RecordReader in = RecordReader.open(Paths.get(RESOURCE), mapped)) {
+            while (in.nextRecord()) {
+                BookingRecord record = BookingRecord.parse(in);
+                if (record.legacy) {
+                    legacy = true;
+                }
+                fbs.addBooking(record.link(fbs));
+            }
+        }
+    }
+
+    // records that the file loaded has lines in the old format, so the next save rewrites it
+    void markLegacy() {
+        legacy = true;
+    }
+
+    /**
+     * A booking line parsed from the file but not yet linked to its customer and flight, so
+     * lines can be parsed before the customers and flights are loaded.
+     */
+    static final class BookingRecord {
+        private final int customerId;
+        private final int flightId;
+        private final LocalDate bookingDate;
+        private final String seat; // Seat label, null if no seat was assigned
+        private final int groupId; // 0 if the booking is not part of a group
+        final boolean legacy; // True if the line is in the old format
+
+        private BookingRecord(int customerId, int flightId, LocalDate bookingDate, String seat, int groupId,
+                boolean legacy) {
+            this.customerId = customerId;
+            this.flightId = flightId;
+            this.bookingDate = bookingDate;
+            this.seat = seat;
+            this.groupId = groupId;
+            this.legacy = legacy;
+        }
+
+        // parses the booking on the reader's current line
+        static BookingRecord parse(RecordReader in) throws FlightBookingSystemException {
+            try {
+                boolean legacy = in.remainingFields() >= LEGACY_FIELDS;
+                int customerId = in.nextInt();
+                if (legacy) {
+                    in.skipField(); // name
+                    in.skipField(); // phone
+                    in.skipField(); // email
+                }
+                int flightId = in.nextInt();
+                if (legacy) {
+                    for (int i = 0; i < 6; i++) {
+                        in.skipField(); // flightNumber, origin, destination, departureDate, numberOfSeats, price
+                    }
+                }
+                LocalDate bookingDate = in.nextDate();
+                String seat = null;
+                int groupId = 0;
+                if (in.hasField() && !in.isFieldEmpty()) { // Seat column is optional
+                    seat = in.nextString();
+                    if (in.hasField() && !in.isFieldEmpty()) { // Group column follows the seat
+                        groupId = in.nextInt();
+                    }
+                }
+                return new BookingRecord(customerId, flightId, bookingDate, seat, groupId, legacy);
+            } catch (NumberFormatException | DateTimeParseException ex) {
+                throw new FlightBookingSystemException("Unable to parse booking on line " + in.lineNumber()
+                    + "\nError: " + ex);
+            }
+        }
+
+        // builds the booking against the customer and flight already loaded with its IDs
+        Booking link(FlightBookingSystem fbs) throws FlightBookingSystemException {
+            Flight flight = fbs.getFlightByID(flightId);
+            Booking booking = new Booking(fbs.getCustomerByID(customerId), flight, bookingDate);
+            if (seat != null) {
+                try {
+                    booking.setSeat(flight.getSeatMap().parse(seat));
+                } catch (IllegalArgumentException ex) {
+                    throw new FlightBookingSystemException("Unable to parse seat " + seat + " of customer " + customerId
+                        + " on flight " + flightId + "\nError: " + ex.getMessage());
+                }
+            }
+            booking.setGroupId(groupId);
+            return booking;
+        }
+    }
+
+    @Override
+    public synchronized void storeData(FlightBookingSystem fbs) throws IOException {
+        Path path = Paths.get(RESOURCE);
+        Set<Integer> changed = fbs.getChanges().take(ChangeTracker.Kind.BOOKINGS);
+        if (changed == null && !legacy && Files.exists(path)) {
+            return; // no booking has changed since the file was written
+        }
+        try (RecordWriter out = buffer.open(path)) {
+            for (Booking booking : fbs.getBookingsToStore()) {
+                write(out, booking);
+            }
+            out.commit();
+            legacy = false;
+        } catch (IOException | RuntimeException ex) {
+            fbs.getChanges().restore(ChangeTracker.Kind.BOOKINGS, changed); // save them next time
+            throw ex;
+        }
+    }
+
+    // writes a booking as one line
+    static void write(RecordWriter out, Booking booking) throws IOException {
+        out.writeInt(booking.getCustomer().getId())
+           .writeInt(booking.getFlight().getId())
+           .writeDate(booking.getBookingDate());
+        if (booking.getSeat() >= 0) {
+            out.writeString(booking.getSeatLabel());
+            if (booking.getGroupId() != 0) {
+                out.writeInt(booking.getGroupId());
+            }
+        }
+        out.endRecord();
+    }
+}
+    
+
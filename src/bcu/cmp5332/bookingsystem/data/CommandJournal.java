@@ -0,0 +1,263 @@
+package bcu.cmp5332.bookingsystem.data;
+
+import bcu.cmp5332.bookingsystem.commands.AddBooking;
+import bcu.cmp5332.bookingsystem.commands.AddCustomer;
+import bcu.cmp5332.bookingsystem.commands.AddFlight;
+import bcu.cmp5332.bookingsystem.commands.AddGroupBooking;
+import bcu.cmp5332.bookingsystem.commands.CancelBooking;
+import bcu.cmp5332.bookingsystem.commands.CancelGroupBooking;
+import bcu.cmp5332.bookingsystem.commands.Command;
+import bcu.cmp5332.bookingsystem.commands.CompactFlights;
+import bcu.cmp5332.bookingsystem.commands.DeleteCustomer;
+import bcu.cmp5332.bookingsystem.commands.DeleteFlight;
+import bcu.cmp5332.bookingsystem.commands.EditBooking;
+import bcu.cmp5332.bookingsystem.commands.EditCustomer;
+import bcu.cmp5332.bookingsystem.commands.EditFlight;
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+import bcu.cmp5332.bookingsystem.model.SeatMap;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Write-ahead journal of the commands that change the flight booking system. Each such command
+ * is appended as one line before it is applied:
+ *
+ * <pre>
+ * sequence::name::field::field::...::
+ * </pre>
+ *
+ * where the sequence numbers the commands in the order they were applied, the name is the CLI
+ * command word and the fields are the command's arguments, escaped with
+ * {@link DataManager#escape(String)}, with an empty field for a missing optional argument. The
+ * line is synced to disk before the command runs, so a crash loses nothing that was applied. A
+ * command that fails is followed by a {@code sequence::rejected::} line.
+ *
+ * On startup the journal is replayed on top of the last full save, and it is emptied each time
+ * the system is saved in full. The save holds the sequence number of the last command applied,
+ * so commands it already holds are skipped even if the journal was not emptied.
+ *
+ * Journaled commands are applied one at a time, in the order they are written, so replaying the
+ * journal hands out the same flight, customer and booking IDs as the original run.
+ *
+ * @author Sujal Manandhar
+ */
+public class CommandJournal {
+
+    public final String RESOURCE = "resources/data/journal.txt";
+
+    private static final String REJECTED = "rejected";
+
+    private FileOutputStream out; // Open for appending once the first record is written
+
+    /**
+     * Builds a journal record from a command name and its arguments.
+     *
+     * @param name The CLI command word.
+     * @param fields The command's arguments; null is written as an empty field.
+     * @return The record.
+     */
+    public static String record(String name, Object... fields) {
+        StringBuilder record = new StringBuilder(name).append(DataManager.SEPARATOR);
+        for (Object field : fields) {
+            record.append(field == null ? "" : DataManager.escape(field.toString())).append(DataManager.SEPARATOR);
+        }
+        return record.toString();
+    }
+
+    /**
+     * Applies a command to the system, first appending it to the journal if it changes the system.
+     * Commands that do not change the system run straight away without waiting for the journal.
+     *
+     * @param command The command to apply.
+     * @param fbs The system to apply it to.
+     * @throws FlightBookingSystemException If the journal cannot be written, or the command fails.
+     */
+    public void execute(Command command, FlightBookingSystem fbs) throws FlightBookingSystemException {
+        String record = command.journalRecord();
+        if (record == null) {
+            command.execute(fbs);
+            return;
+        }
+        synchronized (this) {
+            int sequence = fbs.nextJournalSequence();
+            try {
+                append(sequence + DataManager.SEPARATOR + record);
+            } catch (IOException ex) {
+                throw new FlightBookingSystemException("Unable to write the command journal: " + ex.getMessage());
+            }
+            try {
+                command.execute(fbs);
+            } catch (FlightBookingSystemException | IllegalArgumentException ex) {
+                try {
+                    append(record(Integer.toString(sequence), REJECTED));
+                } catch (IOException ignored) {
+                    // Replay rejects the command again and reports it
+                }
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Applies the commands in the journal to the system, in the order they were written, skipping
+     * those the last full save already holds and those that failed when they were first applied.
+     * A command that fails on replay is reported on the error stream, as the system no longer
+     * matches the one it was first applied to. The commands' messages are discarded, without
+     * touching System.out, so output from other threads still reaches the console.
+     *
+     * @param fbs The system, freshly loaded from the last full save.
+     * @return The number of commands replayed.
+     * @throws IOException If the journal cannot be read.
+     * @throws FlightBookingSystemException If a journal record cannot be parsed.
+     */
+    public synchronized int replay(FlightBookingSystem fbs) throws IOException, FlightBookingSystemException {
+        File file = new File(RESOURCE);
+        if (!file.exists()) {
+            return 0; // Nothing has changed since the last full save
+        }
+        int saved = fbs.getLastJournalSequence(); // The last command the full save holds
+        List<Integer> sequences = new ArrayList<>();
+        List<Integer> lines = new ArrayList<>();
+        List<Command> commands = new ArrayList<>();
+        Set<Integer> rejected = new HashSet<>();
+        List<String> fields = new ArrayList<>();
+        try (RecordReader in = new StreamRecordReader(file.toPath())) {
+            while (in.nextRecord()) {
+                fields.clear();
+                while (in.hasField()) {
+                    fields.add(in.nextString());
+                }
+                try {
+                    int sequence = Integer.parseInt(fields.get(0));
+                    if (fields.size() == 2 && REJECTED.equals(fields.get(1))) {
+                        rejected.add(sequence);
+                    } else if (sequence > saved) {
+                        Command command = decode(fields.subList(1, fields.size()).toArray(new String[0]));
+                        sequences.add(sequence);
+                        lines.add(in.lineNumber());
+                        commands.add(command);
+                    }
+                } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException ex) {
+                    throw new FlightBookingSystemException("Unable to parse journal record " + fields + " on line "
+                        + in.lineNumber() + "\nError: " + ex);
+                }
+            }
+        }
+
+        int replayed = 0;
+        PrintStream quiet = new PrintStream(OutputStream.nullOutputStream());
+        for (int i = 0; i < commands.size(); i++) {
+            int sequence = sequences.get(i);
+            fbs.reserveJournalSequence(sequence);
+            if (rejected.contains(sequence)) {
+                continue; // Failed when it was first applied, so it changed nothing
+            }
+            try {
+                commands.get(i).execute(fbs, quiet);
+                replayed++;
+            } catch (FlightBookingSystemException | IllegalArgumentException ex) {
+                System.err.println("Journal command on line " + lines.get(i) + " was rejected on replay: "
+                    + ex.getMessage());
+            }
+        }
+        return replayed;
+    }
+
+    /**
+     * Empties the journal. Called once everything it records has been saved in full.
+     *
+     * @throws IOException If the journal cannot be emptied.
+     */
+    public synchronized void truncate() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+        new FileOutputStream(RESOURCE).close();
+    }
+
+    /**
+     * Appends a record to the journal and syncs it to disk.
+     *
+     * @param record The record to append.
+     * @throws IOException If the journal cannot be written.
+     */
+    private void append(String record) throws IOException {
+        if (out == null) {
+            out = new FileOutputStream(RESOURCE, true);
+        }
+        out.write((record + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+        out.getFD().sync();
+    }
+
+    /**
+     * Rebuilds a command from the fields of a journal record.
+     *
+     * @param fields The fields of the record; fields[0] is the command name.
+     * @return The command.
+     * @throws NumberFormatException If an ID or number field is malformed.
+     * @throws DateTimeParseException If a date field is malformed.
+     * @throws IllegalArgumentException If the command name is unknown.
+     */
+    private static Command decode(String[] fields) {
+        switch (fields[0]) {
+            case "addflight":
+                return new AddFlight(fields[1], fields[2], fields[3], LocalDate.parse(fields[4]),
+                        Integer.parseInt(fields[5]), Integer.parseInt(fields[6]),
+                        fields.length > 7 ? Integer.parseInt(fields[7]) : SeatMap.DEFAULT_COLUMNS); // Not in older records
+            case "addcustomer":
+                return new AddCustomer(fields[1], fields[2], fields[3], null);
+            case "addbooking":
+                return new AddBooking(Integer.parseInt(fields[1]), Integer.parseInt(fields[2]), LocalDate.parse(fields[3]),
+                        optional(fields[4]));
+            case "addgroupbooking":
+                List<Integer> customerIds = new ArrayList<>();
+                for (String id : fields[3].split(",")) {
+                    customerIds.add(Integer.parseInt(id));
+                }
+                return new AddGroupBooking(customerIds, Integer.parseInt(fields[1]), LocalDate.parse(fields[2]));
+            case "cancelbooking":
+                return new CancelBooking(Integer.parseInt(fields[1]), Integer.parseInt(fields[2]));
+            case "cancelgroupbooking":
+                return new CancelGroupBooking(Integer.parseInt(fields[1]));
+            case "editbooking":
+                String bookingDate = optional(fields[4]);
+                return new EditBooking(Integer.parseInt(fields[1]), Integer.parseInt(fields[2]), Integer.parseInt(fields[3]),
+                        bookingDate == null ? null : LocalDate.parse(bookingDate));
+            case "editcustomer":
+                return new EditCustomer(Integer.parseInt(fields[1]), optional(fields[2]), optional(fields[3]), optional(fields[4]));
+            case "editflight":
+                return new EditFlight(Integer.parseInt(fields[1]), Integer.parseInt(fields[2]), Integer.parseInt(fields[3]));
+            case "deleteflight":
+                return new DeleteFlight(Integer.parseInt(fields[1]));
+            case "deletecustomer":
+                return new DeleteCustomer(Integer.parseInt(fields[1]));
+            case "compact":
+                return new CompactFlights();
+            default:
+                throw new IllegalArgumentException("Unknown command " + fields[0]);
+        }
+    }
+
+    /**
+     * Reads an optional field, written as an empty field when it was missing.
+     *
+     * @param field The field.
+     * @return The field, or null if it is empty.
+     */
+    private static String optional(String field) {
+        return field.isEmpty() ? null : field;
+    }
+}
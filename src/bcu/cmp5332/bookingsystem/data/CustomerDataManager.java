@@ -1,63 +1,76 @@
-package bcu.cmp5332.bookingsystem.data;
-
-import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
-import bcu.cmp5332.bookingsystem.model.Booking;
-import bcu.cmp5332.bookingsystem.model.Customer;
-import bcu.cmp5332.bookingsystem.model.Flight;
-import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
-
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.io.PrintWriter;
-import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Scanner;
-
-public class CustomerDataManager implements DataManager {
-
-	public final String RESOURCE = "resources/data/customers.txt";
-    
-    @Override
-    public void loadData(FlightBookingSystem fbs) throws IOException, FlightBookingSystemException {
-        // TODO: implementation here
-    	try (Scanner sc = new Scanner(new File(RESOURCE))) {
-            int line_idx = 1;
-            while (sc.hasNextLine()) {
-                String line = sc.nextLine();
-                String[] properties = line.split(SEPARATOR, -1);
-                try {
-                    int id = Integer.parseInt(properties[0]);
-                    String name = properties[1];
-                    String phone = properties[2];
-                    String email = properties[3];
-                    List<Booking> bookings = new ArrayList<>();
-                    
-                    Customer customer= new Customer(id, name, phone, email ,bookings);
-                    fbs.addCustomer(customer);
-                } catch (NumberFormatException ex) {
-                    throw new FlightBookingSystemException("Unable to parse book id " + properties[0] + " on line " + line_idx
-                        + "\nError: " + ex);
-                }
-                line_idx++;
-            }
-        }
-    	
-    }
-
-    @Override
-    public void storeData(FlightBookingSystem fbs) throws IOException {
-        // TODO: implementation here
-    	try (PrintWriter out = new PrintWriter(new FileWriter(RESOURCE))) {
-            for (Customer customer : fbs.getCustomers()) {
-                out.print(customer.getId() + SEPARATOR);
-                out.print(customer.getName() + SEPARATOR);
-                out.print(customer.getPhone() + SEPARATOR);
-                out.print(customer.getEmail() + SEPARATOR);
-                out.println();
-            }
-        }
-    	
-    }
-}
+package bcu.cmp5332.bookingsystem.data;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.ChangeTracker;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Set;
+
+public class CustomerDataManager implements DataManager {
+
+	public final String RESOURCE = "resources/data/customers.txt";
+
+    private final RecordBuffer buffer = new RecordBuffer(); // Lent to the writer of every save
+
+    private final boolean mapped; // Read the file through a memory mapping rather than a stream
+
+    public CustomerDataManager() {
+        this(false);
+    }
+
+    public CustomerDataManager(boolean mapped) {
+        this.mapped = mapped;
+    }
+    
+    @Override
+    public void loadData(FlightBookingSystem fbs) throws IOException, FlightBookingSystemException {
+        try (RecordReader in = RecordReader.open(Paths.get(RESOURCE), mapped)) {
+            while (in.nextRecord()) {
+                fbs.addCustomer(parse(in));
+            }
+        }
+    }
+
+    // parses the customer on the reader's current line
+    static Customer parse(RecordReader in) throws FlightBookingSystemException {
+        try {
+            return new Customer(in.nextInt(), in.nextString(), in.nextString(), in.nextString(), new ArrayList<>());
+        } catch (NumberFormatException ex) {
+            throw new FlightBookingSystemException("Unable to parse customer on line " + in.lineNumber()
+                + "\nError: " + ex);
+        }
+    }
+
+    // writes a customer as one line
+    static void write(RecordWriter out, Customer customer) throws IOException {
+        out.writeInt(customer.getId())
+           .writeString(customer.getName())
+           .writeString(customer.getPhone())
+           .writeString(customer.getEmail())
+           .endRecord();
+    }
+
+    @Override
+    public synchronized void storeData(FlightBookingSystem fbs) throws IOException {
+        Path path = Paths.get(RESOURCE);
+        Set<Integer> changed = fbs.getChanges().take(ChangeTracker.Kind.CUSTOMERS);
+        if (changed == null && Files.exists(path)) {
+            return; // no customer has changed since the file was written
+        }
+        try (RecordWriter out = buffer.open(path)) {
+            for (Customer customer : fbs.getCustomers()) {
+                write(out, customer);
+            }
+            out.commit();
+        } catch (IOException | RuntimeException ex) {
+            fbs.getChanges().restore(ChangeTracker.Kind.CUSTOMERS, changed); // save them next time
+            throw ex;
+        }
+    }
+}
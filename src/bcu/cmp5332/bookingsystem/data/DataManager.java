@@ -1,14 +1,62 @@
-package bcu.cmp5332.bookingsystem.data;
-
-import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
-import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
-import java.io.IOException;
-
-public interface DataManager {
-    
-    public static final String SEPARATOR = "::";
-    
-    public void loadData(FlightBookingSystem fbs) throws IOException, FlightBookingSystemException;
-    public void storeData(FlightBookingSystem fbs) throws IOException;
-    
-}
+package bcu.cmp5332.bookingsystem.data;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+import java.io.IOException;
+
+public interface DataManager {
+    
+    public static final String SEPARATOR = "::";
+    public static final char ESCAPE = '\\'; // Written before a ':', '\' or line break inside a text field
+    
+    public void loadData(FlightBookingSystem fbs) throws IOException, FlightBookingSystemException;
+    public void storeData(FlightBookingSystem fbs) throws IOException;
+    
+    /**
+     * Escapes a text field so it can hold a separator or a line break. Every ':' and '\' is
+     * written with a '\' before it, and line breaks are written as \n and \r.
+     *
+     * @param field The field; null is written as "null".
+     * @return The escaped field.
+     */
+    public static String escape(String field) {
+        if (field == null) {
+            return "null";
+        }
+        StringBuilder escaped = null;
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c != ':' && c != ESCAPE && c != '\n' && c != '\r') {
+                if (escaped != null) {
+                    escaped.append(c);
+                }
+                continue;
+            }
+            if (escaped == null) {
+                escaped = new StringBuilder(field.length() + 8).append(field, 0, i);
+            }
+            escaped.append(ESCAPE).append(c == '\n' ? 'n' : c == '\r' ? 'r' : c);
+        }
+        return escaped == null ? field : escaped.toString();
+    }
+
+    /**
+     * Undoes {@link #escape(String)}.
+     *
+     * @param field The escaped field.
+     * @return The original text.
+     */
+    public static String unescape(String field) {
+        StringBuilder text = new StringBuilder(field.length());
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == ESCAPE && i + 1 < field.length()) {
+                c = field.charAt(++i);
+                c = c == 'n' ? '\n' : c == 'r' ? '\r' : c;
+            }
+            text.append(c);
+        }
+        return text.toString();
+    }
+    
+}
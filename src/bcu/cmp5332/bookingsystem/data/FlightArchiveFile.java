@@ -0,0 +1,250 @@
+package bcu.cmp5332.bookingsystem.data;
+
+import bcu.cmp5332.bookingsystem.model.Booking;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightArchive;
+import bcu.cmp5332.bookingsystem.model.SeatMap;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Append-only archive file for compacted flights. Each archived flight is one record made of a
+ * flight line followed by one line per booking:
+ * 
+ * <pre>
+ * F::id::flightNumber::origin::destination::departureDate::numberOfSeats::price::deleted::seatColumns::
+ * B::customerId::name::phone::email::bookingDate::[seat::]
+ * </pre>
+ * 
+ * The file is scanned once when it is opened to build an in-memory index of record offsets,
+ * so restoring a flight is a single seek and read. Archiving a flight that was restored
+ * replaces its earlier record, so the archive holds one record per flight. Files written before
+ * that may still hold several, and the latest is restored.
+ * 
+ * @author Sujal Manandhar
+ */
+public class FlightArchiveFile implements FlightArchive {
+
+    public final String RESOURCE = "resources/data/archive.txt";
+
+    private static final String FLIGHT_RECORD = "F";
+    private static final String BOOKING_RECORD = "B";
+
+    private final Map<Integer, long[]> records = new HashMap<>(); // Flight ID -> {offset, length}
+    private int lastFlightId;
+
+    /**
+     * Opens the archive file and indexes the records it already holds.
+     *
+     * @throws IOException If the archive file exists but cannot be read.
+     */
+    public FlightArchiveFile() throws IOException {
+        File file = new File(RESOURCE);
+        if (file.exists()) {
+            index(file);
+        }
+    }
+
+    @Override
+    public synchronized void archive(Flight flight, Collection<Booking> bookings) throws IOException {
+        StringBuilder record = new StringBuilder();
+        record.append(FLIGHT_RECORD).append(DataManager.SEPARATOR)
+              .append(flight.getId()).append(DataManager.SEPARATOR)
+              .append(DataManager.escape(flight.getFlightNumber())).append(DataManager.SEPARATOR)
+              .append(DataManager.escape(flight.getOrigin())).append(DataManager.SEPARATOR)
+              .append(DataManager.escape(flight.getDestination())).append(DataManager.SEPARATOR)
+              .append(flight.getDepartureDate()).append(DataManager.SEPARATOR)
+              .append(flight.getNumberOfSeats()).append(DataManager.SEPARATOR)
+              .append(flight.getPrice()).append(DataManager.SEPARATOR)
+              .append(flight.getDeleted()).append(DataManager.SEPARATOR)
+              .append(flight.getSeatColumns()).append(DataManager.SEPARATOR)
+              .append('\n');
+        for (Booking booking : bookings) {
+            Customer customer = booking.getCustomer();
+            record.append(BOOKING_RECORD).append(DataManager.SEPARATOR)
+                  .append(customer.getId()).append(DataManager.SEPARATOR)
+                  .append(DataManager.escape(customer.getName())).append(DataManager.SEPARATOR)
+                  .append(DataManager.escape(customer.getPhone())).append(DataManager.SEPARATOR)
+                  .append(DataManager.escape(customer.getEmail())).append(DataManager.SEPARATOR)
+                  .append(booking.getBookingDate()).append(DataManager.SEPARATOR);
+            if (booking.getSeat() >= 0) {
+                record.append(booking.getSeatLabel()).append(DataManager.SEPARATOR);
+            }
+            record.append('\n');
+        }
+
+        byte[] bytes = record.toString().getBytes(StandardCharsets.UTF_8);
+        if (records.containsKey(flight.getId())) {
+            drop(flight.getId()); // Restored and archived again
+        }
+        File file = new File(RESOURCE);
+        long offset = file.length();
+        try (OutputStream out = new FileOutputStream(file, true)) {
+            out.write(bytes);
+        }
+        records.put(flight.getId(), new long[]{offset, bytes.length});
+        lastFlightId = Math.max(lastFlightId, flight.getId());
+    }
+
+    @Override
+    public synchronized boolean contains(int flightId) {
+        return records.containsKey(flightId);
+    }
+
+    @Override
+    public synchronized Flight restore(int flightId, Collection<Booking> bookings) throws IOException {
+        long[] location = records.get(flightId);
+        if (location == null) {
+            return null;
+        }
+        byte[] bytes = new byte[(int) location[1]];
+        try (RandomAccessFile file = new RandomAccessFile(RESOURCE, "r")) {
+            file.seek(location[0]);
+            file.readFully(bytes);
+        }
+
+        Flight flight = null;
+        try (RecordReader in = new StreamRecordReader(
+                new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8))) {
+            while (in.nextRecord()) {
+                String type = in.nextString();
+                if (type.equals(FLIGHT_RECORD)) {
+                    int id = in.nextInt();
+                    String flightNumber = in.nextString();
+                    String origin = in.nextString();
+                    String destination = in.nextString();
+                    LocalDate departureDate = in.nextDate();
+                    int numberOfSeats = in.nextInt();
+                    int price = in.nextInt();
+                    boolean deleted = Boolean.parseBoolean(in.nextString());
+                    int seatColumns = in.hasField() && !in.isFieldEmpty() ? in.nextInt() : SeatMap.DEFAULT_COLUMNS; // Not in older records
+                    flight = new Flight(id, flightNumber, origin, destination, departureDate, numberOfSeats, price, seatColumns);
+                    flight.setDeleted(deleted);
+                } else if (type.equals(BOOKING_RECORD)) {
+                    Customer customer = new Customer(in.nextInt(), in.nextString(), in.nextString(), in.nextString(),
+                            new ArrayList<>());
+                    Booking booking = new Booking(customer, flight, in.nextDate());
+                    if (in.hasField() && !in.isFieldEmpty()) {
+                        booking.setSeat(flight.getSeatMap().parse(in.nextString()));
+                    }
+                    bookings.add(booking);
+                }
+            }
+        }
+        return flight;
+    }
+
+    @Override
+    public synchronized int getLastFlightId() {
+        return lastFlightId;
+    }
+
+    /**
+     * Rewrites the archive file without a flight's record and moves the records after it up.
+     *
+     * @param flightId The ID of the flight whose record is dropped.
+     * @throws IOException If the archive file cannot be rewritten.
+     */
+    private void drop(int flightId) throws IOException {
+        long[] location = records.remove(flightId);
+        long end = location[0] + location[1];
+        Path path = Paths.get(RESOURCE);
+        Path temp = Paths.get(RESOURCE + ".tmp");
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            transfer(in, 0, location[0], out);
+            transfer(in, end, in.size() - end, out);
+            out.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        for (long[] record : records.values()) {
+            if (record[0] >= end) {
+                record[0] -= location[1];
+            }
+        }
+    }
+
+    // copies part of one file to the end of another
+    private static void transfer(FileChannel in, long position, long count, FileChannel out) throws IOException {
+        while (count > 0) {
+            long copied = in.transferTo(position, count, out);
+            position += copied;
+            count -= copied;
+        }
+    }
+
+    /**
+     * Scans the archive file and records the offset and length of every flight record.
+     *
+     * @param file The archive file.
+     * @throws IOException If the file cannot be read.
+     */
+    private void index(File file) throws IOException {
+        String flightPrefix = FLIGHT_RECORD + DataManager.SEPARATOR;
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            long position = 0; // Offset of the next byte to read
+            long lineStart = 0; // Offset of the current line
+            long recordStart = -1; // Offset of the current flight record, -1 before the first one
+            int recordFlightId = 0;
+            StringBuilder head = new StringBuilder(); // Start of the current line, enough for the type and ID
+            int b;
+            while ((b = in.read()) != -1) {
+                position++;
+                if (b != '\n') {
+                    if (head.length() < 32) {
+                        head.append((char) b);
+                    }
+                    continue;
+                }
+                if (head.indexOf(flightPrefix) == 0) {
+                    if (recordStart >= 0) {
+                        indexRecord(recordFlightId, recordStart, lineStart);
+                    }
+                    String id = head.substring(flightPrefix.length(), head.indexOf(DataManager.SEPARATOR, flightPrefix.length()));
+                    recordFlightId = Integer.parseInt(id);
+                    recordStart = lineStart;
+                }
+                lineStart = position;
+                head.setLength(0);
+            }
+            if (recordStart >= 0) {
+                indexRecord(recordFlightId, recordStart, lineStart);
+            }
+        }
+    }
+
+    /**
+     * Adds a flight record found while scanning the archive to the index.
+     *
+     * @param flightId The ID of the archived flight.
+     * @param start    The offset of the record's first byte.
+     * @param end      The offset just past the record's last byte.
+     */
+    private void indexRecord(int flightId, long start, long end) {
+        records.put(flightId, new long[]{start, end - start});
+        lastFlightId = Math.max(lastFlightId, flightId);
+    }
+}
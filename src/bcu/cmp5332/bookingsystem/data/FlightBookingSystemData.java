@@ -1,41 +1,81 @@
-package bcu.cmp5332.bookingsystem.data;
-
-
-
-import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
-import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-
-public class FlightBookingSystemData {
-    
-    private static final List<DataManager> dataManagers = new ArrayList<>();
-    
-    // runs only once when the object gets loaded to memory
-    static {
-        dataManagers.add(new FlightDataManager());
-        
-        /* Uncomment the two lines below when the implementation of their 
-        loadData() and storeData() methods is complete */
-         dataManagers.add(new CustomerDataManager());
-         dataManagers.add(new BookingDataManager());
-    }
-    
-    public static FlightBookingSystem load() throws FlightBookingSystemException, IOException {
-
-        FlightBookingSystem fbs = new FlightBookingSystem();
-        for (DataManager dm : dataManagers) {
-            dm.loadData(fbs);
-        }
-        return fbs;
-    }
-
-    public static void store(FlightBookingSystem fbs) throws IOException {
-
-        for (DataManager dm : dataManagers) {
-            dm.storeData(fbs);
-        }
-    }
-    
-}
+package bcu.cmp5332.bookingsystem.data;
+
+
+
+import bcu.cmp5332.bookingsystem.commands.Command;
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class FlightBookingSystemData {
+    
+    // system property choosing how data is stored: "text" (the default), "binary", or
+    // "segmented" to split each text file by ID so a save only rewrites the segments that changed
+    public static final String STORAGE_PROPERTY = "bookingsystem.storage";
+
+    // system property choosing how the text files are read: "scanner" (the default), "mapped",
+    // or "parallel" to parse the flight, customer and booking files on every core at once
+    public static final String LOADER_PROPERTY = "bookingsystem.loader";
+
+    private static final List<DataManager> dataManagers = new ArrayList<>();
+
+    // changes made since the last store, replayed by load
+    private static final CommandJournal journal = new CommandJournal();
+    
+    // runs only once when the object gets loaded to memory
+    static {
+        String loader = System.getProperty(LOADER_PROPERTY);
+        boolean mapped = "mapped".equals(loader) || "parallel".equals(loader);
+        if ("binary".equals(System.getProperty(STORAGE_PROPERTY))) {
+            dataManagers.add(new BinarySnapshotDataManager()); // flights, customers and bookings in one file
+        } else if ("segmented".equals(System.getProperty(STORAGE_PROPERTY))) {
+            dataManagers.add(new SegmentedDataManager(mapped)); // flights, customers and bookings split by ID
+        } else if ("parallel".equals(loader)) {
+            dataManagers.add(new ParallelDataManager()); // flights, customers and bookings loaded together
+        } else {
+            dataManagers.add(new FlightDataManager(mapped));
+        
+        /* Uncomment the two lines below when the implementation of their 
+        loadData() and storeData() methods is complete */
+             dataManagers.add(new CustomerDataManager(mapped));
+             dataManagers.add(new BookingDataManager(mapped));
+        }
+         dataManagers.add(new WaitlistDataManager(mapped));
+         dataManagers.add(new SequenceDataManager()); // highest IDs used, so deleted IDs are not reused
+    }
+    
+    public static FlightBookingSystem load() throws FlightBookingSystemException, IOException {
+        return load(false);
+    }
+
+    // threadSafe selects the concurrent collections, for when the CLI and GUI share one system
+    public static FlightBookingSystem load(boolean threadSafe) throws FlightBookingSystemException, IOException {
+
+        FlightBookingSystem fbs = new FlightBookingSystem(threadSafe);
+        for (DataManager dm : dataManagers) {
+            dm.loadData(fbs);
+        }
+        fbs.setFlightArchive(new FlightArchiveFile());
+        fbs.getChanges().clear(); // the files hold everything loaded; only replayed changes need saving
+        journal.replay(fbs);
+        return fbs;
+    }
+
+    public static void store(FlightBookingSystem fbs) throws IOException {
+
+        synchronized (journal) { // no journaled command may run between the save and the truncate
+            for (DataManager dm : dataManagers) {
+                dm.storeData(fbs);
+            }
+            journal.truncate();
+        }
+    }
+
+    // applies a command, journaling it first if it changes the system
+    public static void execute(Command command, FlightBookingSystem fbs) throws FlightBookingSystemException {
+        journal.execute(command, fbs);
+    }
+    
+}
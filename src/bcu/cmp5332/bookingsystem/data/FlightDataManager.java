@@ -1,58 +1,95 @@
-package bcu.cmp5332.bookingsystem.data;
-
-import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
-import bcu.cmp5332.bookingsystem.model.Flight;
-import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.io.PrintWriter;
-import java.time.LocalDate;
-import java.util.Scanner;
-
-public class FlightDataManager implements DataManager {
-    
-    private final String RESOURCE = "resources/data/flights.txt";
-    
-    @Override
-    public void loadData(FlightBookingSystem fbs) throws IOException, FlightBookingSystemException {
-        try (Scanner sc = new Scanner(new File(RESOURCE))) {
-            int line_idx = 1;
-            while (sc.hasNextLine()) {
-                String line = sc.nextLine();
-                String[] properties = line.split(SEPARATOR, -1);
-                try {
-                    int id = Integer.parseInt(properties[0]);
-                    String flightNumber = properties[1];
-                    String origin = properties[2];
-                    String destination = properties[3];
-                    LocalDate departureDate = LocalDate.parse(properties[4]);
-                    int numberOfSeats = Integer.parseInt(properties[5]);
-                    int price = Integer.parseInt(properties[6]);
-                    Flight flight = new Flight(id, flightNumber, origin, destination, departureDate, numberOfSeats, price);
-                    fbs.addFlight(flight);
-                } catch (NumberFormatException ex) {
-                    throw new FlightBookingSystemException("Unable to parse book id " + properties[0] + " on line " + line_idx
-                        + "\nError: " + ex);
-                }
-                line_idx++;
-            }
-        }
-    }
-    
-    @Override
-    public void storeData(FlightBookingSystem fbs) throws IOException {
-        try (PrintWriter out = new PrintWriter(new FileWriter(RESOURCE))) {
-            for (Flight flight : fbs.getFlights()) {
-                out.print(flight.getId() + SEPARATOR);
-                out.print(flight.getFlightNumber() + SEPARATOR);
-                out.print(flight.getOrigin() + SEPARATOR);
-                out.print(flight.getDestination() + SEPARATOR);
-                out.print(flight.getDepartureDate() + SEPARATOR);
-                out.print(flight.getNumberOfSeats() + SEPARATOR);
-                out.print(flight.getPrice() + SEPARATOR);
-                out.println();
-            }
-        }
-    }
-}
+package bcu.cmp5332.bookingsystem.data;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.ChangeTracker;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+import bcu.cmp5332.bookingsystem.model.SeatMap;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+
+public class FlightDataManager implements DataManager {
+    
+    public final String RESOURCE = "resources/data/flights.txt";
+
+    private final RecordBuffer buffer = new RecordBuffer(); // Lent to the writer of every save
+
+    private final boolean mapped; // Read the file through a memory mapping rather than a stream
+
+    public FlightDataManager() {
+        this(false);
+    }
+
+    public FlightDataManager(boolean mapped) {
+        this.mapped = mapped;
+    }
+    
+    @Override
+    public void loadData(FlightBookingSystem fbs) throws IOException, FlightBookingSystemException {
+        try (RecordReader in = RecordReader.open(Paths.get(RESOURCE), mapped)) {
+            while (in.nextRecord()) {
+                fbs.addFlight(parse(in));
+            }
+        }
+    }
+
+    // parses the flight on the reader's current line
+    static Flight parse(RecordReader in) throws FlightBookingSystemException {
+        try {
+            int id = in.nextInt();
+            String flightNumber = in.nextString();
+            String origin = in.nextString();
+            String destination = in.nextString();
+            LocalDate departureDate = in.nextDate();
+            int numberOfSeats = in.nextInt();
+            int price = in.nextInt();
+            int seatColumns = in.hasField() && !in.isFieldEmpty() ? in.nextInt() : SeatMap.DEFAULT_COLUMNS; // Not in older files
+            boolean deleted = in.hasField() && !in.isFieldEmpty() && Boolean.parseBoolean(in.nextString()); // Only on deleted flights
+            Flight flight = new Flight(id, flightNumber, origin, destination, departureDate, numberOfSeats, price, seatColumns);
+            flight.setDeleted(deleted);
+            return flight;
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new FlightBookingSystemException("Unable to parse flight on line " + in.lineNumber()
+                + "\nError: " + ex);
+        }
+    }
+    
+    // writes a flight as one line
+    static void write(RecordWriter out, Flight flight) throws IOException {
+        out.writeInt(flight.getId())
+           .writeString(flight.getFlightNumber())
+           .writeString(flight.getOrigin())
+           .writeString(flight.getDestination())
+           .writeDate(flight.getDepartureDate())
+           .writeInt(flight.getNumberOfSeats())
+           .writeInt(flight.getPrice())
+           .writeInt(flight.getSeatColumns());
+        if (flight.getDeleted()) {
+            out.writeString("true"); // Kept only while it still has bookings
+        }
+        out.endRecord();
+    }
+    
+    @Override
+    public synchronized void storeData(FlightBookingSystem fbs) throws IOException {
+        Path path = Paths.get(RESOURCE);
+        Set<Integer> changed = fbs.getChanges().take(ChangeTracker.Kind.FLIGHTS);
+        if (changed == null && Files.exists(path)) {
+            return; // no flight has changed since the file was written
+        }
+        try (RecordWriter out = buffer.open(path)) {
+            for (Flight flight : fbs.getFlightsToStore()) {
+                write(out, flight);
+            }
+            out.commit();
+        } catch (IOException | RuntimeException ex) {
+            fbs.getChanges().restore(ChangeTracker.Kind.FLIGHTS, changed); // save them next time
+            throw ex;
+        }
+    }
+}
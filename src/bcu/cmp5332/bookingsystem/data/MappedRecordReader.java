@@ -0,0 +1,173 @@
+package bcu.cmp5332.bookingsystem.data;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the records of a data file straight from a memory-mapped copy of it.
+ *
+ * The file is mapped with {@link FileChannel#map}, so the operating system pages it in as it is
+ * read and it never passes through a heap buffer. Lines and fields are found, and numbers and
+ * dates parsed, in the mapped bytes; only text fields are decoded into a String, through one
+ * reusable scratch array. Nothing is allocated per line.
+ *
+ * A large file can be {@link #split(int) split} into readers over line-aligned parts of the same
+ * mapping, so several threads can parse it at once.
+ *
+ * @author Sujal Manandhar
+ */
+public class MappedRecordReader extends RecordReader {
+
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private final MappedByteBuffer buffer; // Shared by every reader split from the same file
+    private final int start; // Offset of the first byte this reader covers
+    private final int limit; // Offset after the last byte this reader covers
+    private int recordStart = -1; // Offset of the start of the current line
+    private byte[] scratch = new byte[64]; // Reused to decode text fields
+
+    /**
+     * Maps a data file into memory.
+     *
+     * @param path The file to read.
+     * @throws IOException If the file cannot be opened or mapped, or is larger than 2 GB.
+     */
+    public MappedRecordReader(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File " + path + " is too large to map.");
+            }
+            // The mapping stays valid after the channel is closed
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            this.start = 0;
+            this.limit = (int) size;
+        }
+    }
+
+    /**
+     * Constructs a reader over part of a mapping.
+     *
+     * @param buffer The mapped file.
+     * @param start The offset of the first byte, at the start of a line.
+     * @param limit The offset after the last byte, at the end of a line.
+     */
+    private MappedRecordReader(MappedByteBuffer buffer, int start, int limit) {
+        this.buffer = buffer;
+        this.start = start;
+        this.limit = limit;
+        this.position = start;
+    }
+
+    /**
+     * Retrieves the number of bytes this reader covers.
+     *
+     * @return The size in bytes.
+     */
+    public int size() {
+        return limit - start;
+    }
+
+    /**
+     * Splits the unread part of this reader into readers over consecutive parts of about the
+     * same size, each starting at the beginning of a line. Reading every part in order gives the
+     * same records as reading this reader. The readers share this reader's mapping and can be
+     * read from different threads at the same time.
+     *
+     * @param parts The number of parts wanted.
+     * @return The readers, in file order; fewer than asked for if the file has few lines.
+     */
+    public List<MappedRecordReader> split(int parts) {
+        List<MappedRecordReader> readers = new ArrayList<>();
+        int from = lineEnd >= 0 ? lineEnd : position;
+        int begin = from;
+        for (int i = 1; i <= parts && from < limit; i++) {
+            int target = begin + (int) ((long) (limit - begin) * i / parts);
+            int to = i == parts ? limit : nextLine(Math.max(from, target - 1));
+            readers.add(new MappedRecordReader(buffer, from, to));
+            from = to;
+        }
+        return readers;
+    }
+
+    @Override
+    public boolean nextRecord() {
+        if (lineEnd >= 0) {
+            position = lineEnd;
+        }
+        while (position < limit) {
+            byte b = buffer.get(position);
+            if (b == LF || b == CR) {
+                position++;
+            } else {
+                break;
+            }
+        }
+        recordStart = position;
+        if (position >= limit) {
+            lineEnd = limit;
+            return false;
+        }
+        int end = position;
+        while (end < limit && buffer.get(end) != LF) {
+            end++;
+        }
+        if (end > position && buffer.get(end - 1) == CR) {
+            end--;
+        }
+        lineEnd = end;
+        return true;
+    }
+
+    /**
+     * Retrieves the number of the current line in the whole file. The line breaks before the
+     * line are counted on each call, so this is meant for error messages only.
+     *
+     * @return The line number, counting from 1.
+     */
+    @Override
+    public int lineNumber() {
+        int line = 1;
+        for (int i = 0; i < recordStart; i++) {
+            if (buffer.get(i) == LF) {
+                line++;
+            }
+        }
+        return line;
+    }
+
+    @Override
+    protected int charAt(int offset) {
+        return buffer.get(offset);
+    }
+
+    @Override
+    protected String text(int start, int end) {
+        int length = end - start;
+        if (length > scratch.length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(start, scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Finds the start of the line after the one an offset falls in.
+     *
+     * @param offset An offset into the file.
+     * @return The offset just after the next line break, or the end of this reader.
+     */
+    private int nextLine(int offset) {
+        while (offset < limit && buffer.get(offset) != LF) {
+            offset++;
+        }
+        return offset < limit ? offset + 1 : limit;
+    }
+}
@@ -0,0 +1,147 @@
+package bcu.cmp5332.bookingsystem.data;
+
+import bcu.cmp5332.bookingsystem.data.BookingDataManager.BookingRecord;
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Loads flights, customers and bookings from their text files on several threads at once.
+ *
+ * Each file is memory-mapped and split into line-aligned chunks of about {@link #CHUNK_BYTES},
+ * and every chunk of every file is parsed at the same time on a pool with one thread per core,
+ * so a large bookings file is spread over all of them. Parsing only builds flights, customers
+ * and unlinked booking records. The records are then added to the system on the calling
+ * thread, in dependency order: flights and customers first, then bookings, each in file order.
+ * Adding starts as soon as the first chunk is parsed, while later chunks are still being
+ * parsed. Adding in file order hands out the same booking IDs as a single-threaded load.
+ *
+ * Data is stored in the same files, by the flight, customer and booking DataManagers.
+ *
+ * @author Sujal Manandhar
+ */
+public class ParallelDataManager implements DataManager {
+
+    private static final int CHUNK_BYTES = 1 << 20; // Files are split into chunks of about 1 MB
+
+    private final FlightDataManager flightData = new FlightDataManager();
+    private final CustomerDataManager customerData = new CustomerDataManager();
+    private final BookingDataManager bookingData = new BookingDataManager();
+
+    /**
+     * Parses one chunk of a file.
+     *
+     * @param <T> The type of record on each line
+     */
+    private interface Parser<T> {
+        T parse(MappedRecordReader in) throws FlightBookingSystemException;
+    }
+
+    @Override
+    public void loadData(FlightBookingSystem fbs) throws IOException, FlightBookingSystemException {
+        int threads = Runtime.getRuntime().availableProcessors();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<Flight>>> flights = parse(pool, flightData.RESOURCE, threads, FlightDataManager::parse);
+            List<Future<List<Customer>>> customers = parse(pool, customerData.RESOURCE, threads, CustomerDataManager::parse);
+            List<Future<List<BookingRecord>>> bookings = parse(pool, bookingData.RESOURCE, threads, BookingRecord::parse);
+
+            for (Future<List<Flight>> chunk : flights) {
+                for (Flight flight : get(chunk)) {
+                    fbs.addFlight(flight);
+                }
+            }
+            for (Future<List<Customer>> chunk : customers) {
+                for (Customer customer : get(chunk)) {
+                    fbs.addCustomer(customer);
+                }
+            }
+            for (Future<List<BookingRecord>> chunk : bookings) {
+                for (BookingRecord booking : get(chunk)) {
+                    if (booking.legacy) {
+                        bookingData.markLegacy(); // Rewrite the file in the current format on the next save
+                    }
+                    fbs.addBooking(booking.link(fbs));
+                }
+            }
+        } finally {
+            pool.shutdownNow(); // Stop parsing the remaining chunks if adding failed
+        }
+    }
+
+    @Override
+    public void storeData(FlightBookingSystem fbs) throws IOException {
+        flightData.storeData(fbs);
+        customerData.storeData(fbs);
+        bookingData.storeData(fbs);
+    }
+
+    /**
+     * Maps a file and submits a task to parse each of its chunks.
+     *
+     * @param <T> The type of record on each line
+     * @param pool The pool to parse on.
+     * @param resource The file to parse.
+     * @param threads The number of threads in the pool.
+     * @param parser Parses the record on a line.
+     * @return The parsed chunks, in file order.
+     * @throws IOException If the file cannot be mapped.
+     */
+    private static <T> List<Future<List<T>>> parse(ExecutorService pool, String resource, int threads, Parser<T> parser)
+            throws IOException {
+        MappedRecordReader file = new MappedRecordReader(Paths.get(resource));
+        int parts = Math.max(1, Math.min(threads * 4, file.size() / CHUNK_BYTES));
+        List<Future<List<T>>> chunks = new ArrayList<>();
+        for (MappedRecordReader in : file.split(parts)) {
+            chunks.add(pool.submit(() -> {
+                List<T> records = new ArrayList<>();
+                while (in.nextRecord()) {
+                    records.add(parser.parse(in));
+                }
+                return records;
+            }));
+        }
+        return chunks;
+    }
+
+    /**
+     * Waits for a chunk to be parsed.
+     *
+     * @param <T> The type of record on each line
+     * @param chunk The chunk.
+     * @return The records parsed from the chunk.
+     * @throws FlightBookingSystemException If a line of the chunk cannot be parsed.
+     * @throws IOException If the wait is interrupted.
+     */
+    private static <T> List<T> get(Future<List<T>> chunk) throws FlightBookingSystemException, IOException {
+        try {
+            return chunk.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while loading data.");
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof FlightBookingSystemException) {
+                throw (FlightBookingSystemException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
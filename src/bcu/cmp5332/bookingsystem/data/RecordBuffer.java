@@ -0,0 +1,32 @@
+package bcu.cmp5332.bookingsystem.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * The byte buffer a data manager lends to each {@link RecordWriter} it opens, so every save
+ * reuses one buffer rather than allocating a new one for each file written. The buffer is
+ * allocated by the first save. Only one writer may use it at a time, so data managers that keep
+ * one save while holding their own lock.
+ *
+ * @author Sujal Manandhar
+ */
+final class RecordBuffer {
+
+    private ByteBuffer bytes; // Allocated on first use
+
+    /**
+     * Starts writing a new version of a data file, encoding into this buffer.
+     *
+     * @param path The data file to replace.
+     * @return The writer.
+     * @throws IOException If the temporary file cannot be created.
+     */
+    RecordWriter open(Path path) throws IOException {
+        if (bytes == null) {
+            bytes = ByteBuffer.allocate(RecordWriter.BUFFER_SIZE);
+        }
+        return new RecordWriter(path, bytes);
+    }
+}
@@ -0,0 +1,247 @@
+package bcu.cmp5332.bookingsystem.data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Reads the records of a data file one field at a time, without regular expressions. A record
+ * is one line of fields, each followed by {@link DataManager#SEPARATOR}:
+ *
+ * <pre>
+ * field::field::...::
+ * </pre>
+ *
+ * Text fields are written with {@link DataManager#escape(String)}, so a field can hold any text,
+ * a separator or a line break included. Numbers and dates are parsed in place from the reader's
+ * buffer; only text fields are turned into a String.
+ *
+ * Call {@link #nextRecord()} to move to each line, then read its fields in order. Fields left
+ * unread are skipped by the next call to {@link #nextRecord()}.
+ *
+ * @author Sujal Manandhar
+ */
+public abstract class RecordReader implements Closeable {
+
+    protected int position; // Offset of the next character to read
+    protected int lineEnd = -1; // Offset of the end of the current line, before any line break
+
+    /**
+     * Opens a reader over a data file.
+     *
+     * @param path The file to read.
+     * @param mapped True to read the file through a memory mapping, false to stream it.
+     * @return The reader.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static RecordReader open(Path path, boolean mapped) throws IOException {
+        return mapped ? new MappedRecordReader(path) : new StreamRecordReader(path);
+    }
+
+    /**
+     * Moves to the start of the next non-empty line, skipping any fields left unread on the
+     * current one.
+     *
+     * @return True if there is another record, false at the end of the file.
+     * @throws IOException If the file cannot be read.
+     */
+    public abstract boolean nextRecord() throws IOException;
+
+    /**
+     * Retrieves the number of the current line, for error messages.
+     *
+     * @return The line number, counting from 1.
+     */
+    public abstract int lineNumber();
+
+    /**
+     * Retrieves a character of the current line.
+     *
+     * @param offset The offset of the character.
+     * @return The character.
+     */
+    protected abstract int charAt(int offset);
+
+    /**
+     * Turns a range of the current line into a String, before any escapes are undone.
+     *
+     * @param start The offset of the first character.
+     * @param end The offset after the last character.
+     * @return The text.
+     */
+    protected abstract String text(int start, int end);
+
+    @Override
+    public void close() throws IOException {
+        // Nothing to release by default
+    }
+
+    /**
+     * Checks whether the current record has another field to read.
+     *
+     * @return True if there is another field.
+     */
+    public boolean hasField() {
+        return position < lineEnd;
+    }
+
+    /**
+     * Counts the fields left to read on the current line, without reading them.
+     *
+     * @return The number of fields.
+     */
+    public int remainingFields() {
+        int start = position;
+        int count = 0;
+        while (hasField()) {
+            skipField();
+            count++;
+        }
+        position = start;
+        return count;
+    }
+
+    /**
+     * Checks whether the next field is empty, without reading it.
+     *
+     * @return True if there is no next field, or it is empty.
+     */
+    public boolean isFieldEmpty() {
+        return fieldEnd() == position;
+    }
+
+    /**
+     * Reads the next field as a decimal int.
+     *
+     * @return The value.
+     * @throws NumberFormatException If the field is not a valid int.
+     */
+    public int nextInt() {
+        int start = position;
+        int end = fieldEnd();
+        int i = start;
+        boolean negative = i < end && charAt(i) == '-';
+        if (negative) {
+            i++;
+        }
+        if (i == end) {
+            throw new NumberFormatException("For input string: \"" + text(start, end) + "\"");
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("For input string: \"" + text(start, end) + "\"");
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw new NumberFormatException("For input string: \"" + text(start, end) + "\"");
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("For input string: \"" + text(start, end) + "\"");
+        }
+        skipSeparator(end);
+        return (int) value;
+    }
+
+    /**
+     * Reads the next field as an ISO date, yyyy-MM-dd.
+     *
+     * @return The date.
+     * @throws DateTimeParseException If the field is not a valid date.
+     */
+    public LocalDate nextDate() {
+        int start = position;
+        int end = fieldEnd();
+        if (end - start != 10 || charAt(start + 4) != '-' || charAt(start + 7) != '-') {
+            throw new DateTimeParseException("Text '" + text(start, end) + "' could not be parsed", text(start, end), 0);
+        }
+        int year = digits(start, 4);
+        int month = digits(start + 5, 2);
+        int day = digits(start + 8, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            throw new DateTimeParseException("Text '" + text(start, end) + "' could not be parsed", text(start, end), 0);
+        }
+        try {
+            LocalDate date = LocalDate.of(year, month, day);
+            skipSeparator(end);
+            return date;
+        } catch (DateTimeException ex) {
+            throw new DateTimeParseException("Text '" + text(start, end) + "' could not be parsed: " + ex.getMessage(),
+                    text(start, end), 0);
+        }
+    }
+
+    /**
+     * Reads the next field as text, undoing any escapes.
+     *
+     * @return The field.
+     */
+    public String nextString() {
+        int start = position;
+        int end = fieldEnd();
+        String value = text(start, end);
+        skipSeparator(end);
+        return value.indexOf(DataManager.ESCAPE) < 0 ? value : DataManager.unescape(value);
+    }
+
+    /**
+     * Skips the next field without decoding it.
+     */
+    public void skipField() {
+        skipSeparator(fieldEnd());
+    }
+
+    /**
+     * Finds the end of the field at the current position.
+     *
+     * @return The offset of the separator ending the field, or the end of the line.
+     */
+    private int fieldEnd() {
+        int i = position;
+        while (i < lineEnd) {
+            int c = charAt(i);
+            if (c == DataManager.ESCAPE) {
+                i += 2; // The escaped character is never a separator
+            } else if (c == ':' && i + 1 < lineEnd && charAt(i + 1) == ':') {
+                return i;
+            } else {
+                i++;
+            }
+        }
+        return lineEnd;
+    }
+
+    /**
+     * Moves past a field and the separator that follows it.
+     *
+     * @param end The offset the field ends at.
+     */
+    private void skipSeparator(int end) {
+        position = end < lineEnd ? end + DataManager.SEPARATOR.length() : lineEnd;
+    }
+
+    /**
+     * Parses a run of decimal digits.
+     *
+     * @param start The offset of the first digit.
+     * @param count The number of digits.
+     * @return The value, or -1 if any character is not a digit.
+     */
+    private int digits(int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
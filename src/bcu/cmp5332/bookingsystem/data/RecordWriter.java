@@ -0,0 +1,291 @@
+package bcu.cmp5332.bookingsystem.data;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+/**
+ * Writes the records of a data file in the format read by {@link RecordReader}, replacing the
+ * file only once every record has been written.
+ *
+ * Fields are encoded straight into one large byte buffer: numbers and dates digit by digit, text
+ * escaped with {@link DataManager#escape(String)} rules and encoded as UTF-8. The buffer is
+ * written to the file through a {@link FileChannel} each time it fills, so nothing is allocated
+ * per field or per line. Data managers lend every writer they open the same buffer through a
+ * {@link RecordBuffer}, so nothing is allocated per file either.
+ *
+ * Records are written to a temporary file next to the data file. {@link #commit()} syncs it to
+ * disk, moves it over the data file in one atomic step and syncs the directory, so a crash while
+ * saving leaves either the previous file or the new one. Closing the writer without committing discards the temporary file.
+ *
+ * @author Sujal Manandhar
+ */
+public class RecordWriter implements Closeable {
+
+    static final int BUFFER_SIZE = 1 << 20; // Bytes encoded before each write to the file
+    private static final byte[] SEPARATOR = DataManager.SEPARATOR.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.UTF_8);
+
+    private final Path path; // The data file
+    private final Path temp; // The file written until the records are committed
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private boolean committed;
+
+    /**
+     * Starts writing a new version of a data file.
+     *
+     * @param path The data file to replace.
+     * @throws IOException If the temporary file cannot be created.
+     */
+    public RecordWriter(Path path) throws IOException {
+        this(path, ByteBuffer.allocate(BUFFER_SIZE));
+    }
+
+    /**
+     * Starts writing a new version of a data file, encoding into a buffer the caller keeps
+     * between saves. No other writer may use the buffer until this one is closed.
+     *
+     * @param path The data file to replace.
+     * @param buffer The buffer to encode records into.
+     * @throws IOException If the temporary file cannot be created.
+     */
+    RecordWriter(Path path, ByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.buffer = buffer;
+        buffer.clear(); // Drop anything left by a writer that failed part way
+        this.temp = Paths.get(path + ".tmp");
+        this.channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Writes an int field.
+     *
+     * @param value The value.
+     * @return This writer.
+     * @throws IOException If the file cannot be written.
+     */
+    public RecordWriter writeInt(int value) throws IOException {
+        ensure(11 + SEPARATOR.length); // Sign and ten digits
+        long v = value;
+        if (v < 0) {
+            buffer.put((byte) '-');
+            v = -v;
+        }
+        int digits = 1;
+        for (long p = 10; p <= v; p *= 10) {
+            digits++;
+        }
+        int end = buffer.position() + digits;
+        for (int i = end - 1; i >= buffer.position(); i--) {
+            buffer.put(i, (byte) ('0' + v % 10));
+            v /= 10;
+        }
+        buffer.position(end);
+        buffer.put(SEPARATOR);
+        return this;
+    }
+
+    /**
+     * Writes a date field as an ISO date, yyyy-MM-dd.
+     *
+     * @param date The date.
+     * @return This writer.
+     * @throws IOException If the file cannot be written.
+     */
+    public RecordWriter writeDate(LocalDate date) throws IOException {
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            return writeRaw(date.toString()); // Outside yyyy; let LocalDate add the sign
+        }
+        ensure(10 + SEPARATOR.length);
+        putDigits(year, 4);
+        buffer.put((byte) '-');
+        putDigits(date.getMonthValue(), 2);
+        buffer.put((byte) '-');
+        putDigits(date.getDayOfMonth(), 2);
+        buffer.put(SEPARATOR);
+        return this;
+    }
+
+    /**
+     * Writes a text field, escaped so it can hold a separator or a line break.
+     *
+     * @param value The text; null is written as "null".
+     * @return This writer.
+     * @throws IOException If the file cannot be written.
+     */
+    public RecordWriter writeString(String value) throws IOException {
+        if (value == null) {
+            ensure(NULL.length + SEPARATOR.length);
+            buffer.put(NULL).put(SEPARATOR);
+            return this;
+        }
+        int length = value.length();
+        if (length * 2 + SEPARATOR.length > buffer.capacity() || !isAscii(value)) {
+            return writeRaw(DataManager.escape(value));
+        }
+        ensure(length * 2 + SEPARATOR.length); // Every character escaped at worst
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == ':' || c == DataManager.ESCAPE) {
+                buffer.put((byte) DataManager.ESCAPE).put((byte) c);
+            } else if (c == '\n') {
+                buffer.put((byte) DataManager.ESCAPE).put((byte) 'n');
+            } else if (c == '\r') {
+                buffer.put((byte) DataManager.ESCAPE).put((byte) 'r');
+            } else {
+                buffer.put((byte) c);
+            }
+        }
+        buffer.put(SEPARATOR);
+        return this;
+    }
+
+    /**
+     * Ends the current record.
+     *
+     * @return This writer.
+     * @throws IOException If the file cannot be written.
+     */
+    public RecordWriter endRecord() throws IOException {
+        ensure(1);
+        buffer.put((byte) '\n');
+        return this;
+    }
+
+    /**
+     * Writes out the remaining records, syncs the file to disk, moves it over the data file and
+     * syncs the directory so the move itself is on disk.
+     *
+     * @throws IOException If the file cannot be written or moved.
+     */
+    public void commit() throws IOException {
+        flush();
+        channel.force(true);
+        channel.close();
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        committed = true;
+        syncDirectory(path);
+    }
+
+    /**
+     * Syncs the directory holding a file to disk, so a file just moved into it is still there
+     * after a crash. Some platforms, such as Windows, cannot open a directory to sync it; there
+     * the failure is ignored.
+     *
+     * @param path A file in the directory.
+     */
+    static void syncDirectory(Path path) {
+        Path dir = path.toAbsolutePath().getParent();
+        if (dir == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ex) {
+            // Directories cannot be synced here; the file itself is already on disk
+        }
+    }
+
+    /**
+     * Closes the writer, discarding the records written if they were not committed.
+     *
+     * @throws IOException If the temporary file cannot be removed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!committed) {
+            channel.close();
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Writes a field that is already escaped.
+     *
+     * @param field The escaped field.
+     * @return This writer.
+     * @throws IOException If the file cannot be written.
+     */
+    private RecordWriter writeRaw(String field) throws IOException {
+        byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length + SEPARATOR.length > buffer.capacity()) {
+            flush();
+            ByteBuffer large = ByteBuffer.wrap(bytes);
+            while (large.hasRemaining()) {
+                channel.write(large);
+            }
+            ensure(SEPARATOR.length);
+        } else {
+            ensure(bytes.length + SEPARATOR.length);
+            buffer.put(bytes);
+        }
+        buffer.put(SEPARATOR);
+        return this;
+    }
+
+    /**
+     * Makes room in the buffer, writing it to the file if it is too full.
+     *
+     * @param bytes The number of bytes about to be encoded.
+     * @throws IOException If the file cannot be written.
+     */
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the buffer to the file and empties it.
+     *
+     * @throws IOException If the file cannot be written.
+     */
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Encodes a number as a fixed number of digits, with leading zeros.
+     *
+     * @param value The number, not negative.
+     * @param digits The number of digits.
+     */
+    private void putDigits(int value, int digits) {
+        int end = buffer.position() + digits;
+        for (int i = end - 1; i >= buffer.position(); i--) {
+            buffer.put(i, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+        buffer.position(end);
+    }
+
+    /**
+     * Checks whether every character of a string is ASCII, so it encodes as one byte each.
+     *
+     * @param value The string.
+     * @return True if the string is all ASCII.
+     */
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,348 @@
+package bcu.cmp5332.bookingsystem.data;
+
+import bcu.cmp5332.bookingsystem.data.BookingDataManager.BookingRecord;
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Booking;
+import bcu.cmp5332.bookingsystem.model.ChangeTracker;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * Loads and stores flights, customers and bookings as segments of the text files, so a save only
+ * rewrites the segments holding records that changed. Each segment covers one block of
+ * {@link #SEGMENT_SIZE} IDs and is written in the same format as the single text file it splits,
+ * except that each booking line starts with the booking ID:
+ *
+ * <pre>
+ * segments/flights-N.txt    the flights with IDs from N * SEGMENT_SIZE up to (N + 1) * SEGMENT_SIZE - 1
+ * segments/customers-N.txt  the customers with those IDs
+ * segments/bookings-N.txt   the bookings of those customers, as bookingId::customerId::flightId::...
+ * </pre>
+ *
+ * The IDs recorded by the system's {@link ChangeTracker} pick the segments to rewrite. Each
+ * segment is replaced atomically through a {@link RecordWriter}, and a segment left with no
+ * records is deleted. Segments are loaded in ID order: every flight, then every customer, then
+ * every booking. Bookings are grouped by customer in the segments, so they are sorted by booking
+ * ID before they are added and keep their IDs and the order they were made.
+ *
+ * When there are no segments yet, the text files are loaded instead and the next save writes
+ * every segment, into a new directory that is moved into place once it is complete.
+ *
+ * @author Sujal Manandhar
+ */
+public class SegmentedDataManager implements DataManager {
+
+    public final String RESOURCE = "resources/data/segments";
+
+    public static final int SEGMENT_SIZE = 1000; // IDs covered by each segment
+
+    private static final String FLIGHTS = "flights-";
+    private static final String CUSTOMERS = "customers-";
+    private static final String BOOKINGS = "bookings-";
+    private static final String SUFFIX = ".txt";
+
+    private final boolean mapped; // Read the segments through a memory mapping rather than a stream
+    private final RecordBuffer buffer = new RecordBuffer(); // Lent to the writer of every segment saved
+
+    public SegmentedDataManager() {
+        this(false);
+    }
+
+    public SegmentedDataManager(boolean mapped) {
+        this.mapped = mapped;
+    }
+
+    /**
+     * Writes a record as one line of a segment.
+     *
+     * @param <T> The type of record
+     */
+    private interface Writer<T> {
+        void write(RecordWriter out, T record) throws IOException;
+    }
+
+    @Override
+    public void loadData(FlightBookingSystem fbs) throws IOException, FlightBookingSystemException {
+        Path dir = Paths.get(RESOURCE);
+        if (!Files.isDirectory(dir)) {
+            // First start with segmented storage: read the text files, the next save writes the segments
+            new FlightDataManager(mapped).loadData(fbs);
+            new CustomerDataManager(mapped).loadData(fbs);
+            new BookingDataManager(mapped).loadData(fbs);
+            return;
+        }
+        for (Path path : segments(dir, FLIGHTS)) {
+            try (RecordReader in = RecordReader.open(path, mapped)) {
+                while (in.nextRecord()) {
+                    fbs.addFlight(FlightDataManager.parse(in));
+                }
+            } catch (FlightBookingSystemException ex) {
+                throw new FlightBookingSystemException(path + ": " + ex.getMessage());
+            }
+        }
+        for (Path path : segments(dir, CUSTOMERS)) {
+            try (RecordReader in = RecordReader.open(path, mapped)) {
+                while (in.nextRecord()) {
+                    fbs.addCustomer(CustomerDataManager.parse(in));
+                }
+            } catch (FlightBookingSystemException ex) {
+                throw new FlightBookingSystemException(path + ": " + ex.getMessage());
+            }
+        }
+        Map<Integer, BookingRecord> bookings = new TreeMap<>(); // Booking ID -> booking, in booking order
+        for (Path path : segments(dir, BOOKINGS)) {
+            try (RecordReader in = RecordReader.open(path, mapped)) {
+                while (in.nextRecord()) {
+                    int id = parseBookingId(in);
+                    if (bookings.put(id, BookingRecord.parse(in)) != null) {
+                        throw new FlightBookingSystemException("Duplicate booking ID " + id + " on line " + in.lineNumber());
+                    }
+                }
+            } catch (FlightBookingSystemException ex) {
+                throw new FlightBookingSystemException(path + ": " + ex.getMessage());
+            }
+        }
+        for (Map.Entry<Integer, BookingRecord> entry : bookings.entrySet()) {
+            Booking booking = entry.getValue().link(fbs);
+            booking.setId(entry.getKey());
+            fbs.addBooking(booking);
+        }
+    }
+
+    // parses the booking ID that leads a line of a booking segment
+    private static int parseBookingId(RecordReader in) throws FlightBookingSystemException {
+        try {
+            int id = in.nextInt();
+            if (id <= 0) {
+                throw new NumberFormatException("Booking ID " + id + " is not positive");
+            }
+            return id;
+        } catch (NumberFormatException ex) {
+            throw new FlightBookingSystemException("Unable to parse booking ID on line " + in.lineNumber()
+                + "\nError: " + ex);
+        }
+    }
+
+    // writes a booking as one line of a booking segment
+    private static void writeBooking(RecordWriter out, Booking booking) throws IOException {
+        out.writeInt(booking.getId());
+        BookingDataManager.write(out, booking);
+    }
+
+    @Override
+    public synchronized void storeData(FlightBookingSystem fbs) throws IOException {
+        Path dir = Paths.get(RESOURCE);
+        if (Files.isDirectory(dir)) {
+            storeSegments(fbs, dir, false, buffer);
+            return;
+        }
+        // First save: write every segment to a new directory and move it into place once complete
+        Path temp = Paths.get(RESOURCE + ".tmp");
+        if (Files.isDirectory(temp)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(temp)) {
+                for (Path path : files) {
+                    Files.delete(path); // Left by an interrupted first save
+                }
+            }
+        }
+        Files.createDirectories(temp);
+        storeSegments(fbs, temp, true, buffer);
+        Files.move(temp, dir, StandardCopyOption.ATOMIC_MOVE);
+        RecordWriter.syncDirectory(dir);
+    }
+
+    /**
+     * Rewrites the flight, customer and booking segments that changed.
+     *
+     * @param fbs The flight booking system.
+     * @param dir The segment directory.
+     * @param all True to write every segment whether it changed or not.
+     * @param buffer The buffer to write the segments through.
+     * @throws IOException If a segment cannot be written.
+     */
+    private static void storeSegments(FlightBookingSystem fbs, Path dir, boolean all, RecordBuffer buffer)
+            throws IOException {
+        store(fbs, dir, all, ChangeTracker.Kind.FLIGHTS, FLIGHTS, fbs.getFlightsToStore(), Flight::getId,
+                FlightDataManager::write, buffer);
+        store(fbs, dir, all, ChangeTracker.Kind.CUSTOMERS, CUSTOMERS, fbs.getCustomers(), Customer::getId,
+                CustomerDataManager::write, buffer);
+        storeBookings(fbs, dir, all, buffer);
+    }
+
+    /**
+     * Rewrites the segments of flights or customers holding a changed ID.
+     *
+     * @param <T> The type of record
+     * @param fbs The flight booking system.
+     * @param dir The segment directory.
+     * @param all True to write every segment whether it changed or not.
+     * @param kind The kind of record, as tracked for changes.
+     * @param prefix The start of the segment file names.
+     * @param records Every record of that kind in the system.
+     * @param id Retrieves the ID of a record.
+     * @param writer Writes a record as one line.
+     * @param buffer The buffer to write the segments through.
+     * @throws IOException If a segment cannot be written.
+     */
+    private static <T> void store(FlightBookingSystem fbs, Path dir, boolean all, ChangeTracker.Kind kind,
+            String prefix, Collection<T> records, ToIntFunction<T> id, Writer<T> writer, RecordBuffer buffer)
+            throws IOException {
+        Set<Integer> changed = fbs.getChanges().take(kind);
+        if (changed == null && !all) {
+            return; // No record of this kind has changed since the segments were written
+        }
+        try {
+            Map<Integer, List<T>> segments = emptySegments(changed);
+            for (T record : records) {
+                int segment = segmentOf(id.applyAsInt(record));
+                List<T> lines = all ? segments.computeIfAbsent(segment, k -> new ArrayList<>()) : segments.get(segment);
+                if (lines != null) {
+                    lines.add(record);
+                }
+            }
+            for (Map.Entry<Integer, List<T>> segment : segments.entrySet()) {
+                writeSegment(dir, prefix, segment.getKey(), segment.getValue(), writer, buffer);
+            }
+        } catch (IOException | RuntimeException ex) {
+            fbs.getChanges().restore(kind, changed); // Save them next time
+            throw ex;
+        }
+    }
+
+    /**
+     * Rewrites the booking segments of the customers whose bookings changed. Each segment is
+     * filled from the per-customer booking index, so only the bookings of the customers it covers
+     * are read.
+     *
+     * @param fbs The flight booking system.
+     * @param dir The segment directory.
+     * @param all True to write every segment whether it changed or not.
+     * @param buffer The buffer to write the segments through.
+     * @throws IOException If a segment cannot be written.
+     */
+    private static void storeBookings(FlightBookingSystem fbs, Path dir, boolean all, RecordBuffer buffer)
+            throws IOException {
+        Set<Integer> changed = fbs.getChanges().take(ChangeTracker.Kind.BOOKINGS);
+        if (changed == null && !all) {
+            return; // No booking has changed since the segments were written
+        }
+        try {
+            Map<Integer, List<Booking>> segments = emptySegments(changed);
+            Set<Integer> customerIds = new HashSet<>();
+            for (Customer customer : fbs.getCustomers()) {
+                customerIds.add(customer.getId());
+            }
+            if (all) {
+                for (Booking booking : fbs.getBookingsToStore()) {
+                    segments.putIfAbsent(segmentOf(booking.getCustomer().getId()), new ArrayList<>());
+                }
+            }
+            for (Map.Entry<Integer, List<Booking>> segment : segments.entrySet()) {
+                int first = segment.getKey() * SEGMENT_SIZE;
+                for (int customerId = first; customerId < first + SEGMENT_SIZE; customerId++) {
+                    if (customerIds.contains(customerId)) { // Not the bookings of deleted customers
+                        segment.getValue().addAll(fbs.bookingsForCustomer(customerId));
+                    }
+                }
+                writeSegment(dir, BOOKINGS, segment.getKey(), segment.getValue(), SegmentedDataManager::writeBooking,
+                        buffer);
+            }
+        } catch (IOException | RuntimeException ex) {
+            fbs.getChanges().restore(ChangeTracker.Kind.BOOKINGS, changed); // Save them next time
+            throw ex;
+        }
+    }
+
+    /**
+     * Finds the segments holding a set of IDs.
+     *
+     * @param <T> The type of record
+     * @param ids The IDs, or null for none.
+     * @return An empty list of records for each segment, in segment order.
+     */
+    private static <T> Map<Integer, List<T>> emptySegments(Set<Integer> ids) {
+        Map<Integer, List<T>> segments = new TreeMap<>();
+        if (ids != null) {
+            for (int id : ids) {
+                segments.putIfAbsent(segmentOf(id), new ArrayList<>());
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Replaces one segment file with a set of records, or deletes it if there are none.
+     *
+     * @param <T> The type of record
+     * @param dir The segment directory.
+     * @param prefix The start of the segment file name.
+     * @param segment The segment number.
+     * @param records The records in the segment.
+     * @param writer Writes a record as one line.
+     * @param buffer The buffer to write the segment through.
+     * @throws IOException If the segment cannot be written.
+     */
+    private static <T> void writeSegment(Path dir, String prefix, int segment, List<T> records, Writer<T> writer,
+            RecordBuffer buffer) throws IOException {
+        Path path = dir.resolve(prefix + segment + SUFFIX);
+        if (records.isEmpty()) {
+            Files.deleteIfExists(path);
+            return;
+        }
+        try (RecordWriter out = buffer.open(path)) {
+            for (T record : records) {
+                writer.write(out, record);
+            }
+            out.commit();
+        }
+    }
+
+    /**
+     * Lists the segment files of one kind of record.
+     *
+     * @param dir The segment directory.
+     * @param prefix The start of the segment file names.
+     * @return The segment files, in segment order.
+     * @throws IOException If the directory cannot be read.
+     */
+    private static Collection<Path> segments(Path dir, String prefix) throws IOException {
+        Map<Integer, Path> segments = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, prefix + "*" + SUFFIX)) {
+            for (Path path : files) {
+                String name = path.getFileName().toString();
+                try {
+                    segments.put(Integer.parseInt(name.substring(prefix.length(), name.length() - SUFFIX.length())), path);
+                } catch (NumberFormatException ex) {
+                    // Not a segment file
+                }
+            }
+        }
+        return segments.values();
+    }
+
+    /**
+     * Finds the segment holding an ID.
+     *
+     * @param id The ID.
+     * @return The segment number.
+     */
+    private static int segmentOf(int id) {
+        return Math.floorDiv(id, SEGMENT_SIZE);
+    }
+}
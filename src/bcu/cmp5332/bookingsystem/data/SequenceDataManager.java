@@ -0,0 +1,93 @@
+package bcu.cmp5332.bookingsystem.data;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Loads and stores the highest flight, customer and group booking IDs handed out, so no ID is
+ * allocated twice across restarts, and the sequence number of the last journaled command the
+ * save holds, so replaying the journal does not apply it twice. Deleted flights and customers are not written to the data
+ * files, so the highest ID loaded from them can be lower than one already used. Each line is one
+ * sequence:
+ *
+ * <pre>
+ * name::lastId::
+ * </pre>
+ *
+ * Loading raises each sequence to the value saved, so a sequence starts from the larger of that
+ * and the highest ID loaded. The file is only rewritten when a sequence has moved since it was
+ * loaded or last saved.
+ *
+ * @author Sujal Manandhar
+ */
+public class SequenceDataManager implements DataManager {
+
+    public final String RESOURCE = "resources/data/sequences.txt";
+
+    private final RecordBuffer buffer = new RecordBuffer(); // Lent to the writer of every save
+
+    private static final String FLIGHT = "flight";
+    private static final String CUSTOMER = "customer";
+    private static final String GROUP = "group";
+    private static final String JOURNAL = "journal";
+
+    private volatile int[] saved; // Flight, customer, group and journal sequences in the file, null if not read yet
+
+    @Override
+    public void loadData(FlightBookingSystem fbs) throws IOException, FlightBookingSystemException {
+        Path path = Paths.get(RESOURCE);
+        if (!Files.exists(path)) {
+            return; // No IDs saved yet: the data files hold every ID in use
+        }
+        try (RecordReader in = RecordReader.open(path, false)) {
+            while (in.nextRecord()) {
+                try {
+                    String name = in.nextString();
+                    int lastId = in.nextInt();
+                    if (FLIGHT.equals(name)) {
+                        fbs.reserveFlightIds(lastId);
+                    } else if (CUSTOMER.equals(name)) {
+                        fbs.reserveCustomerIds(lastId);
+                    } else if (GROUP.equals(name)) {
+                        fbs.reserveGroupIds(lastId);
+                    } else if (JOURNAL.equals(name)) {
+                        fbs.reserveJournalSequence(lastId);
+                    }
+                } catch (NumberFormatException ex) {
+                    throw new FlightBookingSystemException("Unable to parse ID sequence on line " + in.lineNumber()
+                        + "\nError: " + ex);
+                }
+            }
+        }
+        saved = sequences(fbs);
+    }
+
+    @Override
+    public synchronized void storeData(FlightBookingSystem fbs) throws IOException {
+        int[] sequences = sequences(fbs);
+        Path path = Paths.get(RESOURCE);
+        if (Arrays.equals(sequences, saved) && Files.exists(path)) {
+            return; // no ID has been handed out since the file was written
+        }
+        try (RecordWriter out = buffer.open(path)) {
+            out.writeString(FLIGHT).writeInt(sequences[0]).endRecord();
+            out.writeString(CUSTOMER).writeInt(sequences[1]).endRecord();
+            out.writeString(GROUP).writeInt(sequences[2]).endRecord();
+            out.writeString(JOURNAL).writeInt(sequences[3]).endRecord();
+            out.commit();
+        }
+        saved = sequences;
+    }
+
+    // the flight, customer, group and journal sequences of the system
+    private static int[] sequences(FlightBookingSystem fbs) {
+        return new int[] {fbs.getLastFlightId(), fbs.getLastCustomerId(), fbs.getLastGroupId(),
+            fbs.getLastJournalSequence()};
+    }
+}
@@ -0,0 +1,136 @@
+package bcu.cmp5332.bookingsystem.data;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads the records of a data file as a stream of characters.
+ *
+ * Characters are read in large blocks into one reusable buffer, and each line is tokenized where
+ * it lies in the buffer. The buffer only grows if a single line does not fit in it, so a file of
+ * any size is read in constant memory, and nothing is allocated per line.
+ *
+ * @author Sujal Manandhar
+ */
+public class StreamRecordReader extends RecordReader {
+
+    private static final int BUFFER_SIZE = 1 << 16; // Characters read from the stream at a time
+
+    private final Reader in;
+    private char[] buffer = new char[BUFFER_SIZE];
+    private int limit; // Number of characters in the buffer
+    private int lineNumber; // Number of the current line, counting from 1
+
+    /**
+     * Opens a data file, encoded as UTF-8.
+     *
+     * @param path The file to read.
+     * @throws IOException If the file cannot be opened.
+     */
+    public StreamRecordReader(Path path) throws IOException {
+        this(new InputStreamReader(Files.newInputStream(path), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Constructs a reader over a character stream.
+     *
+     * @param in The stream; it is closed when this reader is closed.
+     */
+    public StreamRecordReader(Reader in) {
+        this.in = in;
+    }
+
+    @Override
+    public boolean nextRecord() throws IOException {
+        if (lineEnd >= 0) {
+            position = lineEnd;
+        } else {
+            lineNumber = 1; // The first line has no line break before it
+        }
+        while (true) {
+            if (position == limit && !fill()) {
+                lineEnd = position;
+                return false;
+            }
+            char c = buffer[position];
+            if (c == '\n') {
+                lineNumber++;
+                position++;
+            } else if (c == '\r') {
+                position++;
+            } else {
+                break;
+            }
+        }
+        int end = position;
+        while (true) {
+            if (end == limit) {
+                int scanned = end - position;
+                boolean more = fill(); // May move the line to the start of the buffer
+                end = position + scanned;
+                if (!more) {
+                    break;
+                }
+            }
+            if (buffer[end] == '\n') {
+                break;
+            }
+            end++;
+        }
+        if (end > position && buffer[end - 1] == '\r') {
+            end--;
+        }
+        lineEnd = end;
+        return true;
+    }
+
+    @Override
+    public int lineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    protected int charAt(int offset) {
+        return buffer[offset];
+    }
+
+    @Override
+    protected String text(int start, int end) {
+        return new String(buffer, start, end - start);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * Reads more characters into the buffer, first moving the unread ones to its start, and
+     * growing it if the unread characters fill it.
+     *
+     * @return True if any characters were read, false at the end of the stream.
+     * @throws IOException If the stream cannot be read.
+     */
+    private boolean fill() throws IOException {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        if (limit == buffer.length) {
+            char[] larger = new char[buffer.length * 2];
+            System.arraycopy(buffer, 0, larger, 0, limit);
+            buffer = larger;
+        }
+        int read = in.read(buffer, limit, buffer.length - limit);
+        if (read <= 0) {
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+}
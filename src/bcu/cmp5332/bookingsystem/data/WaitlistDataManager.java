@@ -0,0 +1,89 @@
+package bcu.cmp5332.bookingsystem.data;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.ChangeTracker;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+import bcu.cmp5332.bookingsystem.model.WaitlistEntry;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+
+/**
+ * Loads and stores the flight waitlists. Each line is one waiting customer:
+ * 
+ * <pre>
+ * flightId::customerId::bookingDate::priority::
+ * </pre>
+ * 
+ * Lines are written in the order customers will be booked, so reloading them keeps that order.
+ * A line whose flight or customer no longer exists, or who is already booked, is skipped.
+ * 
+ * @author Sujal Manandhar
+ */
+public class WaitlistDataManager implements DataManager {
+
+    public final String RESOURCE = "resources/data/waitlist.txt";
+
+    private final RecordBuffer buffer = new RecordBuffer(); // Lent to the writer of every save
+
+    private final boolean mapped; // Read the file through a memory mapping rather than a stream
+
+    public WaitlistDataManager() {
+        this(false);
+    }
+
+    public WaitlistDataManager(boolean mapped) {
+        this.mapped = mapped;
+    }
+
+    @Override
+    public void loadData(FlightBookingSystem fbs) throws IOException, FlightBookingSystemException {
+        File file = new File(RESOURCE);
+        if (!file.exists()) {
+            return; // No customer has joined a waitlist yet
+        }
+        try (RecordReader in = RecordReader.open(file.toPath(), mapped)) {
+            while (in.nextRecord()) {
+                try {
+                    int flightId = in.nextInt();
+                    int customerId = in.nextInt();
+                    fbs.joinWaitlist(customerId, flightId, in.nextDate(), in.nextInt());
+                } catch (FlightBookingSystemException ex) {
+                    // Stale entry, left by a version that kept waitlists of deleted flights and customers
+                } catch (NumberFormatException | DateTimeParseException ex) {
+                    throw new FlightBookingSystemException("Unable to parse waitlist entry on line " + in.lineNumber()
+                        + "\nError: " + ex);
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void storeData(FlightBookingSystem fbs) throws IOException {
+        Path path = Paths.get(RESOURCE);
+        Set<Integer> changed = fbs.getChanges().take(ChangeTracker.Kind.WAITLISTS);
+        if (changed == null && Files.exists(path)) {
+            return; // no waitlist has changed since the file was written
+        }
+        try (RecordWriter out = buffer.open(path)) {
+            for (int flightId : fbs.getWaitlistDepths().keySet()) {
+                for (WaitlistEntry entry : fbs.getWaitlist(flightId)) {
+                    out.writeInt(entry.getFlightId())
+                       .writeInt(entry.getCustomerId())
+                       .writeDate(entry.getBookingDate())
+                       .writeInt(entry.getPriority())
+                       .endRecord();
+                }
+            }
+            out.commit();
+        } catch (IOException | RuntimeException ex) {
+            fbs.getChanges().restore(ChangeTracker.Kind.WAITLISTS, changed); // save them next time
+            throw ex;
+        }
+    }
+}
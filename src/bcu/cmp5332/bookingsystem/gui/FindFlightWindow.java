@@ -0,0 +1,116 @@
+package bcu.cmp5332.bookingsystem.gui;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * The FindFlightWindow class represents a GUI window to look up a flight by its flight number
+ * and departure date in a Flight Booking System.
+ * 
+ * @author Sujal Manandhar
+ */
+public class FindFlightWindow extends JFrame implements ActionListener {
+
+    private JFrame parentFrame;
+    private JTextField flightNumberField = new JTextField();
+    private JTextField departureDateField = new JTextField();
+    private JButton confirmBtn = new JButton("Confirm");
+    private FlightBookingSystem fbs;
+
+    /**
+     * Constructs a FindFlightWindow with a specified parent frame and FlightBookingSystem instance.
+     *
+     * @param parentFrame The parent JFrame from which this window is launched.
+     * @param fbs         The FlightBookingSystem instance associated with the application.
+     */
+    public FindFlightWindow(JFrame parentFrame, FlightBookingSystem fbs) {
+        this.parentFrame = parentFrame;
+        this.fbs = fbs;
+        initialize();
+    }
+
+    /**
+     * Initializes the FindFlightWindow by setting up its components and layout.
+     */
+    private void initialize() {
+        setTitle("Find Flight by Number and Date");
+        setSize(350, 220);
+
+        JPanel topPanel = new JPanel();
+        topPanel.setLayout(new GridLayout(2, 2));
+        topPanel.add(new JLabel("Flight Number: "));
+        topPanel.add(flightNumberField);
+        topPanel.add(new JLabel("Departure Date (YYYY-MM-DD): "));
+        topPanel.add(departureDateField);
+
+        JPanel bottomPanel = new JPanel();
+        bottomPanel.setLayout(new GridLayout(1, 1));
+        bottomPanel.add(confirmBtn);
+
+        confirmBtn.addActionListener(this);
+
+        getContentPane().add(topPanel, BorderLayout.NORTH);
+        getContentPane().add(bottomPanel, BorderLayout.SOUTH);
+
+        setLocationRelativeTo(parentFrame);
+        setVisible(true);
+    }
+
+    /**
+     * Handles the action events generated by the Confirm button.
+     *
+     * @param ae The ActionEvent representing the user's action.
+     */
+    @Override
+    public void actionPerformed(ActionEvent ae) {
+        if (ae.getSource() == confirmBtn) {
+            findFlight();
+        }
+    }
+
+    /**
+     * Looks up the flight with the entered number and departure date and displays it in a table.
+     * Shows an error message if the date is invalid or no flight matches.
+     */
+    private void findFlight() {
+        try {
+            String flightNumber = flightNumberField.getText().trim();
+            LocalDate departureDate = LocalDate.parse(departureDateField.getText().trim());
+            Flight flight = fbs.findFlight(flightNumber, departureDate);
+
+            String[] columns = {"Flight ID", "Flight No", "Origin", "Destination", "Departure Date", "Seats", "Price"};
+            Object[][] data = {{
+                flight.getId(), flight.getFlightNumber(), flight.getOrigin(), flight.getDestination(),
+                flight.getDepartureDate(), flight.getNumberOfSeats(), flight.getPrice()
+            }};
+
+            JTable table = new JTable(data, columns);
+            displayTableInFrame(table);
+        } catch (DateTimeParseException ex) {
+            JOptionPane.showMessageDialog(this, "Date must be in YYYY-MM-DD format.", "Invalid Date", JOptionPane.ERROR_MESSAGE);
+        } catch (FlightBookingSystemException ex) {
+            JOptionPane.showMessageDialog(this, ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Displays a JFrame containing the provided JTable within a scrollable pane.
+     *
+     * @param table The JTable to be displayed.
+     */
+    private void displayTableInFrame(JTable table) {
+        JFrame frame = new JFrame("Flight " + flightNumberField.getText());
+        frame.setSize(600, 150);
+        frame.setLocationRelativeTo(this);
+        frame.add(new JScrollPane(table));
+        frame.setVisible(true);
+    }
+}
@@ -1,36 +1,36 @@
-package bcu.cmp5332.bookingsystem.main;
-
-import bcu.cmp5332.bookingsystem.data.FlightBookingSystemData;
-import bcu.cmp5332.bookingsystem.commands.Command;
-import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
-
-import java.io.*;
-
-public class Main {
-
-    public static void main(String[] args) throws IOException, FlightBookingSystemException {
-        
-        FlightBookingSystem fbs = FlightBookingSystemData.load();
-
-        BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
-
-        System.out.println("Flight Booking System");
-        System.out.println("Enter 'help' to see a list of available commands.");
-        while (true) {
-            System.out.print("> ");
-            String line = br.readLine();
-            if (line.equals("exit")) {
-                break;
-            }
-
-            try {
-                Command command = CommandParser.parse(line);
-                command.execute(fbs);
-            } catch (FlightBookingSystemException ex) {
-                System.out.println(ex.getMessage());
-            }
-        }
-        FlightBookingSystemData.store(fbs);
-        System.exit(0);
-    }
-}
+package bcu.cmp5332.bookingsystem.main;
+
+import bcu.cmp5332.bookingsystem.data.FlightBookingSystemData;
+import bcu.cmp5332.bookingsystem.commands.Command;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+import java.io.*;
+
+public class Main {
+
+    public static void main(String[] args) throws IOException, FlightBookingSystemException {
+        
+        FlightBookingSystem fbs = FlightBookingSystemData.load(true); // the GUI runs on its own thread alongside this loop
+
+        BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
+
+        System.out.println("Flight Booking System");
+        System.out.println("Enter 'help' to see a list of available commands.");
+        while (true) {
+            System.out.print("> ");
+            String line = br.readLine();
+            if (line.equals("exit")) {
+                break;
+            }
+
+            try {
+                Command command = CommandParser.parse(line);
+                FlightBookingSystemData.execute(command, fbs); // journaled before it is applied
+            } catch (FlightBookingSystemException ex) {
+                System.out.println(ex.getMessage());
+            }
+        }
+        FlightBookingSystemData.store(fbs);
+        System.exit(0);
+    }
+}
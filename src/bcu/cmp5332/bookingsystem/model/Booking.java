@@ -1,86 +1,152 @@
-package bcu.cmp5332.bookingsystem.model;
-
-import java.time.LocalDate;
-
-/**
- * Represents a booking made by a customer for a flight.
- * 
- * This class encapsulates information about the customer making the booking,
- * the flight being booked, and the date when the booking was made.
- * 
- * @author Sujal Manandhar
- *
- */
-public class Booking {
-    
-    private Customer customer; // The customer making the booking
-    private Flight flight; // The flight being booked
-    private LocalDate bookingDate; // The date when the booking was made
-    
-    /**
-     * Constructs a new Booking object with the specified customer, flight, and booking date.
-     * 
-     * @param customer The customer making the booking
-     * @param flight The flight being booked
-     * @param bookingDate The date when the booking was made
-     */
-    public Booking(Customer customer, Flight flight, LocalDate bookingDate) {
-        this.customer = customer;
-        this.flight = flight;
-        this.bookingDate = bookingDate;
-    }
-    
-    /**
-     * Retrieves the customer associated with this booking.
-     * 
-     * @return The customer object
-     */
-    public Customer getCustomer() {
-        return customer;
-    }
-    
-    /**
-     * Sets the customer associated with this booking.
-     * 
-     * @param newCustomer The new customer object
-     */
-    public void setCustomer(Customer newCustomer) {
-        this.customer = newCustomer;
-    }
-    
-    /**
-     * Retrieves the flight associated with this booking.
-     * 
-     * @return The flight object
-     */
-    public Flight getFlight() {
-        return flight;
-    }
-    
-    /**
-     * Sets the flight associated with this booking.
-     * 
-     * @param newFlight The new flight object
-     */
-    public void setFlight(Flight newFlight) {
-        this.flight = newFlight;
-    }
-    
-    /**
-     * Retrieves the date when this booking was made.
-     * 
-     * @return The booking date
-     */
-    public LocalDate getBookingDate() {
-        return bookingDate;
-    }
-    
-    /**
-     * Sets the date when this booking was made.
-     * 
-     * @param newBookingDate The new booking date
-     */
-    public void setBookingDate(LocalDate newBookingDate) {
-        this.bookingDate = newBookingDate;
-    }
-}
+package bcu.cmp5332.bookingsystem.model;
+
+import java.time.LocalDate;
+
+/**
+ * Represents a booking made by a customer for a flight.
+ * 
+ * This class encapsulates information about the customer making the booking,
+ * the flight being booked, and the date when the booking was made.
+ * 
+ * @author Sujal Manandhar
+ *
+ */
+public class Booking {
+    
+    private int id; // The unique identifier of the booking, assigned by the booking system
+    private Customer customer; // The customer making the booking
+    private Flight flight; // The flight being booked
+    private LocalDate bookingDate; // The date when the booking was made
+    private int seat = -1; // The seat number on the flight's seat map, or -1 if no seat is assigned
+    private int groupId; // The group booking this booking belongs to, or 0 if it was booked on its own
+    
+    /**
+     * Constructs a new Booking object with the specified customer, flight, and booking date.
+     * 
+     * @param customer The customer making the booking
+     * @param flight The flight being booked
+     * @param bookingDate The date when the booking was made
+     */
+    public Booking(Customer customer, Flight flight, LocalDate bookingDate) {
+        this.customer = customer;
+        this.flight = flight;
+        this.bookingDate = bookingDate;
+    }
+    
+    /**
+     * Retrieves the unique identifier of this booking.
+     * 
+     * @return The booking ID, or 0 if the booking has not been added to the system yet
+     */
+    public int getId() {
+        return id;
+    }
+    
+    /**
+     * Sets the unique identifier of this booking.
+     * 
+     * @param id The new booking ID
+     */
+    public void setId(int id) {
+        this.id = id;
+    }
+    
+    /**
+     * Retrieves the customer associated with this booking.
+     * 
+     * @return The customer object
+     */
+    public Customer getCustomer() {
+        return customer;
+    }
+    
+    /**
+     * Sets the customer associated with this booking.
+     * 
+     * @param newCustomer The new customer object
+     */
+    public void setCustomer(Customer newCustomer) {
+        this.customer = newCustomer;
+    }
+    
+    /**
+     * Retrieves the flight associated with this booking.
+     * 
+     * @return The flight object
+     */
+    public Flight getFlight() {
+        return flight;
+    }
+    
+    /**
+     * Sets the flight associated with this booking.
+     * 
+     * @param newFlight The new flight object
+     */
+    public void setFlight(Flight newFlight) {
+        this.flight = newFlight;
+    }
+    
+    /**
+     * Retrieves the date when this booking was made.
+     * 
+     * @return The booking date
+     */
+    public LocalDate getBookingDate() {
+        return bookingDate;
+    }
+    
+    /**
+     * Sets the date when this booking was made.
+     * 
+     * @param newBookingDate The new booking date
+     */
+    public void setBookingDate(LocalDate newBookingDate) {
+        this.bookingDate = newBookingDate;
+    }
+    
+    /**
+     * Retrieves the seat assigned to this booking.
+     * 
+     * @return The seat number on the flight's seat map, or -1 if no seat is assigned
+     */
+    public int getSeat() {
+        return seat;
+    }
+    
+    /**
+     * Sets the seat assigned to this booking.
+     * 
+     * @param seat The seat number on the flight's seat map, or -1 for no seat
+     */
+    public void setSeat(int seat) {
+        this.seat = seat;
+    }
+    
+    /**
+     * Retrieves the group booking this booking belongs to.
+     * 
+     * @return The group ID, or 0 if the booking was booked on its own
+     */
+    public int getGroupId() {
+        return groupId;
+    }
+    
+    /**
+     * Sets the group booking this booking belongs to.
+     * 
+     * @param groupId The group ID, or 0 for a booking made on its own
+     */
+    public void setGroupId(int groupId) {
+        this.groupId = groupId;
+    }
+    
+    /**
+     * Retrieves the label of the seat assigned to this booking, for example "12C".
+     * 
+     * @return The seat label, or an empty string if no seat is assigned
+     */
+    public String getSeatLabel() {
+        return seat < 0 ? "" : flight.getSeatMap().label(seat);
+    }
+}
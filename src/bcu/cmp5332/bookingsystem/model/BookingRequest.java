@@ -0,0 +1,80 @@
+package bcu.cmp5332.bookingsystem.model;
+
+import java.time.LocalDate;
+
+/**
+ * A request to book a customer onto a flight, used to add many bookings in one batch with
+ * {@link FlightBookingSystem#addBookings(java.util.Collection, boolean)}.
+ * 
+ * @author Sujal Manandhar
+ *
+ */
+public class BookingRequest {
+
+    private final int customerId; // The ID of the customer making the booking
+    private final int flightId; // The ID of the flight being booked
+    private final LocalDate bookingDate; // The date when the booking was made
+    private final String seat; // The label of the seat wanted, or null for the first free seat
+
+    /**
+     * Constructs a request for the first free seat on a flight.
+     * 
+     * @param customerId The ID of the customer making the booking
+     * @param flightId The ID of the flight being booked
+     * @param bookingDate The date when the booking was made
+     */
+    public BookingRequest(int customerId, int flightId, LocalDate bookingDate) {
+        this(customerId, flightId, bookingDate, null);
+    }
+
+    /**
+     * Constructs a request for a specific seat on a flight.
+     * 
+     * @param customerId The ID of the customer making the booking
+     * @param flightId The ID of the flight being booked
+     * @param bookingDate The date when the booking was made
+     * @param seat The label of the seat wanted, for example "12C", or null for the first free seat
+     */
+    public BookingRequest(int customerId, int flightId, LocalDate bookingDate, String seat) {
+        this.customerId = customerId;
+        this.flightId = flightId;
+        this.bookingDate = bookingDate;
+        this.seat = seat;
+    }
+
+    /**
+     * Retrieves the ID of the customer making the booking.
+     * 
+     * @return The customer ID
+     */
+    public int getCustomerId() {
+        return customerId;
+    }
+
+    /**
+     * Retrieves the ID of the flight being booked.
+     * 
+     * @return The flight ID
+     */
+    public int getFlightId() {
+        return flightId;
+    }
+
+    /**
+     * Retrieves the date when the booking was made.
+     * 
+     * @return The booking date
+     */
+    public LocalDate getBookingDate() {
+        return bookingDate;
+    }
+
+    /**
+     * Retrieves the label of the seat wanted.
+     * 
+     * @return The seat label, or null for the first free seat
+     */
+    public String getSeat() {
+        return seat;
+    }
+}
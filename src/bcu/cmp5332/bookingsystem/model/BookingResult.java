@@ -0,0 +1,76 @@
+package bcu.cmp5332.bookingsystem.model;
+
+/**
+ * The outcome of one row of a batch of booking requests: either the booking that was made or
+ * the reason the row was rejected.
+ * 
+ * @author Sujal Manandhar
+ *
+ */
+public class BookingResult {
+
+    private final int row; // The position of the request in the batch, counting from 0
+    private final BookingRequest request; // The request this result is for
+    private final Booking booking; // The booking made, or null if the row was rejected
+    private final String error; // The reason the row was rejected, or null if it was booked
+
+    /**
+     * Constructs a result.
+     * 
+     * @param row The position of the request in the batch, counting from 0
+     * @param request The request this result is for
+     * @param booking The booking made, or null if the row was rejected
+     * @param error The reason the row was rejected, or null if it was booked
+     */
+    BookingResult(int row, BookingRequest request, Booking booking, String error) {
+        this.row = row;
+        this.request = request;
+        this.booking = booking;
+        this.error = error;
+    }
+
+    /**
+     * Retrieves the position of the request in the batch.
+     * 
+     * @return The row number, counting from 0
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * Retrieves the request this result is for.
+     * 
+     * @return The booking request
+     */
+    public BookingRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Retrieves the booking made for the request.
+     * 
+     * @return The booking, or null if the row was rejected
+     */
+    public Booking getBooking() {
+        return booking;
+    }
+
+    /**
+     * Retrieves the reason the row was rejected.
+     * 
+     * @return The error message, or null if the row was booked
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Checks whether the row was booked.
+     * 
+     * @return True if a booking was made for the request
+     */
+    public boolean isBooked() {
+        return booking != null;
+    }
+}
@@ -0,0 +1,122 @@
+package bcu.cmp5332.bookingsystem.model;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records which parts of the flight booking system have changed since they were last saved, so
+ * saving can skip the data that has not changed.
+ *
+ * Each kind of data has a dirty flag and the set of IDs changed since it was last saved: flight
+ * IDs for flights, customer IDs for customers, and for bookings the IDs of the customers whose
+ * bookings changed, since a booking is saved by its customer and flight rather than its own ID.
+ * Waitlists are tracked by flight ID.
+ *
+ * The booking system marks every change after making it. A data manager calls
+ * {@link #take(Kind)} before it reads the data to save, and {@link #restore(Kind, Set)} if the
+ * save fails, so a change made while saving is never lost: it is either seen by the save or still
+ * marked for the next one.
+ *
+ * @author Sujal Manandhar
+ *
+ */
+public class ChangeTracker {
+
+    /**
+     * The kinds of data saved separately.
+     */
+    public enum Kind {
+        FLIGHTS, CUSTOMERS, BOOKINGS, WAITLISTS
+    }
+
+    private final Map<Kind, AtomicBoolean> dirty = new EnumMap<>(Kind.class); // True if changed since saved
+    private final Map<Kind, Set<Integer>> changedIds = new EnumMap<>(Kind.class); // IDs changed since saved
+
+    /**
+     * Constructs a tracker with nothing changed.
+     */
+    ChangeTracker() {
+        for (Kind kind : Kind.values()) {
+            dirty.put(kind, new AtomicBoolean());
+            changedIds.put(kind, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    /**
+     * Marks a flight, customer, customer's bookings or flight's waitlist as changed.
+     *
+     * @param kind The kind of data changed.
+     * @param id   The ID the change is recorded under.
+     */
+    void markChanged(Kind kind, int id) {
+        changedIds.get(kind).add(id);
+        dirty.get(kind).set(true); // Set after the ID so a save that sees the flag also sees the ID
+    }
+
+    /**
+     * Checks whether a kind of data has changed since it was last saved.
+     *
+     * @param kind The kind of data.
+     * @return True if it has changed.
+     */
+    public boolean isDirty(Kind kind) {
+        return dirty.get(kind).get();
+    }
+
+    /**
+     * Retrieves the IDs changed since a kind of data was last saved, without clearing them.
+     *
+     * @param kind The kind of data.
+     * @return A copy of the changed IDs.
+     */
+    public Set<Integer> getChangedIds(Kind kind) {
+        return new HashSet<>(changedIds.get(kind));
+    }
+
+    /**
+     * Clears the changes to a kind of data as it is about to be saved.
+     *
+     * @param kind The kind of data.
+     * @return The IDs changed since the last save, or null if nothing has changed.
+     */
+    public Set<Integer> take(Kind kind) {
+        if (!dirty.get(kind).getAndSet(false)) {
+            return null;
+        }
+        Set<Integer> taken = new HashSet<>();
+        for (Iterator<Integer> it = changedIds.get(kind).iterator(); it.hasNext();) {
+            taken.add(it.next());
+            it.remove();
+        }
+        return taken;
+    }
+
+    /**
+     * Marks changes taken by {@link #take(Kind)} as changed again, after the save failed.
+     *
+     * @param kind The kind of data.
+     * @param ids  The IDs taken, or null if none were.
+     */
+    public void restore(Kind kind, Set<Integer> ids) {
+        if (ids == null) {
+            return;
+        }
+        changedIds.get(kind).addAll(ids);
+        dirty.get(kind).set(true);
+    }
+
+    /**
+     * Marks every kind of data as saved, after the system has been loaded from the files.
+     */
+    public void clear() {
+        for (Kind kind : Kind.values()) {
+            dirty.get(kind).set(false);
+            changedIds.get(kind).clear();
+        }
+    }
+}
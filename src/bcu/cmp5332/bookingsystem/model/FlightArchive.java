@@ -0,0 +1,50 @@
+package bcu.cmp5332.bookingsystem.model;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * A FlightArchive is cold storage for flights that have been compacted out of the
+ * {@link FlightBookingSystem}, together with the bookings made on them.
+ * 
+ * <p>Archived flights can be faulted back into the system one at a time, so an archive
+ * must be able to find a single flight without reading the whole archive.
+ * 
+ * @author Sujal Manandhar
+ */
+public interface FlightArchive {
+
+    /**
+     * Writes a flight and its bookings to the archive.
+     *
+     * @param flight   The flight to archive.
+     * @param bookings The bookings made on the flight.
+     * @throws IOException If the archive cannot be written.
+     */
+    public void archive(Flight flight, Collection<Booking> bookings) throws IOException;
+
+    /**
+     * Checks whether the archive holds a flight.
+     *
+     * @param flightId The ID of the flight.
+     * @return True if the flight has been archived, false otherwise.
+     */
+    public boolean contains(int flightId);
+
+    /**
+     * Reads an archived flight back from the archive.
+     *
+     * @param flightId The ID of the flight to restore.
+     * @param bookings The collection the flight's archived bookings are added to.
+     * @return The archived flight, or null if the archive does not hold it.
+     * @throws IOException If the archive cannot be read.
+     */
+    public Flight restore(int flightId, Collection<Booking> bookings) throws IOException;
+
+    /**
+     * Retrieves the highest flight ID held in the archive, so archived IDs are never handed out again.
+     *
+     * @return The highest archived flight ID, or 0 if the archive is empty.
+     */
+    public int getLastFlightId();
+}
@@ -0,0 +1,131 @@
+package bcu.cmp5332.bookingsystem.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A read-only copy of the flight booking system as it stood at one point in time.
+ *
+ * A snapshot is taken between writes, so it never shows a booking that is only partly applied.
+ * The lists and counts it holds do not change after it is taken. Bookings are only copied when
+ * asked for, since that takes time in proportion to every booking in the system. Flights,
+ * customers and bookings are all copies, so later edits do not show through. The copied flights
+ * have no passenger lists and the copied customers no booking lists; read seat and booking counts
+ * from the snapshot.
+ *
+ * @author Sujal Manandhar
+ *
+ */
+public final class FlightBookingSnapshot {
+
+    private final long version; // Number of writes applied to the system when the snapshot was taken
+    private final List<Flight> flights; // Active flights, ordered by flight ID
+    private final List<Customer> customers; // Customers, ordered by customer ID
+    private final List<Booking> bookings; // Copies of the bookings, in the order they were made, or null if not copied
+    private final Map<Integer, Integer> numberOfSeats; // Flight ID -> total seats
+    private final Map<Integer, Integer> remainingSeats; // Flight ID -> seats still available
+    private final Map<Integer, Integer> bookingCounts; // Customer ID -> number of bookings
+
+    /**
+     * Constructs a snapshot from state copied by the booking system.
+     *
+     * @param version The number of writes applied to the system
+     * @param flights The active flights
+     * @param customers The customers
+     * @param bookings Copies of the bookings, or null if they were not copied
+     * @param numberOfSeats The total seats of each active flight
+     * @param remainingSeats The seats still available on each active flight
+     * @param bookingCounts The number of bookings of each customer with any
+     */
+    FlightBookingSnapshot(long version, List<Flight> flights, List<Customer> customers, List<Booking> bookings,
+                          Map<Integer, Integer> numberOfSeats, Map<Integer, Integer> remainingSeats,
+                          Map<Integer, Integer> bookingCounts) {
+        this.version = version;
+        this.flights = Collections.unmodifiableList(flights);
+        this.customers = Collections.unmodifiableList(customers);
+        this.bookings = bookings != null ? Collections.unmodifiableList(bookings) : null;
+        this.numberOfSeats = numberOfSeats;
+        this.remainingSeats = remainingSeats;
+        this.bookingCounts = bookingCounts;
+    }
+
+    /**
+     * Retrieves the number of writes applied to the system when the snapshot was taken.
+     *
+     * @return The snapshot version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Retrieves the flights that were active when the snapshot was taken.
+     *
+     * @return An unmodifiable list of flights ordered by flight ID
+     */
+    public List<Flight> getFlights() {
+        return flights;
+    }
+
+    /**
+     * Retrieves the customers in the system when the snapshot was taken.
+     *
+     * @return An unmodifiable list of customers ordered by customer ID
+     */
+    public List<Customer> getCustomers() {
+        return customers;
+    }
+
+    /**
+     * Checks whether the bookings were copied into the snapshot.
+     *
+     * @return True if the snapshot holds the bookings, false otherwise
+     */
+    public boolean hasBookings() {
+        return bookings != null;
+    }
+
+    /**
+     * Retrieves copies of the bookings in the system when the snapshot was taken.
+     *
+     * @return An unmodifiable list of bookings in the order they were made
+     * @throws IllegalStateException If the snapshot was taken without the bookings
+     */
+    public List<Booking> getBookings() {
+        if (bookings == null) {
+            throw new IllegalStateException("The snapshot was taken without the bookings.");
+        }
+        return bookings;
+    }
+
+    /**
+     * Retrieves the total number of seats a flight had when the snapshot was taken.
+     *
+     * @param flightId The ID of an active flight
+     * @return The total number of seats, or 0 if the flight was not active
+     */
+    public int getNumberOfSeats(int flightId) {
+        return numberOfSeats.getOrDefault(flightId, 0);
+    }
+
+    /**
+     * Retrieves the number of seats still available on a flight when the snapshot was taken.
+     *
+     * @param flightId The ID of an active flight
+     * @return The number of remaining seats, or 0 if the flight was not active
+     */
+    public int getRemainingSeats(int flightId) {
+        return remainingSeats.getOrDefault(flightId, 0);
+    }
+
+    /**
+     * Retrieves the number of bookings a customer had when the snapshot was taken.
+     *
+     * @param customerId The ID of the customer
+     * @return The number of bookings
+     */
+    public int getBookingCount(int customerId) {
+        return bookingCounts.getOrDefault(customerId, 0);
+    }
+}
@@ -1,531 +1,2527 @@
-package bcu.cmp5332.bookingsystem.model;
-
-import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.*;
-
-/**
- * The FlightBookingSystem class manages the core functionality of a flight booking system.
- * It maintains collections of customers, flights, and bookings, and provides methods to add,
- * retrieve, update, and delete customers, flights, and bookings. It also includes methods to
- * retrieve system date, customer details, flight details, and perform operations like adding,
- * deleting bookings, and retrieving passengers by flight.
- * 
- * @author Sujal Manandhar
- *
- *
- */
-
-
-public class FlightBookingSystem {
-
-	/**
-	 * The system date used by the flight booking system.
-	 */
-	private final LocalDate systemDate = LocalDate.parse("2020-11-11"); // System date
-
-
-	/**
-	 * Map of customers in the system.
-	 */
-	private final Map<Integer, Customer> customers = new TreeMap<>(); // List of customers in map
-
-    /**
-     * Map of flights in the system.
-     */
-    private final Map<Integer, Flight> flights = new TreeMap<>(); // List of flights in map
-
-    /**
-     * List of bookings in the system.
-     */
-    private final List<Booking> bookings = new ArrayList<>(); // List of bookings
-
-    /**
-     * Constructor for the FlightBookingSystem class.
-     */
-    public FlightBookingSystem() {
-        // Constructor implementation
-    }
-
-    /**
-     * Retrieves the current system date used by the flight booking system.
-     *
-     * @return The current system date.
-     */
-    
-    public LocalDate getSystemDate() {
-        return systemDate;
-    }
-
-    /**
-     * Retrieves a list of active flights in the system (flights that are not marked as deleted).
-     *
-     * @return An unmodifiable list of active flights.
-     */
-    public List<Flight> getFlights() {
-        List<Flight> out = new ArrayList<>();
-        for (Flight flight : flights.values()) {
-            if (!flight.getDeleted()) {
-                out.add(flight);
-            }
-        }
-        return Collections.unmodifiableList(out);
-    }
-
-    /**
-     * Retrieves a flight object by its ID.
-     *
-     * @param id The ID of the flight to retrieve.
-     * @return The Flight object corresponding to the given ID.
-     * @throws FlightBookingSystemException If no flight exists with the provided ID.
-     */
-    public Flight getFlightByID(int id) throws FlightBookingSystemException {
-        if (!flights.containsKey(id)) {
-            throw new FlightBookingSystemException("There is no flight with that ID.");
-        }
-        return flights.get(id);
-    }
-
-    /**
-     * Retrieves a customer object by its ID.
-     *
-     * @param id The ID of the customer to retrieve.
-     * @return The Customer object corresponding to the given ID.
-     * @throws FlightBookingSystemException If no customer exists with the provided ID.
-     */
-    public Customer getCustomerByID(int id) throws FlightBookingSystemException {
-        if (!customers.containsKey(id)) {
-            throw new FlightBookingSystemException("There is no customer with that ID.");
-        }
-        return customers.get(id);
-    }
-
-    /**
-     * Adds a new flight to the system.
-     *
-     * @param flight The Flight object to add.
-     * @throws FlightBookingSystemException If there is a duplicate flight ID or a flight with
-     *                                      the same number and departure date already exists.
-     */
-    public void addFlight(Flight flight) throws FlightBookingSystemException {
-        if (flights.containsKey(flight.getId())) {
-            throw new IllegalArgumentException("Duplicate flight ID.");
-        }
-        for (Flight existing : flights.values()) {
-            if (existing.getFlightNumber().equals(flight.getFlightNumber())
-                    && existing.getDepartureDate().isEqual(flight.getDepartureDate())) {
-                throw new FlightBookingSystemException("There is a flight with the same number and departure date in the system");
-            }
-        }
-        flights.put(flight.getId(), flight);
-    }
-
-    /**
-     * Adds a new customer to the system.
-     *
-     * @param customer The Customer object to add.
-     * @throws FlightBookingSystemException If there is a duplicate customer ID or a customer with
-     *                                      the same name and phone number already exists.
-     */
-    public void addCustomer(Customer customer) throws FlightBookingSystemException {
-        if (customers.containsKey(customer.getId())) {
-            throw new IllegalArgumentException("Duplicate ID no.");
-        }
-        for (Customer existing : customers.values()) {
-            if (existing.getName().equals(customer.getName())
-                    && existing.getPhone().equals(customer.getPhone())) {
-                throw new FlightBookingSystemException("There is a customer with the same name and phone in the system");
-            }
-        }
-        customers.put(customer.getId(), customer);
-    }
-
-    /**
-     * Retrieves a list of all customers in the system.
-     *
-     * @return An unmodifiable list of all customers.
-     */
-    public List<Customer> getCustomers() {
-        List<Customer> out = new ArrayList<>(customers.values());
-        return Collections.unmodifiableList(out);
-    }
-
-    /**
-     * Retrieves all bookings associated with a specific customer ID.
-     *
-     * @param id The ID of the customer whose bookings are to be retrieved.
-     * @return An unmodifiable list of bookings associated with the specified customer.
-     * @throws FlightBookingSystemException If no customer exists with the provided ID.
-     */
-    public List<Booking> getBookingByCusIDs(int id) throws FlightBookingSystemException {
-        if (!customers.containsKey(id)) {
-            throw new FlightBookingSystemException("There is no customer with that ID.");
-        }
-        Customer customer = customers.get(id);
-        return customer.getBookings();
-    }
-
-    /**
-     * Deletes a flight from the system by marking it as deleted.
-     *
-     * @param id The ID of the flight to delete.
-     * @throws FlightBookingSystemException If no flight exists with the provided ID.
-     */
-    public void deleteFlight(int id) throws FlightBookingSystemException {
-        if (!flights.containsKey(id)) {
-            throw new FlightBookingSystemException("There is no flight with that ID.");
-        }
-        Flight flight = flights.get(id);
-        flight.setDeleted(true); // Mark flight as deleted
-    }
-
-    /**
-     * Deletes a customer from the system.
-     *
-     * @param id The ID of the customer to delete.
-     * @throws FlightBookingSystemException If no customer exists with the provided ID.
-     */
-    public void deleteCustomer(int id) throws FlightBookingSystemException {
-        if (!customers.containsKey(id)) {
-            throw new FlightBookingSystemException("There is no Customer with that ID.");
-        }
-        customers.remove(id);
-    }
-
-    /**
-     * Adds a new booking to the system.
-     *
-     * @param booking The Booking object to add.
-     * @throws FlightBookingSystemException If the customer or flight associated with the booking
-     *                                      does not exist, or if there is a booking with the same
-     *                                      customer, flight, and booking date already exists.
-     */
-    public void addBooking(Booking booking) throws FlightBookingSystemException {
-        Customer customer = booking.getCustomer();
-        Flight flight = booking.getFlight();
-        if (!customers.containsKey(customer.getId())) {
-            throw new IllegalArgumentException("Customer unavailable");
-        }
-        if (!flights.containsKey(flight.getId())) {
-            throw new IllegalArgumentException("Flight Not available");
-        }
-
-        for (Booking existing : bookings) {
-            if (existing.getCustomer().equals(booking.getCustomer())
-                    && existing.getFlight().equals(booking.getFlight())
-                    && existing.getBookingDate().equals(booking.getBookingDate())) {
-                throw new FlightBookingSystemException("There is a booking with the same customer, flight, and booking date in the system");
-            }
-        }
-        bookings.add(booking);
-        customer.addBooking(booking); // Add booking to customer
-        flight.addPassenger(customer); // Add passenger to flight
-        flight.reduceNumberOfSeats(); // Reduce the number of remaining seats
-    }
-
-    /**
-     * Retrieves a list of all bookings in the system.
-     *
-     * @return An unmodifiable list of all bookings.
-     */
-    public List<Booking> getBookings() {
-        return Collections.unmodifiableList(bookings);
-    }
-
-    /**
-     * Adds a booking to the system based on customer ID, flight ID, and booking date.
-     *
-     * @param cusId       The ID of the customer making the booking.
-     * @param flightId    The ID of the flight for which booking is made.
-     * @param bookingDate The date on which the booking is made.
-     * @throws FlightBookingSystemException If the customer or flight does not exist,
-     *                                      or if the flight has no remaining seats.
-     */
-    public void addBookingByIds(int cusId, int flightId, LocalDate bookingDate) throws FlightBookingSystemException {
-        if (!customers.containsKey(cusId)) {
-            throw new IllegalArgumentException("Customer with that customer id not available");
-        }
-        if (!flights.containsKey(flightId)) {
-            throw new IllegalArgumentException("Flight with that flight id not available");
-        }
-        Customer customer = customers.get(cusId);
-        Flight flight = flights.get(flightId);
-        Booking booking = new Booking(customer, flight, bookingDate);
-        if (numberOfRemainingSeats(flightId) > 0) {
-            bookings.add(booking);
-            customer.addBooking(booking); // Add booking to customer
-            flight.addPassenger(customer); // Add passenger to flight
-            flight.reduceNumberOfSeats(); // Reduce the number of remaining seats
-        } else {
-            throw new FlightBookingSystemException("Seats for this flight are fully booked");
-        }
-    }
-
-    /**
-     * Updates customer details in the system.
-     *
-     * @param id       The ID of the customer to update.
-     * @param name     The new name of the customer (optional).
-     * @param phoneNum The new phone number of the customer (optional).
-     * @param email    The new email of the customer (optional).
-     * @throws FlightBookingSystemException If no customer exists with the provided ID.
-     */
-    public void updateCustomer(int id, String name, String phoneNum, String email) throws FlightBookingSystemException {
-        if (!customers.containsKey(id)) {
-            throw new FlightBookingSystemException("Customer with that ID not found.");
-        }
-
-        Customer customer = customers.get(id);
-
-        // Update name if provided, otherwise keep existing name
-        if (name != null && !name.trim().isEmpty()) {
-            customer.setName(name);
-        }
-
-        // Update phoneNum if provided, otherwise keep existing phoneNum
-        if (phoneNum != null && !phoneNum.trim().isEmpty()) {
-            customer.setPhone(phoneNum);
-        }
-
-        // Update email if provided, otherwise keep existing email
-        if (email != null && !email.trim().isEmpty()) {
-            customer.setEmail(email);
-        }
-
-        customers.put(id, customer); // Update the customer in the map
-    }
-
-    /**
-     * Updates flight details in the system.
-     *
-     * @param id         The ID of the flight to update.
-     * @param numOfSeats The new number of seats of the flight.
-     * @param price      The new price of the flight.
-     * @throws FlightBookingSystemException If no flight exists with the provided ID,
-     *                                      or if the number of seats or price is invalid.
-     */
-    public void updateFlight(int id, int numOfSeats, int price) throws FlightBookingSystemException {
-        if (!flights.containsKey(id)) {
-            throw new FlightBookingSystemException("Flight with that ID not found.");
-        }
-
-        Flight flight = flights.get(id);
-
-        // Update number of seats if provided
-        if (numOfSeats > 0) {
-            flight.setNumberOfSeats(numOfSeats);
-        } else {
-            throw new IllegalArgumentException("Number of seats must be a positive integer.");
-        }
-
-        // Update price if provided
-        if (price >= 0) {
-            flight.setPrice(price);
-        } else {
-            throw new IllegalArgumentException("Price must be a non-negative integer.");
-        }
-
-        flights.put(id, flight); // Update the flight in the map
-    }
-
-    /**
-     * Cancels a booking based on customer ID and flight ID.
-     *
-     * @param cusId   The ID of the customer whose booking is to be canceled.
-     * @param flightId The ID of the flight for which the booking is to be canceled.
-     * @throws FlightBookingSystemException If no booking is found for the provided customer and flight IDs.
-     */
-    public void cancelBooking(int cusId, int flightId) throws FlightBookingSystemException {
-        Booking bookingRemove = null;
-
-        for (Booking booking : bookings) {
-            if (booking.getCustomer().getId() == cusId && booking.getFlight().getId() == flightId) {
-                bookingRemove = booking;
-                break;
-            }
-        }
-
-        if (bookingRemove != null) {
-            bookings.remove(bookingRemove); // Remove booking from main bookings list
-            bookingRemove.getCustomer().removeBooking(bookingRemove); // Remove booking reference from customer
-            bookingRemove.getFlight().removePassenger(bookingRemove.getCustomer()); // Remove customer from flight
-            bookingRemove.getFlight().increaseNumberOfSeats(); // Increase the number of remaining seats
-        } else {
-            throw new FlightBookingSystemException("No booking found for customer ID " + cusId + " and flight ID " + flightId);
-        }
-    }
-
-    /**
-     * Retrieves a list of bookings associated with a specific customer ID.
-     *
-     * @param cusId The ID of the customer whose bookings are to be retrieved.
-     * @return An unmodifiable list of bookings associated with the specified customer.
-     * @throws FlightBookingSystemException If no customer exists with the provided ID.
-     */
-    public List<Booking> bookingListByCustomer(int cusId) throws FlightBookingSystemException {
-        if (!customers.containsKey(cusId)) {
-            throw new FlightBookingSystemException("Customer with that id does not exist");
-        }
-        List<Booking> cusBookings = new ArrayList<>();
-        for (Booking booking : bookings) {
-            if (booking.getCustomer().getId() == cusId) {
-                cusBookings.add(booking);
-            }
-        }
-        return Collections.unmodifiableList(cusBookings);
-    }
-
-    /**
-     * Updates an existing booking with new flight ID and booking date.
-     *
-     * @param cusId         The ID of the customer whose booking is to be updated.
-     * @param flightId      The ID of the flight to update the booking with.
-     * @param new_flightId  The new ID of the flight for the booking.
-     * @param newbookingDate The new booking date for the booking.
-     * @throws FlightBookingSystemException If no booking is found for the provided customer and flight IDs,
-     *                                      or if the new flight ID does not exist in the system.
-     */
-    public void updateBooking(int cusId, int flightId, int new_flightId, LocalDate newbookingDate) throws FlightBookingSystemException {
-
-        Booking bookingUpdate = null;
-
-        for (Booking booking : bookings) {
-            if (booking.getCustomer().getId() == cusId && booking.getFlight().getId() == flightId) {
-                bookingUpdate = booking;
-                break;
-            }
-        }
-
-        if (bookingUpdate != null) {
-            if (!flights.containsKey(new_flightId)) {
-                throw new FlightBookingSystemException("Flight with that id does not exist !!!");
-            }
-            Flight new_flight = flights.get(new_flightId);
-
-            bookingUpdate.setFlight(new_flight); // Update flight for the booking
-
-            // Update booking date if provided
-            if (newbookingDate != null) {
-                bookingUpdate.setBookingDate(newbookingDate);
-            }
-
-            int index = bookings.indexOf(bookingUpdate);
-            if (index != -1) {
-                bookings.set(index, bookingUpdate);
-            }
-        } else {
-            throw new FlightBookingSystemException("No booking found for cus ID " + cusId + " and flight ID " + flightId);
-        }
-    }
-
-    /**
-     * Retrieves a list of customers (passengers) booked on a specific flight.
-     *
-     * @param id The ID of the flight to retrieve passengers for.
-     * @return An unmodifiable list of customers booked on the specified flight.
-     */
-    public List<Customer> listOfPassengersByFlight(int id) {
-        List<Customer> customers = new ArrayList<>();
-        for (Booking booking : bookings) {
-            if (booking.getFlight().getId() == id) {
-                Customer customer = booking.getCustomer();
-                customers.add(customer);
-            }
-        }
-        return customers;
-    }
-
-    /**
-     * Calculates the number of remaining seats on a specific flight.
-     *
-     * @param id The ID of the flight to calculate remaining seats for.
-     * @return The number of remaining seats on the specified flight.
-     * @throws FlightBookingSystemException If no flight exists with the provided ID.
-     */
-    public int numberOfRemainingSeats(int id) throws FlightBookingSystemException {
-        if (!flights.containsKey(id)) {
-            throw new IllegalArgumentException("Flight with that customer id not available");
-        }
-        Flight flight = flights.get(id);
-        int totalSeats = flight.getNumberOfSeats();
-        List<Customer> passengers = new ArrayList<>();
-        for (Booking booking : bookings) {
-            if (booking.getFlight().getId() == id) {
-                Customer customer = booking.getCustomer();
-                passengers.add(customer);
-            }
-        }
-        return totalSeats - passengers.size();
-    }
-
-    /**
-     * Retrieves detailed information about a customer including their bookings.
-     *
-     * @param id The ID of the customer to retrieve details for.
-     * @return A formatted string containing detailed information about the customer and their bookings.
-     * @throws FlightBookingSystemException If no customer exists with the provided ID.
-     */
-    public String customerDetailsLong(int id) throws FlightBookingSystemException {
-        StringBuilder details = new StringBuilder();
-        if (!customers.containsKey(id)) {
-            throw new FlightBookingSystemException("No Customer with that id");
-        }
-        Customer customer = customers.get(id);
-        details.append("Customer #" + id + " - " + customer.getName() + " - " + customer.getPhone() + " - " + customer.getEmail() + "\n");
-
-        DateTimeFormatter dtf = DateTimeFormatter.ofPattern("dd/MM/YYYY");
-        List<Booking> custBook = new ArrayList<>();
-        for (Booking booking : bookings) {
-            if (booking.getCustomer().getId() == id) {
-                custBook.add(booking);
-            }
-        }
-        for (Booking booking : custBook) {
-
-            Flight flight = booking.getFlight();
-            details.append(" Flight #" + flight.getFlightNumber() + " Origin " + flight.getOrigin() +
-                    " Destination " + flight.getDestination() + " Date " + flight.getDepartureDate().format(dtf) + " Price " + flight.getPrice() + "\n");
-        }
-
-        return details.toString();
-    }
-
-    /**
-     * Retrieves detailed information about a flight including its passengers.
-     *
-     * @param id The ID of the flight to retrieve details for.
-     * @return A formatted string containing detailed information about the flight and its passengers.
-     * @throws FlightBookingSystemException If no flight exists with the provided ID.
-     */
-    public String flightDetailsLong(int id) throws FlightBookingSystemException {
-        StringBuilder details = new StringBuilder();
-
-        DateTimeFormatter dtf = DateTimeFormatter.ofPattern("dd/MM/YYYY");
-        if (!flights.containsKey(id)) {
-            throw new FlightBookingSystemException("No Flight with that id");
-        }
-        Flight flight = flights.get(id);
-        details.append("Flight #" + id + " - " + flight.getFlightNumber() + " - " + flight.getOrigin() + " to "
-                + flight.getDestination() + " on " + flight.getDepartureDate().format(dtf) + "\n");
-        List<Booking> book = new ArrayList<>();
-        for (Booking booking : bookings) {
-            if (booking.getFlight().getId() == id) {
-                book.add(booking);
-            }
-        }
-        List<Customer> passengers = new ArrayList<>();
-        for (Booking booking : book) {
-            Customer customer = booking.getCustomer();
-            passengers.add(customer);
-        }
-        for (Customer customer : passengers) {
-            details.append(" Passenger Name :" + customer.getName() + " Phone Number :" + customer.getPhone() +
-                    " Email :" + customer.getEmail() + "\n");
-        }
-
-        return details.toString();
-
-    }
-}
-
+package bcu.cmp5332.bookingsystem.model;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The FlightBookingSystem class manages the core functionality of a flight booking system.
+ * It maintains collections of customers, flights, and bookings, and provides methods to add,
+ * retrieve, update, and delete customers, flights, and bookings. It also includes methods to
+ * retrieve system date, customer details, flight details, and perform operations like adding,
+ * deleting bookings, and retrieving passengers by flight.
+ * 
+ * <p>A system created in thread-safe mode keeps its state in concurrent collections so it can
+ * be shared between the CLI, the Swing windows and other threads. In either mode, booking
+ * changes lock the flights involved through a striped set of locks, so bookings on different
+ * flights proceed in parallel while bookings on the same flight are applied one at a time.
+ * 
+ * <p>Every write is counted when it starts and when it completes. {@link #snapshot()} copies the
+ * system only while no write is in progress and checks that none started during the copy, so
+ * listings and reports read a consistent point in time without writers ever waiting for them.
+ *
+ * <p>Every change is also recorded in a {@link ChangeTracker}, so saving only rewrites the data
+ * that changed since the system was loaded or last saved.
+ *
+ * @author Sujal Manandhar
+ *
+ *
+ */
+
+
+public class FlightBookingSystem {
+
+	/**
+	 * The system date used by the flight booking system.
+	 */
+	private final LocalDate systemDate = LocalDate.parse("2020-11-11"); // System date
+
+
+	/**
+	 * Map of customers in the system.
+	 */
+	private final Map<Integer, Customer> customers; // List of customers in map
+
+    /**
+     * Map of flights in the system.
+     */
+    private final Map<Integer, Flight> flights; // List of flights in map
+
+    /**
+     * Map of flights that are not marked as deleted, maintained by addFlight and deleteFlight.
+     */
+    private final Map<Integer, Flight> activeFlights; // Active flights in map
+
+    /**
+     * Read-only view of the active flights handed out by getFlights.
+     */
+    private final Collection<Flight> activeFlightsView;
+
+    /**
+     * Index of active flights by flight number and departure date, used to reject duplicate
+     * flights and to look a flight up without scanning the flights map.
+     */
+    private final Map<String, Flight> flightsByNumberAndDate; // Flight number + date -> flight
+
+    /**
+     * Customers indexed by name and phone number, so a duplicate customer is found without
+     * comparing against every customer.
+     */
+    private final Map<String, Customer> customersByNameAndPhone; // Name + phone -> customer
+
+    /**
+     * Bookings in the system by booking ID, in the order they were made.
+     */
+    private final Map<Integer, Booking> bookings; // Booking ID -> booking
+
+    /**
+     * Index of bookings by customer ID and flight ID, oldest first, used to find the booking
+     * to cancel or update without scanning the bookings.
+     */
+    private final Map<String, Deque<Booking>> bookingsByCustomerAndFlight; // Customer ID + flight ID -> bookings
+
+    /**
+     * Index of bookings by flight ID, kept in step with the bookings so that
+     * per-flight queries only touch the bookings of that flight. Each entry is keyed by
+     * booking ID so a booking can be removed without scanning the flight's bookings.
+     */
+    private final Map<Integer, Map<Integer, Booking>> bookingsByFlight; // Flight ID -> booking ID -> booking
+
+    /**
+     * Index of bookings by customer ID. This is the authoritative per-customer view used by
+     * every customer booking lookup in the system.
+     */
+    private final Map<Integer, Map<Integer, Booking>> bookingsByCustomer; // Customer ID -> booking ID -> booking
+
+    /**
+     * Keys of every booking in the system, used to reject a duplicate customer, flight and
+     * booking date combination without scanning the bookings.
+     */
+    private final Set<String> bookingKeys; // Customer ID + flight ID + booking date
+
+    /**
+     * Bookings made together as a group booking, by group ID, so a group can be cancelled
+     * without looking at any other booking.
+     */
+    private final Map<Integer, List<Booking>> bookingsByGroup; // Group ID -> bookings
+
+    /**
+     * Customers waiting for a seat on each fully booked flight, next to promote first. A flight's
+     * queue is only read or changed while holding that flight's lock.
+     */
+    private final Map<Integer, PriorityQueue<WaitlistEntry>> waitlists; // Flight ID -> waiting customers
+
+    /**
+     * Keys of every waiting customer, used to stop a customer joining the same waitlist twice.
+     */
+    private final Set<String> waitlistKeys; // Customer ID + flight ID + booking date
+
+    /**
+     * Seats held for customers and not yet booked.
+     */
+    private final Map<Integer, SeatHold> holds; // Hold ID -> hold
+
+    /**
+     * Running revenue, seats sold and seats available for each active flight, each route and each
+     * departure date, adjusted as bookings and flights change. Deleted flights are not counted.
+     */
+    private final Map<Integer, SalesFigures> salesByFlight; // Flight ID -> figures
+    private final Map<String, SalesFigures> salesByRoute; // Origin + destination -> figures
+    private final Map<LocalDate, SalesFigures> salesByDate; // Departure date -> figures
+
+    /**
+     * How long a seat is held when no time is given.
+     */
+    public static final Duration DEFAULT_HOLD_TTL = Duration.ofMinutes(10);
+
+    /**
+     * Length of one tick of the hold expiry wheel. Holds expire up to one tick late.
+     */
+    private static final long HOLD_TICK_MILLIS = 1000;
+
+    /**
+     * Schedules the expiry of every outstanding hold. The wheel is turned forward by the system's
+     * own calls, so no thread has to walk the holds looking for expired ones.
+     */
+    private TimerWheel<SeatHold> holdWheel; // Guarded by holdLock
+
+    /**
+     * Lock guarding the hold expiry wheel. A flight lock may be held when taking it, but never the
+     * other way round.
+     */
+    private final Object holdLock = new Object();
+
+    /**
+     * Clock used to time holds.
+     */
+    private volatile Clock clock = Clock.systemUTC();
+
+    /**
+     * True if the system keeps its state in concurrent collections.
+     */
+    private final boolean threadSafe;
+
+    /**
+     * Number of striped flight locks. A power of two so a flight ID maps to its stripe with a mask.
+     */
+    private static final int LOCK_STRIPES = 64;
+
+    /**
+     * Striped locks guarding booking changes, chosen by flight ID.
+     */
+    private final Object[] flightLocks = new Object[LOCK_STRIPES];
+
+    /**
+     * Lock guarding changes to the set of flights and customers.
+     */
+    private final Object catalogLock = new Object();
+
+    /**
+     * Highest flight, customer and booking IDs handed out or loaded so far. Every entity added to
+     * the system raises its sequence, so a freshly allocated ID is never one already in use.
+     */
+    private final AtomicInteger lastFlightId = new AtomicInteger(); // Last flight ID in use
+    private final AtomicInteger lastCustomerId = new AtomicInteger(); // Last customer ID in use
+    private final AtomicInteger lastBookingId = new AtomicInteger(); // Last booking ID in use
+    private final AtomicInteger lastGroupId = new AtomicInteger(); // Last group booking ID in use
+    private final AtomicLong lastWaitlistSequence = new AtomicLong(); // Order in which customers joined a waitlist
+    private final AtomicInteger lastHoldId = new AtomicInteger(); // Last seat hold ID in use
+    private final AtomicInteger lastJournalSequence = new AtomicInteger(); // Last journaled command applied
+
+    /**
+     * Number of writes that have started and that have completed. The two are equal exactly when
+     * no write is in progress, and writesCompleted is the version of the state at that moment.
+     */
+    private final AtomicLong writesStarted = new AtomicLong(); // Writes begun
+    private final AtomicLong writesCompleted = new AtomicLong(); // Writes finished
+
+    /**
+     * Number of times a snapshot reader spins before it starts yielding to writers.
+     */
+    private static final int SNAPSHOT_SPINS = 100;
+
+    /**
+     * Number of times a snapshot reader retries before it settles for the last snapshot taken.
+     */
+    private static final int SNAPSHOT_ATTEMPTS = 1000;
+
+    /**
+     * Time a snapshot reader with no earlier snapshot to fall back on sleeps between retries.
+     */
+    private static final long SNAPSHOT_BACKOFF_NANOS = 100_000;
+
+    /**
+     * Most recent snapshot taken, reused until the next write completes.
+     */
+    private volatile FlightBookingSnapshot lastSnapshot; // Cached snapshot
+
+    /**
+     * Cold storage for deleted and departed flights compacted out of the system, or null if none is set.
+     */
+    private FlightArchive flightArchive; // Archive of compacted flights
+
+    /**
+     * Flights, customers, bookings and waitlists changed since they were last saved.
+     */
+    private final ChangeTracker changes = new ChangeTracker();
+
+    /**
+     * Constructor for the FlightBookingSystem class. The system is not thread-safe.
+     */
+    public FlightBookingSystem() {
+        this(false);
+    }
+
+    /**
+     * Constructor for the FlightBookingSystem class.
+     *
+     * @param threadSafe True to keep the system's state in concurrent collections so it can be
+     *                   used from several threads at once.
+     */
+    public FlightBookingSystem(boolean threadSafe) {
+        this.threadSafe = threadSafe;
+        if (threadSafe) {
+            customers = new ConcurrentSkipListMap<>();
+            flights = new ConcurrentSkipListMap<>();
+            activeFlights = new ConcurrentSkipListMap<>();
+            flightsByNumberAndDate = new ConcurrentHashMap<>();
+            customersByNameAndPhone = new ConcurrentHashMap<>();
+            bookings = new ConcurrentSkipListMap<>(); // Booking IDs are allocated in booking order
+            bookingsByCustomerAndFlight = new ConcurrentHashMap<>();
+            bookingsByFlight = new ConcurrentHashMap<>();
+            bookingsByCustomer = new ConcurrentHashMap<>();
+            bookingKeys = ConcurrentHashMap.newKeySet();
+            bookingsByGroup = new ConcurrentHashMap<>();
+            waitlists = new ConcurrentHashMap<>();
+            waitlistKeys = ConcurrentHashMap.newKeySet();
+            holds = new ConcurrentHashMap<>();
+            salesByFlight = new ConcurrentHashMap<>();
+            salesByRoute = new ConcurrentHashMap<>();
+            salesByDate = new ConcurrentHashMap<>();
+        } else {
+            customers = new TreeMap<>();
+            flights = new TreeMap<>();
+            activeFlights = new TreeMap<>();
+            flightsByNumberAndDate = new HashMap<>();
+            customersByNameAndPhone = new HashMap<>();
+            bookings = new LinkedHashMap<>();
+            bookingsByCustomerAndFlight = new HashMap<>();
+            bookingsByFlight = new HashMap<>();
+            bookingsByCustomer = new HashMap<>();
+            bookingKeys = new HashSet<>();
+            bookingsByGroup = new HashMap<>();
+            waitlists = new HashMap<>();
+            waitlistKeys = new HashSet<>();
+            holds = new HashMap<>();
+            salesByFlight = new HashMap<>();
+            salesByRoute = new HashMap<>();
+            salesByDate = new HashMap<>();
+        }
+        holdWheel = new TimerWheel<>(HOLD_TICK_MILLIS, clock.millis());
+        activeFlightsView = Collections.unmodifiableCollection(activeFlights.values());
+        for (int i = 0; i < flightLocks.length; i++) {
+            flightLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * Checks whether the system was created in thread-safe mode.
+     *
+     * @return True if the system can be used from several threads at once.
+     */
+    public boolean isThreadSafe() {
+        return threadSafe;
+    }
+
+    /**
+     * Retrieves the record of what has changed since the system was last saved.
+     *
+     * @return The change tracker.
+     */
+    public ChangeTracker getChanges() {
+        return changes;
+    }
+
+    /**
+     * Retrieves the current system date used by the flight booking system.
+     *
+     * @return The current system date.
+     */
+    
+    public LocalDate getSystemDate() {
+        return systemDate;
+    }
+
+    /**
+     * Allocates the next unused flight ID.
+     *
+     * @return A flight ID that no flight in the system has used.
+     */
+    public int nextFlightId() {
+        return lastFlightId.incrementAndGet();
+    }
+
+    /**
+     * Allocates the next unused customer ID.
+     *
+     * @return A customer ID that no customer in the system has used.
+     */
+    public int nextCustomerId() {
+        return lastCustomerId.incrementAndGet();
+    }
+
+    /**
+     * Allocates the next unused booking ID.
+     *
+     * @return A booking ID that no booking in the system has used.
+     */
+    public int nextBookingId() {
+        return lastBookingId.incrementAndGet();
+    }
+
+    /**
+     * Retrieves the highest flight ID handed out or loaded so far.
+     *
+     * @return The last flight ID in use, 0 if there has been none.
+     */
+    public int getLastFlightId() {
+        return lastFlightId.get();
+    }
+
+    /**
+     * Retrieves the highest customer ID handed out or loaded so far.
+     *
+     * @return The last customer ID in use, 0 if there has been none.
+     */
+    public int getLastCustomerId() {
+        return lastCustomerId.get();
+    }
+
+    /**
+     * Retrieves the highest group booking ID handed out or loaded so far.
+     *
+     * @return The last group booking ID in use, 0 if there has been none.
+     */
+    public int getLastGroupId() {
+        return lastGroupId.get();
+    }
+
+    /**
+     * Reserves every flight ID up to and including the one given, so none of them is allocated to
+     * a new flight. Deleted flights are not saved, so their IDs are reserved this way on load.
+     *
+     * @param lastId The highest flight ID that has been used.
+     */
+    public void reserveFlightIds(int lastId) {
+        lastFlightId.accumulateAndGet(lastId, Math::max);
+    }
+
+    /**
+     * Reserves every customer ID up to and including the one given, so none of them is allocated
+     * to a new customer. Deleted customers are not saved, so their IDs are reserved this way on load.
+     *
+     * @param lastId The highest customer ID that has been used.
+     */
+    public void reserveCustomerIds(int lastId) {
+        lastCustomerId.accumulateAndGet(lastId, Math::max);
+    }
+
+    /**
+     * Reserves every group booking ID up to and including the one given, so none of them is
+     * allocated to a new group booking.
+     *
+     * @param lastId The highest group booking ID that has been used.
+     */
+    public void reserveGroupIds(int lastId) {
+        lastGroupId.accumulateAndGet(lastId, Math::max);
+    }
+
+    /**
+     * Retrieves the sequence number of the last journaled command applied to the system. It is
+     * saved with the data, so replaying the journal skips the commands the save already holds.
+     *
+     * @return The last journal sequence number applied, 0 if there has been none.
+     */
+    public int getLastJournalSequence() {
+        return lastJournalSequence.get();
+    }
+
+    /**
+     * Allocates the sequence number of the next journaled command.
+     *
+     * @return The new journal sequence number.
+     */
+    public int nextJournalSequence() {
+        return lastJournalSequence.incrementAndGet();
+    }
+
+    /**
+     * Records that every journaled command up to and including the one given has been applied.
+     *
+     * @param sequence The sequence number of the last journaled command applied.
+     */
+    public void reserveJournalSequence(int sequence) {
+        lastJournalSequence.accumulateAndGet(sequence, Math::max);
+    }
+
+    /**
+     * Sets the archive that compacted flights are moved to and restored from. Archived flight IDs
+     * are reserved so they are never allocated to a new flight.
+     *
+     * @param flightArchive The archive to use.
+     */
+    public void setFlightArchive(FlightArchive flightArchive) {
+        this.flightArchive = flightArchive;
+        lastFlightId.accumulateAndGet(flightArchive.getLastFlightId(), Math::max);
+    }
+
+    /**
+     * Moves deleted flights, and flights that departed before the system date, out of the system
+     * and into the flight archive together with their bookings.
+     *
+     * @return The number of flights archived.
+     * @throws FlightBookingSystemException If no archive is set or the archive cannot be written.
+     */
+    public int compactFlights() throws FlightBookingSystemException {
+        if (flightArchive == null) {
+            throw new FlightBookingSystemException("No flight archive is configured.");
+        }
+        synchronized (catalogLock) {
+            beginWrite();
+            try {
+                List<Flight> expired = new ArrayList<>();
+                for (Flight flight : flights.values()) {
+                    if (flight.getDeleted() || flight.getDepartureDate().isBefore(systemDate)) {
+                        expired.add(flight);
+                    }
+                }
+                for (Flight flight : expired) {
+                    synchronized (lockFor(flight.getId())) {
+                        List<Booking> flightBookings = new ArrayList<>(bookingsForFlight(flight.getId()));
+                        try {
+                            flightArchive.archive(flight, flightBookings);
+                        } catch (IOException ex) {
+                            throw new FlightBookingSystemException("Unable to archive flight #" + flight.getId() + ": " + ex.getMessage());
+                        }
+                        for (Booking booking : flightBookings) {
+                            unlinkBooking(booking);
+                        }
+                        dropWaitlist(flight.getId());
+                        recordSales(flight, -flight.getNumberOfSeats(), 0, 0);
+                        flights.remove(flight.getId());
+                        activeFlights.remove(flight.getId());
+                        flightsByNumberAndDate.remove(flightKey(flight.getFlightNumber(), flight.getDepartureDate()), flight);
+                        changes.markChanged(ChangeTracker.Kind.FLIGHTS, flight.getId());
+                    }
+                }
+                return expired.size();
+            } finally {
+                endWrite();
+            }
+        }
+    }
+
+    /**
+     * Reads an archived flight and its bookings back into the system. Bookings are re-attached to
+     * the customers still in the system, and bookings of customers deleted since are dropped.
+     *
+     * @param id The ID of the archived flight.
+     * @return The restored flight.
+     * @throws FlightBookingSystemException If the archive cannot be read.
+     */
+    private Flight restoreFlight(int id) throws FlightBookingSystemException {
+        synchronized (catalogLock) {
+            Flight restored = flights.get(id);
+            if (restored != null) {
+                return restored; // Another thread restored it first
+            }
+            synchronized (lockFor(id)) {
+                beginWrite();
+                try {
+                    return restoreArchivedFlight(id);
+                } finally {
+                    endWrite();
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads an archived flight and its bookings back into the system. The caller holds the
+     * catalog lock and the flight's lock.
+     *
+     * @param id The ID of the archived flight.
+     * @return The restored flight.
+     * @throws FlightBookingSystemException If the archive cannot be read.
+     */
+    private Flight restoreArchivedFlight(int id) throws FlightBookingSystemException {
+        List<Booking> archivedBookings = new ArrayList<>();
+        Flight flight;
+        try {
+            flight = flightArchive.restore(id, archivedBookings);
+        } catch (IOException ex) {
+            throw new FlightBookingSystemException("Unable to restore archived flight #" + id + ": " + ex.getMessage());
+        }
+        flights.put(id, flight);
+        if (!flight.getDeleted()) {
+            activeFlights.put(id, flight);
+            flightsByNumberAndDate.putIfAbsent(flightKey(flight.getFlightNumber(), flight.getDepartureDate()), flight);
+        }
+        recordSales(flight, flight.getNumberOfSeats(), 0, 0);
+        changes.markChanged(ChangeTracker.Kind.FLIGHTS, id);
+        for (Booking booking : archivedBookings) {
+            Customer customer = customers.get(booking.getCustomer().getId());
+            if (customer == null) {
+                continue; // The customer was deleted while the flight was archived
+            }
+            booking.setCustomer(customer);
+            booking.setId(nextBookingId());
+            reserveSeat(flight, booking);
+            linkBooking(booking);
+        }
+        return flight;
+    }
+
+    /**
+     * Retrieves the active flights in the system (flights that are not marked as deleted),
+     * ordered by flight ID. The returned view reflects later changes to the system.
+     *
+     * @return An unmodifiable view of the active flights.
+     */
+    public Collection<Flight> getFlights() {
+        return activeFlightsView;
+    }
+
+    /**
+     * Retrieves a flight object by its ID. A flight that has been compacted into the flight
+     * archive is restored into the system first.
+     *
+     * @param id The ID of the flight to retrieve.
+     * @return The Flight object corresponding to the given ID.
+     * @throws FlightBookingSystemException If no flight exists with the provided ID.
+     */
+    public Flight getFlightByID(int id) throws FlightBookingSystemException {
+        Flight flight = flights.get(id);
+        if (flight == null) {
+            if (flightArchive != null && flightArchive.contains(id)) {
+                return restoreFlight(id);
+            }
+            throw new FlightBookingSystemException("There is no flight with that ID.");
+        }
+        return flight;
+    }
+
+    /**
+     * Retrieves a customer object by its ID.
+     *
+     * @param id The ID of the customer to retrieve.
+     * @return The Customer object corresponding to the given ID.
+     * @throws FlightBookingSystemException If no customer exists with the provided ID.
+     */
+    public Customer getCustomerByID(int id) throws FlightBookingSystemException {
+        if (!customers.containsKey(id)) {
+            throw new FlightBookingSystemException("There is no customer with that ID.");
+        }
+        return customers.get(id);
+    }
+
+    /**
+     * Adds a new flight to the system.
+     *
+     * @param flight The Flight object to add.
+     * @throws FlightBookingSystemException If there is a duplicate flight ID or an active flight with
+     *                                      the same number and departure date already exists.
+     */
+    public void addFlight(Flight flight) throws FlightBookingSystemException {
+        synchronized (catalogLock) {
+            beginWrite();
+            try {
+                if (flights.containsKey(flight.getId())) {
+                    throw new IllegalArgumentException("Duplicate flight ID.");
+                }
+                String key = flightKey(flight.getFlightNumber(), flight.getDepartureDate());
+                if (flightsByNumberAndDate.containsKey(key)) {
+                    throw new FlightBookingSystemException("There is a flight with the same number and departure date in the system");
+                }
+                flights.put(flight.getId(), flight);
+                lastFlightId.accumulateAndGet(flight.getId(), Math::max);
+                if (!flight.getDeleted()) {
+                    activeFlights.put(flight.getId(), flight);
+                    flightsByNumberAndDate.put(key, flight);
+                }
+                recordSales(flight, flight.getNumberOfSeats(), 0, 0);
+                changes.markChanged(ChangeTracker.Kind.FLIGHTS, flight.getId());
+            } finally {
+                endWrite();
+            }
+        }
+    }
+
+    /**
+     * Retrieves an active flight by its flight number and departure date.
+     *
+     * @param flightNumber  The flight number to look up.
+     * @param departureDate The departure date of the flight.
+     * @return The Flight object with the given number and departure date.
+     * @throws FlightBookingSystemException If no active flight has that number and departure date.
+     */
+    public Flight findFlight(String flightNumber, LocalDate departureDate) throws FlightBookingSystemException {
+        Flight flight = flightsByNumberAndDate.get(flightKey(flightNumber, departureDate));
+        if (flight == null) {
+            throw new FlightBookingSystemException("There is no flight " + flightNumber + " departing on " + departureDate + ".");
+        }
+        return flight;
+    }
+
+    /**
+     * Adds a new customer to the system.
+     *
+     * @param customer The Customer object to add.
+     * @throws FlightBookingSystemException If there is a duplicate customer ID or a customer with
+     *                                      the same name and phone number already exists.
+     */
+    public void addCustomer(Customer customer) throws FlightBookingSystemException {
+        synchronized (catalogLock) {
+            beginWrite();
+            try {
+                if (customers.containsKey(customer.getId())) {
+                    throw new IllegalArgumentException("Duplicate ID no.");
+                }
+                String key = customerKey(customer.getName(), customer.getPhone());
+                if (customersByNameAndPhone.containsKey(key)) {
+                    throw new FlightBookingSystemException("There is a customer with the same name and phone in the system");
+                }
+                customers.put(customer.getId(), customer);
+                customersByNameAndPhone.put(key, customer);
+                lastCustomerId.accumulateAndGet(customer.getId(), Math::max);
+                changes.markChanged(ChangeTracker.Kind.CUSTOMERS, customer.getId());
+            } finally {
+                endWrite();
+            }
+        }
+    }
+
+    /**
+     * Retrieves a list of all customers in the system.
+     *
+     * @return An unmodifiable list of all customers.
+     */
+    public List<Customer> getCustomers() {
+        List<Customer> out = new ArrayList<>(customers.values());
+        return Collections.unmodifiableList(out);
+    }
+
+    /**
+     * Retrieves all bookings associated with a specific customer ID.
+     *
+     * @param id The ID of the customer whose bookings are to be retrieved.
+     * @return An unmodifiable list of bookings associated with the specified customer.
+     * @throws FlightBookingSystemException If no customer exists with the provided ID.
+     */
+    public List<Booking> getBookingByCusIDs(int id) throws FlightBookingSystemException {
+        if (!customers.containsKey(id)) {
+            throw new FlightBookingSystemException("There is no customer with that ID.");
+        }
+        return bookingsForCustomer(id);
+    }
+
+    /**
+     * Deletes a flight from the system by marking it as deleted. Its flight number and
+     * departure date become available to a new flight.
+     *
+     * @param id The ID of the flight to delete.
+     * @throws FlightBookingSystemException If no flight exists with the provided ID.
+     */
+    public void deleteFlight(int id) throws FlightBookingSystemException {
+        synchronized (catalogLock) {
+            beginWrite();
+            try {
+                if (!flights.containsKey(id)) {
+                    throw new FlightBookingSystemException("There is no flight with that ID.");
+                }
+                Flight flight = flights.get(id);
+                synchronized (lockFor(id)) {
+                    SalesFigures sales = salesByFlight.get(id);
+                    if (sales != null) {
+                        recordSales(flight, -sales.getSeats(), -sales.getSeatsSold(), -sales.getRevenue()); // Stop counting the flight
+                    }
+                    flight.setDeleted(true); // Mark flight as deleted
+                    dropWaitlist(id);
+                }
+                activeFlights.remove(id);
+                flightsByNumberAndDate.remove(flightKey(flight.getFlightNumber(), flight.getDepartureDate()), flight);
+                changes.markChanged(ChangeTracker.Kind.FLIGHTS, id);
+            } finally {
+                endWrite();
+            }
+        }
+    }
+
+    /**
+     * Deletes a customer from the system.
+     *
+     * @param id The ID of the customer to delete.
+     * @throws FlightBookingSystemException If no customer exists with the provided ID.
+     */
+    public void deleteCustomer(int id) throws FlightBookingSystemException {
+        synchronized (catalogLock) {
+            beginWrite();
+            try {
+                if (!customers.containsKey(id)) {
+                    throw new FlightBookingSystemException("There is no Customer with that ID.");
+                }
+                Customer customer = customers.remove(id);
+                customersByNameAndPhone.remove(customerKey(customer.getName(), customer.getPhone()), customer);
+                leaveWaitlists(id);
+                changes.markChanged(ChangeTracker.Kind.CUSTOMERS, id);
+                changes.markChanged(ChangeTracker.Kind.BOOKINGS, id); // Their bookings are no longer saved
+            } finally {
+                endWrite();
+            }
+        }
+    }
+
+    /**
+     * Adds a new booking to the system.
+     *
+     * @param booking The Booking object to add.
+     * @throws FlightBookingSystemException If the customer or flight associated with the booking
+     *                                      does not exist, or if there is a booking with the same
+     *                                      customer, flight, and booking date already exists.
+     */
+    public void addBooking(Booking booking) throws FlightBookingSystemException {
+        Customer customer = customers.get(booking.getCustomer().getId());
+        if (customer == null) {
+            throw new IllegalArgumentException("Customer unavailable");
+        }
+        Flight flight = flights.get(booking.getFlight().getId());
+        if (flight == null) {
+            throw new IllegalArgumentException("Flight Not available");
+        }
+        // Bind to the system's own objects so seats and passengers are tracked in one place
+        booking.setCustomer(customer);
+        booking.setFlight(flight);
+
+        synchronized (lockFor(flight.getId())) {
+            beginWrite();
+            try {
+                if (bookingKeys.contains(bookingKey(customer.getId(), flight.getId(), booking.getBookingDate()))) {
+                    throw new FlightBookingSystemException("There is a booking with the same customer, flight, and booking date in the system");
+                }
+                if (booking.getId() == 0) {
+                    booking.setId(nextBookingId());
+                } else {
+                    lastBookingId.accumulateAndGet(booking.getId(), Math::max);
+                }
+                reserveSeat(flight, booking);
+                linkBooking(booking);
+            } finally {
+                endWrite();
+            }
+        }
+    }
+
+    /**
+     * Retrieves all bookings in the system in the order they were made.
+     *
+     * @return An unmodifiable view of all bookings.
+     */
+    public Collection<Booking> getBookings() {
+        return Collections.unmodifiableCollection(bookings.values());
+    }
+
+    /**
+     * Retrieves the bookings to save, in the order they were made: every booking except those of
+     * deleted customers, since a deleted customer is not saved and their bookings could not be
+     * loaded again.
+     *
+     * @return A list of the bookings to save.
+     */
+    public List<Booking> getBookingsToStore() {
+        List<Booking> out = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings.values()) {
+            if (customers.containsKey(booking.getCustomer().getId())) {
+                out.add(booking);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Retrieves the flights to save, ordered by flight ID: the active flights, and the deleted
+     * flights that still have bookings to save, so those bookings can be loaded again.
+     *
+     * @return A list of the flights to save.
+     */
+    public List<Flight> getFlightsToStore() {
+        List<Flight> out = new ArrayList<>(activeFlights.size());
+        for (Flight flight : flights.values()) {
+            if (!flight.getDeleted() || hasBookingsToStore(flight.getId())) {
+                out.add(flight);
+            }
+        }
+        return out;
+    }
+
+    // whether any booking on a flight belongs to a customer still in the system
+    private boolean hasBookingsToStore(int flightId) {
+        for (Booking booking : bookingsForFlight(flightId)) {
+            if (customers.containsKey(booking.getCustomer().getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Takes a consistent, read-only snapshot of the flights and customers, without the bookings.
+     * See {@link #snapshot(boolean)}.
+     *
+     * @return A snapshot of the system at the most recent point with no write in progress.
+     */
+    public FlightBookingSnapshot snapshot() {
+        return snapshot(false);
+    }
+
+    /**
+     * Takes a consistent, read-only snapshot of the flights and customers, and optionally of the
+     * bookings. The snapshot is copied only while no write is in progress and is discarded if a
+     * write started during the copy; until the next write completes, every caller gets the same
+     * cached snapshot. Readers never take the writers' locks. A reader that keeps losing to
+     * writers settles for the last snapshot taken, which is older but still consistent, or backs
+     * off between retries if there is none it can use.
+     *
+     * @param withBookings True to copy the bookings too, which takes time in proportion to the
+     *                     number of bookings; listings of flights and customers do not need them.
+     * @return A snapshot of the system at the most recent point with no write in progress.
+     */
+    public FlightBookingSnapshot snapshot(boolean withBookings) {
+        for (int attempt = 0; ; attempt++) {
+            long completed = writesCompleted.get();
+            long started = writesStarted.get(); // Read after completed, so equal means no write was in progress
+            if (started == completed) {
+                FlightBookingSnapshot cached = lastSnapshot;
+                if (cached != null && cached.getVersion() == completed && (cached.hasBookings() || !withBookings)) {
+                    return cached;
+                }
+                FlightBookingSnapshot copy = copyState(completed, withBookings);
+                if (writesStarted.get() == started) {
+                    lastSnapshot = copy;
+                    return copy;
+                }
+            }
+            if (attempt < SNAPSHOT_SPINS) {
+                Thread.onSpinWait();
+            } else if (attempt < SNAPSHOT_ATTEMPTS) {
+                Thread.yield();
+            } else {
+                FlightBookingSnapshot cached = lastSnapshot;
+                if (cached != null && (cached.hasBookings() || !withBookings)) {
+                    return cached; // Older, but taken between writes
+                }
+                LockSupport.parkNanos(SNAPSHOT_BACKOFF_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Copies the flights and customers, and optionally the bookings, into a new snapshot. Each
+     * flight and customer is copied, so edits made after the snapshot is taken do not show in it,
+     * and the copied bookings refer to the copies.
+     *
+     * @param version      The number of writes applied to the state being copied.
+     * @param withBookings True to copy the bookings too.
+     * @return The new snapshot.
+     */
+    private FlightBookingSnapshot copyState(long version, boolean withBookings) {
+        List<Flight> flightCopy = new ArrayList<>(activeFlights.size());
+        Map<Integer, Flight> flightCopies = new HashMap<>();
+        Map<Integer, Integer> numberOfSeats = new HashMap<>();
+        Map<Integer, Integer> remainingSeats = new HashMap<>();
+        for (Flight flight : activeFlights.values()) {
+            Flight copy = new Flight(flight);
+            flightCopy.add(copy);
+            flightCopies.put(copy.getId(), copy);
+            numberOfSeats.put(copy.getId(), copy.getNumberOfSeats());
+            remainingSeats.put(copy.getId(), copy.getRemainingNumberOfSeats());
+        }
+        List<Customer> customerCopy = new ArrayList<>(customers.size());
+        Map<Integer, Customer> customerCopies = new HashMap<>();
+        for (Customer customer : customers.values()) {
+            Customer copy = new Customer(customer);
+            customerCopy.add(copy);
+            customerCopies.put(copy.getId(), copy);
+        }
+        Map<Integer, Integer> bookingCounts = new HashMap<>();
+        for (Customer customer : customerCopy) {
+            Map<Integer, Booking> customerBookings = bookingsByCustomer.get(customer.getId());
+            if (customerBookings != null && !customerBookings.isEmpty()) {
+                bookingCounts.put(customer.getId(), customerBookings.size());
+            }
+        }
+        List<Booking> bookingCopy = null;
+        if (withBookings) {
+            bookingCopy = new ArrayList<>(bookings.size());
+            for (Booking booking : bookings.values()) {
+                Customer customer = customerCopies.computeIfAbsent(booking.getCustomer().getId(),
+                        id -> new Customer(booking.getCustomer()));
+                Flight flight = flightCopies.computeIfAbsent(booking.getFlight().getId(),
+                        id -> new Flight(booking.getFlight())); // A deleted flight, not listed
+                Booking copy = new Booking(customer, flight, booking.getBookingDate());
+                copy.setId(booking.getId());
+                copy.setSeat(booking.getSeat());
+                copy.setGroupId(booking.getGroupId());
+                bookingCopy.add(copy);
+            }
+        }
+        return new FlightBookingSnapshot(version, flightCopy, customerCopy, bookingCopy,
+                numberOfSeats, remainingSeats, bookingCounts);
+    }
+
+    /**
+     * Adds a booking to the system based on customer ID, flight ID, and booking date.
+     * The booking is given the first free seat on the flight.
+     *
+     * @param cusId       The ID of the customer making the booking.
+     * @param flightId    The ID of the flight for which booking is made.
+     * @param bookingDate The date on which the booking is made.
+     * @throws FlightBookingSystemException If the customer or flight does not exist, if the customer
+     *                                      already has a booking on the flight for that date,
+     *                                      or if the flight has no remaining seats.
+     */
+    public void addBookingByIds(int cusId, int flightId, LocalDate bookingDate) throws FlightBookingSystemException {
+        addBookingByIds(cusId, flightId, bookingDate, null);
+    }
+
+    /**
+     * Adds a booking to the system based on customer ID, flight ID, and booking date, in a
+     * specific seat or in the first free seat.
+     *
+     * @param cusId       The ID of the customer making the booking.
+     * @param flightId    The ID of the flight for which booking is made.
+     * @param bookingDate The date on which the booking is made.
+     * @param seat        The label of the seat to book, for example "12C", or null for the first free seat.
+     * @return The new booking.
+     * @throws FlightBookingSystemException If the customer or flight does not exist, if the customer
+     *                                      already has a booking on the flight for that date,
+     *                                      if the flight has no remaining seats, or if the seat
+     *                                      does not exist or is taken.
+     */
+    public Booking addBookingByIds(int cusId, int flightId, LocalDate bookingDate, String seat) throws FlightBookingSystemException {
+        expireHolds();
+        return bookByIds(cusId, flightId, bookingDate, seat);
+    }
+
+    /**
+     * Books a customer onto a flight as described for {@link #addBookingByIds(int, int, LocalDate, String)},
+     * without first expiring holds, so it can be called while holding the flight's lock.
+     *
+     * @param cusId       The ID of the customer making the booking.
+     * @param flightId    The ID of the flight for which booking is made.
+     * @param bookingDate The date on which the booking is made.
+     * @param seat        The label of the seat to book, or null for the first free seat.
+     * @return The new booking.
+     * @throws FlightBookingSystemException If the booking cannot be made.
+     */
+    private Booking bookByIds(int cusId, int flightId, LocalDate bookingDate, String seat) throws FlightBookingSystemException {
+        Customer customer = customers.get(cusId);
+        if (customer == null) {
+            throw new IllegalArgumentException("Customer with that customer id not available");
+        }
+        Flight flight = flights.get(flightId);
+        if (flight == null) {
+            throw new IllegalArgumentException("Flight with that flight id not available");
+        }
+        synchronized (lockFor(flightId)) {
+            beginWrite();
+            try {
+                if (bookingKeys.contains(bookingKey(cusId, flightId, bookingDate))) {
+                    throw new FlightBookingSystemException("There is a booking with the same customer, flight, and booking date in the system");
+                }
+                Booking booking = new Booking(customer, flight, bookingDate);
+                if (seat != null) {
+                    try {
+                        booking.setSeat(flight.getSeatMap().parse(seat));
+                    } catch (IllegalArgumentException ex) {
+                        throw new FlightBookingSystemException(ex.getMessage());
+                    }
+                }
+                reserveSeat(flight, booking);
+                booking.setId(nextBookingId());
+                linkBooking(booking);
+                return booking;
+            } finally {
+                endWrite();
+            }
+        }
+    }
+
+    /**
+     * Adds a batch of bookings, booking each row that can be booked. See
+     * {@link #addBookings(Collection, boolean)}.
+     *
+     * @param requests The bookings to make.
+     * @return One result per request, in the order given.
+     */
+    public List<BookingResult> addBookings(Collection<BookingRequest> requests) {
+        return addBookings(requests, false);
+    }
+
+    /**
+     * Adds a batch of bookings in one pass. Requests are grouped by flight, every flight in the
+     * batch is locked once, each flight's capacity is checked and reserved once for all of its
+     * rows, and the indexes are updated once per flight and per customer.
+     *
+     * <p>When the batch is not atomic, rows are booked in the order given until a flight runs out
+     * of seats, and the rows that cannot be booked are reported. When it is atomic, either every
+     * row is booked or none is.
+     *
+     * @param requests The bookings to make.
+     * @param atomic   True to book every row or none of them.
+     * @return One result per request, in the order given, holding the booking made or the reason
+     *         the row was rejected.
+     */
+    public List<BookingResult> addBookings(Collection<BookingRequest> requests, boolean atomic) {
+        expireHolds();
+        List<BookingRequest> rows = new ArrayList<>(requests);
+        String[] errors = new String[rows.size()];
+        Booking[] made = new Booking[rows.size()];
+
+        int failed = bookBatch(rows, errors, made, atomic);
+        if (atomic && failed >= 0) {
+            for (int row = 0; row < rows.size(); row++) {
+                if (errors[row] == null) {
+                    errors[row] = "Not booked because row " + failed + " of the batch was rejected";
+                }
+            }
+        }
+
+        List<BookingResult> results = new ArrayList<>(rows.size());
+        for (int row = 0; row < rows.size(); row++) {
+            results.add(new BookingResult(row, rows.get(row), errors[row] == null ? made[row] : null, errors[row]));
+        }
+        return results;
+    }
+
+    /**
+     * Books a batch of rows as described for {@link #addBookings(Collection, boolean)}.
+     *
+     * @param rows   The requests.
+     * @param errors The reason each row is rejected, filled in for rejected rows.
+     * @param made   The booking made for each row, filled in for booked rows.
+     * @param atomic True to book every row or none of them.
+     * @return The position of the first rejected row, or -1 if every row was booked.
+     */
+    private int bookBatch(List<BookingRequest> rows, String[] errors, Booking[] made, boolean atomic) {
+        // Group the rows by flight, keeping each flight's rows in the order given
+        Map<Integer, List<Integer>> rowsByFlight = new TreeMap<>();
+        for (int row = 0; row < rows.size(); row++) {
+            BookingRequest request = rows.get(row);
+            if (!customers.containsKey(request.getCustomerId())) {
+                errors[row] = "Customer with that customer id not available";
+            } else if (!flights.containsKey(request.getFlightId())) {
+                errors[row] = "Flight with that flight id not available";
+            } else {
+                rowsByFlight.computeIfAbsent(request.getFlightId(), k -> new ArrayList<>()).add(row);
+            }
+        }
+
+        if (!atomic || !hasError(errors)) {
+            int[] stripes = rowsByFlight.keySet().stream()
+                    .mapToInt(flightId -> flightId & (LOCK_STRIPES - 1)).distinct().sorted().toArray();
+            withStripeLocks(stripes, 0, () -> {
+                beginWrite();
+                try {
+                    applyBatch(rows, rowsByFlight, errors, made, atomic);
+                } finally {
+                    endWrite();
+                }
+            });
+        }
+        return firstError(errors);
+    }
+
+    /**
+     * Books a party of customers onto a flight in one atomic step and links the bookings under a
+     * new group ID. Either every customer in the party is booked or none is. When one row of the
+     * seat map has room for the whole party they are seated next to each other; otherwise each
+     * gets the first free seat.
+     *
+     * @param customerIds The IDs of the customers in the party.
+     * @param flightId    The ID of the flight to book.
+     * @param bookingDate The date on which the booking is made.
+     * @return The ID of the new group booking.
+     * @throws FlightBookingSystemException If the party is empty, the flight does not exist, or any
+     *                                      customer in the party cannot be booked.
+     */
+    public int addGroupBooking(List<Integer> customerIds, int flightId, LocalDate bookingDate) throws FlightBookingSystemException {
+        if (customerIds.isEmpty()) {
+            throw new FlightBookingSystemException("A group booking needs at least one customer.");
+        }
+        expireHolds();
+        Flight flight = flights.get(flightId);
+        if (flight == null) {
+            throw new FlightBookingSystemException("Flight with that flight id not available");
+        }
+        synchronized (lockFor(flightId)) {
+            beginWrite();
+            try {
+                SeatMap seatMap = flight.getSeatMap();
+                int firstSeat = seatMap.findAdjacent(customerIds.size());
+                List<BookingRequest> rows = new ArrayList<>(customerIds.size());
+                for (int i = 0; i < customerIds.size(); i++) {
+                    String seat = firstSeat >= 0 ? seatMap.label(firstSeat + i) : null;
+                    rows.add(new BookingRequest(customerIds.get(i), flightId, bookingDate, seat));
+                }
+                String[] errors = new String[rows.size()];
+                Booking[] made = new Booking[rows.size()];
+                int failed = bookBatch(rows, errors, made, true);
+                if (failed >= 0) {
+                    throw new FlightBookingSystemException("Unable to book customer #" + customerIds.get(failed)
+                            + ": " + errors[failed]);
+                }
+
+                int groupId = lastGroupId.incrementAndGet();
+                List<Booking> group = new ArrayList<>(Arrays.asList(made));
+                for (Booking booking : group) {
+                    booking.setGroupId(groupId);
+                }
+                bookingsByGroup.put(groupId, group);
+                return groupId;
+            } finally {
+                endWrite();
+            }
+        }
+    }
+
+    /**
+     * Retrieves the bookings of a group booking.
+     *
+     * @param groupId The ID of the group booking.
+     * @return An unmodifiable list of the group's bookings, empty if there is no such group.
+     */
+    public List<Booking> bookingsForGroup(int groupId) {
+        List<Booking> group = bookingsByGroup.get(groupId);
+        if (group == null) {
+            return Collections.emptyList();
+        }
+        synchronized (group) {
+            return Collections.unmodifiableList(new ArrayList<>(group));
+        }
+    }
+
+    /**
+     * Cancels every booking in a group booking. The work is proportional to the size of the group,
+     * however many other bookings the flight has.
+     *
+     * @param groupId The ID of the group booking.
+     * @return The number of bookings cancelled.
+     * @throws FlightBookingSystemException If there is no group booking with that ID.
+     */
+    public int cancelGroupBooking(int groupId) throws FlightBookingSystemException {
+        List<Booking> group = bookingsByGroup.get(groupId);
+        if (group == null) {
+            throw new FlightBookingSystemException("No group booking found with ID " + groupId);
+        }
+        int[] cancelled = {-1};
+        while (cancelled[0] < 0) {
+            List<Booking> members;
+            synchronized (group) {
+                members = new ArrayList<>(group);
+            }
+            // Members may have been moved to other flights since the group was booked
+            int[] stripes = members.stream()
+                    .mapToInt(booking -> booking.getFlight().getId() & (LOCK_STRIPES - 1)).distinct().sorted().toArray();
+            withStripeLocks(stripes, 0, () -> {
+                for (Booking booking : members) {
+                    if (Arrays.binarySearch(stripes, booking.getFlight().getId() & (LOCK_STRIPES - 1)) < 0) {
+                        return; // A member moved flight before the locks were taken; try again
+                    }
+                }
+                beginWrite();
+                try {
+                    cancelled[0] = 0;
+                    if (bookingsByGroup.remove(groupId, group)) {
+                        Set<Flight> freed = new LinkedHashSet<>();
+                        for (Booking booking : members) {
+                            if (bookings.get(booking.getId()) == booking) {
+                                unlinkBooking(booking);
+                                freed.add(booking.getFlight());
+                                cancelled[0]++;
+                            }
+                        }
+                        for (Flight flight : freed) {
+                            promoteWaitlist(flight);
+                        }
+                    }
+                } finally {
+                    endWrite();
+                }
+            });
+        }
+        if (cancelled[0] == 0) {
+            throw new FlightBookingSystemException("No group booking found with ID " + groupId);
+        }
+        return cancelled[0];
+    }
+
+    /**
+     * Validates and books a batch of rows grouped by flight. The caller holds the locks of every
+     * flight in the batch. Nothing is changed if the batch is atomic and any row is rejected.
+     *
+     * @param rows         The requests.
+     * @param rowsByFlight The positions of the rows for each flight.
+     * @param errors       The reason each row is rejected, filled in for rejected rows.
+     * @param made         The booking made for each row, filled in for booked rows.
+     * @param atomic       True to book every row or none of them.
+     */
+    private void applyBatch(List<BookingRequest> rows, Map<Integer, List<Integer>> rowsByFlight,
+                            String[] errors, Booking[] made, boolean atomic) {
+        Set<String> batchKeys = new HashSet<>();
+        Map<Flight, Integer> reserved = new LinkedHashMap<>(); // Seats reserved per flight, released if the batch is rolled back
+        Booking[] pending = new Booking[rows.size()];
+
+        // Check every row and take each flight's seats with a single reservation
+        for (Map.Entry<Integer, List<Integer>> group : rowsByFlight.entrySet()) {
+            Flight flight = flights.get(group.getKey());
+            SeatMap seatMap = flight == null ? null : flight.getSeatMap();
+            Set<Integer> batchSeats = new HashSet<>();
+            List<Integer> accepted = new ArrayList<>();
+            for (int row : group.getValue()) {
+                BookingRequest request = rows.get(row);
+                Customer customer = customers.get(request.getCustomerId());
+                if (flight == null) {
+                    errors[row] = "Flight with that flight id not available";
+                    continue;
+                }
+                if (customer == null) {
+                    errors[row] = "Customer with that customer id not available";
+                    continue;
+                }
+                Booking booking = new Booking(customer, flight, request.getBookingDate());
+                if (request.getSeat() != null) {
+                    try {
+                        booking.setSeat(seatMap.parse(request.getSeat()));
+                    } catch (IllegalArgumentException ex) {
+                        errors[row] = ex.getMessage();
+                        continue;
+                    }
+                    if (!seatMap.isFree(booking.getSeat()) || batchSeats.contains(booking.getSeat())) {
+                        errors[row] = "Seat " + seatMap.label(booking.getSeat()) + " is already taken";
+                        continue;
+                    }
+                }
+                String key = bookingKey(customer.getId(), flight.getId(), request.getBookingDate());
+                if (bookingKeys.contains(key) || !batchKeys.add(key)) {
+                    errors[row] = "There is a booking with the same customer, flight, and booking date in the system";
+                    continue;
+                }
+                if (booking.getSeat() >= 0) {
+                    batchSeats.add(booking.getSeat());
+                }
+                pending[row] = booking;
+                accepted.add(row);
+            }
+
+            int granted = accepted.size();
+            while (granted > 0 && !flight.tryReserve(granted)) {
+                granted = Math.min(granted, flight.getRemainingNumberOfSeats());
+            }
+            if (granted > 0) {
+                reserved.put(flight, granted);
+            }
+            for (int i = granted; i < accepted.size(); i++) {
+                int row = accepted.get(i);
+                errors[row] = "Seats for this flight are fully booked";
+                pending[row] = null;
+            }
+        }
+
+        if (atomic && hasError(errors)) {
+            for (Map.Entry<Flight, Integer> entry : reserved.entrySet()) {
+                entry.getKey().release(entry.getValue());
+            }
+            return;
+        }
+
+        // Named seats first, so a row asking for the first free seat cannot take one named later in the batch
+        for (Booking booking : pending) {
+            if (booking != null && booking.getSeat() >= 0) {
+                booking.getFlight().getSeatMap().assign(booking.getSeat());
+            }
+        }
+        List<Booking> batch = new ArrayList<>();
+        for (int row = 0; row < pending.length; row++) {
+            Booking booking = pending[row];
+            if (booking == null) {
+                continue;
+            }
+            if (booking.getSeat() < 0) {
+                booking.setSeat(booking.getFlight().getSeatMap().assignFirstFree());
+            }
+            booking.setId(nextBookingId());
+            batch.add(booking);
+            made[row] = booking;
+        }
+        linkBookings(batch);
+    }
+
+    /**
+     * Checks whether any row of a batch was rejected.
+     *
+     * @param errors The reason each row was rejected, or null for rows that were not.
+     * @return True if any row was rejected.
+     */
+    private static boolean hasError(String[] errors) {
+        return firstError(errors) >= 0;
+    }
+
+    /**
+     * Finds the first rejected row of a batch.
+     *
+     * @param errors The reason each row was rejected, or null for rows that were not.
+     * @return The position of the first rejected row, or -1 if no row was rejected.
+     */
+    private static int firstError(String[] errors) {
+        for (int row = 0; row < errors.length; row++) {
+            if (errors[row] != null) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Books a customer onto a flight, or puts them on the flight's waitlist if it is fully booked.
+     * Customers join with priority 0, so they are booked in the order they joined.
+     *
+     * @param cusId       The ID of the customer making the booking.
+     * @param flightId    The ID of the flight for which booking is made.
+     * @param bookingDate The date on which the booking is made.
+     * @param seat        The label of the seat to book, or null for the first free seat.
+     * @return The new booking, or null if the customer was put on the waitlist.
+     * @throws FlightBookingSystemException If the booking cannot be made or the customer cannot
+     *                                      join the waitlist.
+     */
+    public Booking addBookingOrWaitlist(int cusId, int flightId, LocalDate bookingDate, String seat) throws FlightBookingSystemException {
+        expireHolds(); // Free expired holds before deciding the flight is full
+        Flight flight = flights.get(flightId);
+        if (flight == null) {
+            return bookByIds(cusId, flightId, bookingDate, seat); // Reports the missing flight
+        }
+        synchronized (lockFor(flightId)) {
+            if (flight.getRemainingNumberOfSeats() == 0) {
+                joinWaitlist(cusId, flightId, bookingDate, 0);
+                return null;
+            }
+            return bookByIds(cusId, flightId, bookingDate, seat);
+        }
+    }
+
+    /**
+     * Puts a customer on a flight's waitlist. Waiting customers are booked automatically, highest
+     * priority first and then in the order they joined, when a seat on the flight is cancelled or
+     * the flight's capacity is increased.
+     *
+     * @param cusId       The ID of the customer.
+     * @param flightId    The ID of the flight.
+     * @param bookingDate The booking date to use when the customer is booked.
+     * @param priority    The customer's priority; customers with a higher priority are booked first.
+     * @return The number of customers now waiting for the flight.
+     * @throws FlightBookingSystemException If the customer or flight does not exist, the flight is
+     *                                      deleted, or the customer is already booked or waiting for
+     *                                      the flight on that date.
+     */
+    public int joinWaitlist(int cusId, int flightId, LocalDate bookingDate, int priority) throws FlightBookingSystemException {
+        if (!customers.containsKey(cusId)) {
+            throw new FlightBookingSystemException("Customer with that customer id not available");
+        }
+        Flight flight = flights.get(flightId);
+        if (flight == null || flight.getDeleted()) {
+            throw new FlightBookingSystemException("Flight with that flight id not available");
+        }
+        synchronized (lockFor(flightId)) {
+            beginWrite();
+            try {
+                String key = bookingKey(cusId, flightId, bookingDate);
+                if (bookingKeys.contains(key)) {
+                    throw new FlightBookingSystemException("There is a booking with the same customer, flight, and booking date in the system");
+                }
+                if (!waitlistKeys.add(key)) {
+                    throw new FlightBookingSystemException("Customer #" + cusId + " is already on the waitlist for flight #" + flightId);
+                }
+                PriorityQueue<WaitlistEntry> queue = waitlists.computeIfAbsent(flightId, k -> new PriorityQueue<>());
+                queue.add(new WaitlistEntry(cusId, flightId, bookingDate, priority, lastWaitlistSequence.incrementAndGet()));
+                changes.markChanged(ChangeTracker.Kind.WAITLISTS, flightId);
+                return queue.size();
+            } finally {
+                endWrite();
+            }
+        }
+    }
+
+    /**
+     * Retrieves the customers waiting for a flight.
+     *
+     * @param flightId The ID of the flight.
+     * @return The waiting customers, next to be booked first.
+     */
+    public List<WaitlistEntry> getWaitlist(int flightId) {
+        synchronized (lockFor(flightId)) {
+            PriorityQueue<WaitlistEntry> queue = waitlists.get(flightId);
+            if (queue == null) {
+                return Collections.emptyList();
+            }
+            List<WaitlistEntry> entries = new ArrayList<>(queue);
+            Collections.sort(entries);
+            return entries;
+        }
+    }
+
+    /**
+     * Retrieves the number of customers waiting for each flight that has a waitlist.
+     *
+     * @return The waitlist depth of each flight, ordered by flight ID.
+     */
+    public Map<Integer, Integer> getWaitlistDepths() {
+        Map<Integer, Integer> depths = new TreeMap<>();
+        for (Integer flightId : new ArrayList<>(waitlists.keySet())) {
+            synchronized (lockFor(flightId)) {
+                PriorityQueue<WaitlistEntry> queue = waitlists.get(flightId);
+                if (queue != null && !queue.isEmpty()) {
+                    depths.put(flightId, queue.size());
+                }
+            }
+        }
+        return depths;
+    }
+
+    /**
+     * Retrieves the running sales figures of an active flight.
+     *
+     * @param flightId The ID of the flight.
+     * @return A copy of the flight's figures; empty if the flight is not active.
+     */
+    public SalesFigures getFlightSales(int flightId) {
+        SalesFigures sales = salesByFlight.get(flightId);
+        return sales != null ? sales.copy() : new SalesFigures();
+    }
+
+    /**
+     * Retrieves the running sales figures of every active flight. Each entry is kept up to date
+     * as bookings are made, so this costs one copy per flight rather than a pass over the bookings.
+     *
+     * @return Copies of the figures, by flight ID in ascending order.
+     */
+    public Map<Integer, SalesFigures> getSalesByFlight() {
+        return copySales(salesByFlight);
+    }
+
+    /**
+     * Retrieves the running sales figures of the active flights on each route.
+     *
+     * @return Copies of the figures, by route in alphabetical order, with each route written as
+     *         "origin to destination".
+     */
+    public Map<String, SalesFigures> getSalesByRoute() {
+        return copySales(salesByRoute);
+    }
+
+    /**
+     * Retrieves the running sales figures of the active flights departing on each date.
+     *
+     * @return Copies of the figures, by departure date in ascending order.
+     */
+    public Map<LocalDate, SalesFigures> getSalesByDate() {
+        return copySales(salesByDate);
+    }
+
+    /**
+     * Holds a seat on a flight for a customer. The seat is taken from the flight's remaining seats
+     * straight away but is not booked until the hold is confirmed. If the hold is neither confirmed
+     * nor released within its time limit it expires and the seat is given back.
+     *
+     * @param cusId    The ID of the customer the seat is held for.
+     * @param flightId The ID of the flight.
+     * @param seat     The label of the seat to hold, for example "12C", or null for the first free seat.
+     * @param ttl      How long to hold the seat.
+     * @return The new hold.
+     * @throws FlightBookingSystemException If the customer or flight does not exist, if the flight
+     *                                      has no remaining seats, or if the seat does not exist or is taken.
+     */
+    public SeatHold placeHold(int cusId, int flightId, String seat, Duration ttl) throws FlightBookingSystemException {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("A seat must be held for a positive length of time.");
+        }
+        expireHolds();
+        if (!customers.containsKey(cusId)) {
+            throw new FlightBookingSystemException("Customer with that customer id not available");
+        }
+        Flight flight = flights.get(flightId);
+        if (flight == null) {
+            throw new FlightBookingSystemException("Flight with that flight id not available");
+        }
+        synchronized (lockFor(flightId)) {
+            beginWrite();
+            try {
+                int seatNumber = -1;
+                if (seat != null) {
+                    try {
+                        seatNumber = flight.getSeatMap().parse(seat);
+                    } catch (IllegalArgumentException ex) {
+                        throw new FlightBookingSystemException(ex.getMessage());
+                    }
+                }
+                seatNumber = takeSeat(flight, seatNumber);
+                long expiresAt = clock.millis() + ttl.toMillis();
+                SeatHold hold = new SeatHold(lastHoldId.incrementAndGet(), cusId, flightId, seatNumber,
+                        flight.getSeatMap().label(seatNumber), expiresAt);
+                holds.put(hold.getId(), hold);
+                synchronized (holdLock) {
+                    hold.timeout = holdWheel.schedule(hold, expiresAt);
+                }
+                return hold;
+            } finally {
+                endWrite();
+            }
+        }
+    }
+
+    /**
+     * Turns a hold into a booking in the held seat. The seat was already taken from the flight
+     * when the hold was placed, so confirming never fails for lack of seats.
+     *
+     * @param holdId      The ID of the hold.
+     * @param bookingDate The date on which the booking is made.
+     * @return The new booking.
+     * @throws FlightBookingSystemException If there is no such hold or it has expired, if the customer
+     *                                      or flight no longer exists, or if the customer already has
+     *                                      a booking on the flight for that date.
+     */
+    public Booking confirmHold(int holdId, LocalDate bookingDate) throws FlightBookingSystemException {
+        expireHolds();
+        SeatHold hold = holds.get(holdId);
+        if (hold == null) {
+            throw new FlightBookingSystemException("No seat hold with that id; it may have expired");
+        }
+        Customer customer = customers.get(hold.getCustomerId());
+        if (customer == null) {
+            throw new FlightBookingSystemException("Customer with that customer id not available");
+        }
+        Flight flight = flights.get(hold.getFlightId());
+        if (flight == null) {
+            throw new FlightBookingSystemException("Flight with that flight id not available");
+        }
+        synchronized (lockFor(hold.getFlightId())) {
+            if (holds.get(holdId) != hold) {
+                throw new FlightBookingSystemException("No seat hold with that id; it may have expired");
+            }
+            if (bookingKeys.contains(bookingKey(customer.getId(), flight.getId(), bookingDate))) {
+                throw new FlightBookingSystemException("There is a booking with the same customer, flight, and booking date in the system");
+            }
+            if (!cancelExpiry(hold)) {
+                throw new FlightBookingSystemException("The seat hold has expired");
+            }
+            beginWrite();
+            try {
+                holds.remove(holdId);
+                Booking booking = new Booking(customer, flight, bookingDate);
+                booking.setSeat(hold.getSeat());
+                booking.setId(nextBookingId());
+                linkBooking(booking);
+                return booking;
+            } finally {
+                endWrite();
+            }
+        }
+    }
+
+    /**
+     * Releases a hold before it expires, giving its seat back to the flight.
+     *
+     * @param holdId The ID of the hold.
+     * @throws FlightBookingSystemException If there is no such hold or it has already expired.
+     */
+    public void releaseHold(int holdId) throws FlightBookingSystemException {
+        expireHolds();
+        SeatHold hold = holds.get(holdId);
+        if (hold == null) {
+            throw new FlightBookingSystemException("No seat hold with that id; it may have expired");
+        }
+        synchronized (lockFor(hold.getFlightId())) {
+            if (holds.get(holdId) != hold || !cancelExpiry(hold)) {
+                throw new FlightBookingSystemException("No seat hold with that id; it may have expired");
+            }
+            beginWrite();
+            try {
+                freeHold(hold);
+            } finally {
+                endWrite();
+            }
+        }
+    }
+
+    /**
+     * Retrieves an outstanding hold.
+     *
+     * @param holdId The ID of the hold.
+     * @return The hold, or null if there is no such hold or it has been confirmed, released or has expired.
+     */
+    public SeatHold getHold(int holdId) {
+        expireHolds();
+        return holds.get(holdId);
+    }
+
+    /**
+     * Expires every hold whose time limit has passed, giving the held seats back to their flights
+     * and booking waiting customers into them. The system calls this itself before any operation
+     * that takes or counts seats, so it only needs calling directly to free seats promptly when
+     * the system is otherwise idle. Only the holds that are due are touched.
+     *
+     * @return The number of holds that expired.
+     */
+    public int expireHolds() {
+        List<SeatHold> expired = new ArrayList<>();
+        synchronized (holdLock) {
+            holdWheel.advance(clock.millis(), expired::add);
+        }
+        for (SeatHold hold : expired) {
+            synchronized (lockFor(hold.getFlightId())) {
+                beginWrite();
+                try {
+                    freeHold(hold);
+                } finally {
+                    endWrite();
+                }
+            }
+        }
+        return expired.size();
+    }
+
+    /**
+     * Sets the clock used to time holds.
+     *
+     * @param clock The clock.
+     * @throws IllegalStateException If any holds are outstanding.
+     */
+    public void setClock(Clock clock) {
+        synchronized (holdLock) {
+            if (holdWheel.size() > 0) {
+                throw new IllegalStateException("The clock cannot be changed while seats are held.");
+            }
+            this.clock = clock;
+            holdWheel = new TimerWheel<>(HOLD_TICK_MILLIS, clock.millis());
+        }
+    }
+
+    /**
+     * Updates customer details in the system.
+     *
+     * @param id       The ID of the customer to update.
+     * @param name     The new name of the customer (optional).
+     * @param phoneNum The new phone number of the customer (optional).
+     * @param email    The new email of the customer (optional).
+     * @throws FlightBookingSystemException If no customer exists with the provided ID.
+     */
+    public void updateCustomer(int id, String name, String phoneNum, String email) throws FlightBookingSystemException {
+        synchronized (catalogLock) {
+            beginWrite();
+            try {
+                if (!customers.containsKey(id)) {
+                    throw new FlightBookingSystemException("Customer with that ID not found.");
+                }
+
+                Customer customer = customers.get(id);
+                customersByNameAndPhone.remove(customerKey(customer.getName(), customer.getPhone()), customer);
+
+                // Update name if provided, otherwise keep existing name
+                if (name != null && !name.trim().isEmpty()) {
+                    customer.setName(name);
+                }
+
+                // Update phoneNum if provided, otherwise keep existing phoneNum
+                if (phoneNum != null && !phoneNum.trim().isEmpty()) {
+                    customer.setPhone(phoneNum);
+                }
+
+                // Update email if provided, otherwise keep existing email
+                if (email != null && !email.trim().isEmpty()) {
+                    customer.setEmail(email);
+                }
+
+                customers.put(id, customer); // Update the customer in the map
+                customersByNameAndPhone.putIfAbsent(customerKey(customer.getName(), customer.getPhone()), customer);
+                changes.markChanged(ChangeTracker.Kind.CUSTOMERS, id);
+            } finally {
+                endWrite();
+            }
+        }
+    }
+
+    /**
+     * Updates flight details in the system. A flight can shrink to as few seats as it has taken:
+     * bookings in seats that would no longer exist are moved into the lowest free seats first.
+     *
+     * @param id         The ID of the flight to update.
+     * @param numOfSeats The new number of seats of the flight.
+     * @param price      The new price of the flight.
+     * @throws FlightBookingSystemException If no flight exists with the provided ID, if the number
+     *                                      of seats or price is invalid, or if the flight would have
+     *                                      fewer seats than are taken or lose a held seat.
+     */
+    public void updateFlight(int id, int numOfSeats, int price) throws FlightBookingSystemException {
+        synchronized (lockFor(id)) {
+            beginWrite();
+            try {
+                if (!flights.containsKey(id)) {
+                    throw new FlightBookingSystemException("Flight with that ID not found.");
+                }
+
+                Flight flight = flights.get(id);
+                int oldSeats = flight.getNumberOfSeats();
+
+                // Update number of seats if provided
+                if (numOfSeats > 0) {
+                    if (numOfSeats < oldSeats) {
+                        moveBookingsBelow(flight, numOfSeats);
+                    }
+                    try {
+                        flight.setNumberOfSeats(numOfSeats); // Moves the remaining seat count by the same amount
+                        recordSales(flight, numOfSeats - oldSeats, 0, 0);
+                    } catch (IllegalArgumentException ex) {
+                        throw new FlightBookingSystemException(ex.getMessage());
+                    }
+                } else {
+                    throw new IllegalArgumentException("Number of seats must be a positive integer.");
+                }
+
+                // Update price if provided
+                if (price >= 0) {
+                    SalesFigures sales = salesByFlight.get(id);
+                    int sold = sales != null ? sales.getSeatsSold() : 0;
+                    recordSales(flight, 0, 0, (long) sold * (price - flight.getPrice())); // Reprice the seats already sold
+                    flight.setPrice(price);
+                } else {
+                    throw new IllegalArgumentException("Price must be a non-negative integer.");
+                }
+
+                flights.put(id, flight); // Update the flight in the map
+                changes.markChanged(ChangeTracker.Kind.FLIGHTS, id);
+                promoteWaitlist(flight); // Fill any seats added to the flight from its waitlist
+            } finally {
+                endWrite();
+            }
+        }
+    }
+
+    /**
+     * Moves the bookings in seats at or above a new number of seats into the lowest free seats
+     * below it, so the flight can shrink to that many seats. Nothing is moved unless every taken
+     * seat fits. Held seats are not moved, as the customer was told which seat they hold. The
+     * caller holds the flight's lock.
+     *
+     * @param flight     The flight being shrunk.
+     * @param numOfSeats The new number of seats.
+     * @throws FlightBookingSystemException If more seats are taken than the new number of seats,
+     *                                      or a held seat would no longer exist.
+     */
+    private void moveBookingsBelow(Flight flight, int numOfSeats) throws FlightBookingSystemException {
+        SeatMap seatMap = flight.getSeatMap();
+        if (seatMap.getNumberTaken() > numOfSeats) {
+            throw new FlightBookingSystemException("Flight has " + seatMap.getNumberTaken()
+                    + " seats taken, which is more than " + numOfSeats + " seats.");
+        }
+        for (SeatHold hold : holds.values()) {
+            if (hold.getFlightId() == flight.getId() && hold.getSeat() >= numOfSeats) {
+                throw new FlightBookingSystemException("Seat " + hold.getSeatLabel()
+                        + " is held, so the flight cannot shrink below it until the hold ends.");
+            }
+        }
+        for (Booking booking : bookingsForFlight(flight.getId())) {
+            int oldSeat = booking.getSeat();
+            if (oldSeat >= numOfSeats) {
+                int seat = seatMap.assignFirstFree(); // Below numOfSeats, as every taken seat fits
+                seatMap.release(oldSeat);
+                booking.setSeat(seat);
+                changes.markChanged(ChangeTracker.Kind.BOOKINGS, booking.getCustomer().getId());
+            }
+        }
+    }
+
+    /**
+     * Cancels a booking based on customer ID and flight ID.
+     *
+     * @param cusId   The ID of the customer whose booking is to be canceled.
+     * @param flightId The ID of the flight for which the booking is to be canceled.
+     * @throws FlightBookingSystemException If no booking is found for the provided customer and flight IDs.
+     */
+    public void cancelBooking(int cusId, int flightId) throws FlightBookingSystemException {
+        synchronized (lockFor(flightId)) {
+            beginWrite();
+            try {
+                Booking bookingRemove = findBooking(cusId, flightId);
+
+                if (bookingRemove != null) {
+                    unlinkBooking(bookingRemove);
+                    promoteWaitlist(bookingRemove.getFlight()); // Hand the freed seat to the next waiting customer
+                } else {
+                    throw new FlightBookingSystemException("No booking found for customer ID " + cusId + " and flight ID " + flightId);
+                }
+            } finally {
+                endWrite();
+            }
+        }
+    }
+
+    /**
+     * Retrieves a list of bookings associated with a specific customer ID.
+     *
+     * @param cusId The ID of the customer whose bookings are to be retrieved.
+     * @return An unmodifiable list of bookings associated with the specified customer.
+     * @throws FlightBookingSystemException If no customer exists with the provided ID.
+     */
+    public List<Booking> bookingListByCustomer(int cusId) throws FlightBookingSystemException {
+        if (!customers.containsKey(cusId)) {
+            throw new FlightBookingSystemException("Customer with that id does not exist");
+        }
+        return bookingsForCustomer(cusId);
+    }
+
+    /**
+     * Updates an existing booking with new flight ID and booking date.
+     *
+     * @param cusId         The ID of the customer whose booking is to be updated.
+     * @param flightId      The ID of the flight to update the booking with.
+     * @param new_flightId  The new ID of the flight for the booking.
+     * @param newbookingDate The new booking date for the booking.
+     * @throws FlightBookingSystemException If no booking is found for the provided customer and flight IDs,
+     *                                      or if the new flight ID does not exist in the system.
+     */
+    public void updateBooking(int cusId, int flightId, int new_flightId, LocalDate newbookingDate) throws FlightBookingSystemException {
+        // Lock both flights' stripes in stripe order so this cannot deadlock with other updates or batches
+        int oldStripe = flightId & (LOCK_STRIPES - 1);
+        int newStripe = new_flightId & (LOCK_STRIPES - 1);
+        Object firstLock = flightLocks[Math.min(oldStripe, newStripe)];
+        Object secondLock = flightLocks[Math.max(oldStripe, newStripe)];
+        synchronized (firstLock) {
+            beginWrite();
+            try {
+                synchronized (secondLock) {
+                    Booking bookingUpdate = findBooking(cusId, flightId);
+
+                    if (bookingUpdate != null) {
+                        Flight new_flight = flights.get(new_flightId);
+                        if (new_flight == null) {
+                            throw new FlightBookingSystemException("Flight with that id does not exist !!!");
+                        }
+                        LocalDate date = newbookingDate != null ? newbookingDate : bookingUpdate.getBookingDate();
+                        if ((new_flightId != flightId || !date.equals(bookingUpdate.getBookingDate()))
+                                && bookingKeys.contains(bookingKey(cusId, new_flightId, date))) {
+                            throw new FlightBookingSystemException("There is a booking with the same customer, flight, and booking date in the system");
+                        }
+
+                        Flight old_flight = bookingUpdate.getFlight();
+                        if (new_flight != old_flight) {
+                            int old_seat = bookingUpdate.getSeat();
+                            bookingUpdate.setSeat(-1);
+                            try {
+                                reserveSeat(new_flight, bookingUpdate); // Take a seat on the new flight before giving up the old one
+                            } catch (FlightBookingSystemException ex) {
+                                bookingUpdate.setSeat(old_seat);
+                                throw ex;
+                            }
+                            old_flight.release(1);
+                            old_flight.getSeatMap().release(old_seat);
+                            old_flight.removePassenger(bookingUpdate.getCustomer());
+                            new_flight.addPassenger(bookingUpdate.getCustomer());
+                        }
+
+                        unindexBooking(bookingUpdate); // Remove booking from the old flight's index
+                        bookingUpdate.setFlight(new_flight); // Update flight for the booking
+
+                        // Update booking date if provided
+                        if (newbookingDate != null) {
+                            bookingUpdate.setBookingDate(newbookingDate);
+                        }
+                        indexBooking(bookingUpdate); // Add booking to the new flight's index
+                        if (new_flight != old_flight) {
+                            promoteWaitlist(old_flight); // Hand the freed seat to the next waiting customer
+                        }
+                    } else {
+                        throw new FlightBookingSystemException("No booking found for cus ID " + cusId + " and flight ID " + flightId);
+                    }
+                }
+            } finally {
+                endWrite();
+            }
+        }
+    }
+
+    /**
+     * Retrieves a list of customers (passengers) booked on a specific flight.
+     *
+     * @param id The ID of the flight to retrieve passengers for.
+     * @return An unmodifiable list of customers booked on the specified flight.
+     */
+    public List<Customer> listOfPassengersByFlight(int id) {
+        List<Booking> flightBookings = bookingsForFlight(id);
+        List<Customer> customers = new ArrayList<>(flightBookings.size());
+        for (Booking booking : flightBookings) {
+            customers.add(booking.getCustomer());
+        }
+        return customers;
+    }
+
+    /**
+     * Calculates the number of remaining seats on a specific flight.
+     *
+     * @param id The ID of the flight to calculate remaining seats for.
+     * @return The number of remaining seats on the specified flight.
+     * @throws FlightBookingSystemException If no flight exists with the provided ID.
+     */
+    public int numberOfRemainingSeats(int id) throws FlightBookingSystemException {
+        expireHolds();
+        Flight flight = flights.get(id);
+        if (flight == null) {
+            throw new IllegalArgumentException("Flight with that customer id not available");
+        }
+        return flight.getRemainingNumberOfSeats();
+    }
+
+    /**
+     * Retrieves detailed information about a customer including their bookings.
+     *
+     * @param id The ID of the customer to retrieve details for.
+     * @return A formatted string containing detailed information about the customer and their bookings.
+     * @throws FlightBookingSystemException If no customer exists with the provided ID.
+     */
+    public String customerDetailsLong(int id) throws FlightBookingSystemException {
+        StringBuilder details = new StringBuilder();
+        if (!customers.containsKey(id)) {
+            throw new FlightBookingSystemException("No Customer with that id");
+        }
+        Customer customer = customers.get(id);
+        details.append("Customer #" + id + " - " + customer.getName() + " - " + customer.getPhone() + " - " + customer.getEmail() + "\n");
+
+        DateTimeFormatter dtf = DateTimeFormatter.ofPattern("dd/MM/YYYY");
+        for (Booking booking : bookingsForCustomer(id)) {
+
+            Flight flight = booking.getFlight();
+            details.append(" Flight #" + flight.getFlightNumber() + " Origin " + flight.getOrigin() +
+                    " Destination " + flight.getDestination() + " Date " + flight.getDepartureDate().format(dtf) + " Price " + flight.getPrice() + "\n");
+        }
+
+        return details.toString();
+    }
+
+    /**
+     * Retrieves detailed information about a flight including its passengers.
+     *
+     * @param id The ID of the flight to retrieve details for.
+     * @return A formatted string containing detailed information about the flight and its passengers.
+     * @throws FlightBookingSystemException If no flight exists with the provided ID.
+     */
+    public String flightDetailsLong(int id) throws FlightBookingSystemException {
+        StringBuilder details = new StringBuilder();
+
+        DateTimeFormatter dtf = DateTimeFormatter.ofPattern("dd/MM/YYYY");
+        if (!flights.containsKey(id)) {
+            throw new FlightBookingSystemException("No Flight with that id");
+        }
+        Flight flight = flights.get(id);
+        details.append("Flight #" + id + " - " + flight.getFlightNumber() + " - " + flight.getOrigin() + " to "
+                + flight.getDestination() + " on " + flight.getDepartureDate().format(dtf) + "\n");
+        for (Booking booking : bookingsForFlight(id)) {
+            Customer customer = booking.getCustomer();
+            details.append(" Passenger Name :" + customer.getName() + " Phone Number :" + customer.getPhone() +
+                    " Email :" + customer.getEmail() + "\n");
+        }
+
+        return details.toString();
+
+    }
+
+    /**
+     * Builds the key used to index flights by flight number and departure date.
+     *
+     * @param flightNumber  The flight number.
+     * @param departureDate The departure date.
+     * @return The composite key for the flight.
+     */
+    private static String flightKey(String flightNumber, LocalDate departureDate) {
+        return flightNumber + "@" + departureDate;
+    }
+
+    /**
+     * Builds the key used to index customers by name and phone number.
+     *
+     * @param name  The customer's name.
+     * @param phone The customer's phone number.
+     * @return The composite key for the customer.
+     */
+    private static String customerKey(String name, String phone) {
+        return name + "\n" + phone; // Neither field can hold a line break
+    }
+
+    /**
+     * Builds the key used to detect duplicate bookings.
+     *
+     * @param customerId  The ID of the customer.
+     * @param flightId    The ID of the flight.
+     * @param bookingDate The booking date.
+     * @return The composite key for the booking.
+     */
+    private static String bookingKey(int customerId, int flightId, LocalDate bookingDate) {
+        return customerId + ":" + flightId + ":" + bookingDate;
+    }
+
+    /**
+     * Builds the key used to index bookings by customer and flight.
+     *
+     * @param customerId The ID of the customer.
+     * @param flightId   The ID of the flight.
+     * @return The composite key for the customer and flight.
+     */
+    private static String customerFlightKey(int customerId, int flightId) {
+        return customerId + ":" + flightId;
+    }
+
+    /**
+     * Finds the oldest booking a customer holds on a flight.
+     *
+     * @param customerId The ID of the customer.
+     * @param flightId   The ID of the flight.
+     * @return The matching booking, or null if the customer has no booking on the flight.
+     */
+    private Booking findBooking(int customerId, int flightId) {
+        Deque<Booking> matches = bookingsByCustomerAndFlight.get(customerFlightKey(customerId, flightId));
+        return matches == null ? null : matches.peekFirst();
+    }
+
+    /**
+     * Retrieves the bookings made on a specific flight from the flight index.
+     *
+     * @param flightId The ID of the flight.
+     * @return An unmodifiable list of bookings on the flight, empty if there are none.
+     */
+    public List<Booking> bookingsForFlight(int flightId) {
+        Map<Integer, Booking> flightBookings = bookingsByFlight.get(flightId);
+        if (flightBookings == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(new ArrayList<>(flightBookings.values()));
+    }
+
+    /**
+     * Retrieves the bookings made by a specific customer from the customer index.
+     *
+     * @param customerId The ID of the customer.
+     * @return An unmodifiable list of the customer's bookings, empty if there are none.
+     */
+    public List<Booking> bookingsForCustomer(int customerId) {
+        Map<Integer, Booking> customerBookings = bookingsByCustomer.get(customerId);
+        if (customerBookings == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(new ArrayList<>(customerBookings.values()));
+    }
+
+    /**
+     * Books waiting customers onto a flight while it has free seats. Each customer is taken from
+     * the waitlist in O(log n). Customers who have since been deleted or booked onto the flight
+     * some other way are dropped. The caller holds the flight's lock.
+     *
+     * @param flight The flight with free seats.
+     */
+    private void promoteWaitlist(Flight flight) {
+        PriorityQueue<WaitlistEntry> queue = waitlists.get(flight.getId());
+        if (queue == null || flight.getDeleted()) {
+            return;
+        }
+        boolean promoted = false;
+        while (!queue.isEmpty() && flight.getRemainingNumberOfSeats() > 0) {
+            WaitlistEntry entry = queue.poll();
+            promoted = true;
+            String key = bookingKey(entry.getCustomerId(), entry.getFlightId(), entry.getBookingDate());
+            waitlistKeys.remove(key);
+            Customer customer = customers.get(entry.getCustomerId());
+            if (customer == null || bookingKeys.contains(key)) {
+                continue;
+            }
+            Booking booking = new Booking(customer, flight, entry.getBookingDate());
+            try {
+                reserveSeat(flight, booking);
+            } catch (FlightBookingSystemException ex) {
+                queue.add(entry); // No seat could be taken after all; keep waiting
+                waitlistKeys.add(key);
+                break;
+            }
+            booking.setId(nextBookingId());
+            linkBooking(booking);
+        }
+        if (queue.isEmpty()) {
+            waitlists.remove(flight.getId(), queue);
+        }
+        if (promoted) {
+            changes.markChanged(ChangeTracker.Kind.WAITLISTS, flight.getId());
+        }
+    }
+
+    /**
+     * Removes every customer waiting for a flight. The caller holds the flight's lock.
+     *
+     * @param flightId The ID of the flight.
+     */
+    private void dropWaitlist(int flightId) {
+        PriorityQueue<WaitlistEntry> queue = waitlists.remove(flightId);
+        if (queue == null) {
+            return;
+        }
+        for (WaitlistEntry entry : queue) {
+            waitlistKeys.remove(bookingKey(entry.getCustomerId(), entry.getFlightId(), entry.getBookingDate()));
+        }
+        changes.markChanged(ChangeTracker.Kind.WAITLISTS, flightId);
+    }
+
+    /**
+     * Removes a customer from every waitlist they are on. The caller holds the catalog lock.
+     *
+     * @param customerId The ID of the customer.
+     */
+    private void leaveWaitlists(int customerId) {
+        for (Integer flightId : new ArrayList<>(waitlists.keySet())) {
+            synchronized (lockFor(flightId)) {
+                PriorityQueue<WaitlistEntry> queue = waitlists.get(flightId);
+                if (queue == null) {
+                    continue;
+                }
+                boolean removed = false;
+                for (Iterator<WaitlistEntry> it = queue.iterator(); it.hasNext(); ) {
+                    WaitlistEntry entry = it.next();
+                    if (entry.getCustomerId() == customerId) {
+                        it.remove();
+                        waitlistKeys.remove(bookingKey(customerId, flightId, entry.getBookingDate()));
+                        removed = true;
+                    }
+                }
+                if (queue.isEmpty()) {
+                    waitlists.remove(flightId, queue);
+                }
+                if (removed) {
+                    changes.markChanged(ChangeTracker.Kind.WAITLISTS, flightId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adjusts the running sales figures of a flight and of its route and departure date. Deleted
+     * flights are not counted. The caller holds the flight's lock.
+     *
+     * @param flight    The flight.
+     * @param seats     The change in the number of seats.
+     * @param seatsSold The change in the number of seats sold.
+     * @param revenue   The change in revenue.
+     */
+    private void recordSales(Flight flight, int seats, int seatsSold, long revenue) {
+        if (flight.getDeleted() || (seats == 0 && seatsSold == 0 && revenue == 0)) {
+            return;
+        }
+        addSales(salesByFlight, flight.getId(), seats, seatsSold, revenue);
+        addSales(salesByRoute, flight.getOrigin() + " to " + flight.getDestination(), seats, seatsSold, revenue);
+        addSales(salesByDate, flight.getDepartureDate(), seats, seatsSold, revenue);
+    }
+
+    /**
+     * Adjusts one entry of a sales figures map, creating the entry if needed and dropping it once
+     * it counts nothing. The update is atomic per entry when the map is a concurrent map.
+     *
+     * @param sales     The map to update.
+     * @param key       The key of the entry.
+     * @param seats     The change in the number of seats.
+     * @param seatsSold The change in the number of seats sold.
+     * @param revenue   The change in revenue.
+     */
+    private static <K> void addSales(Map<K, SalesFigures> sales, K key, int seats, int seatsSold, long revenue) {
+        sales.compute(key, (k, figures) -> {
+            SalesFigures updated = figures != null ? figures : new SalesFigures();
+            updated.add(seats, seatsSold, revenue);
+            return updated.isEmpty() ? null : updated;
+        });
+    }
+
+    /**
+     * Copies a sales figures map into a sorted map of copies.
+     *
+     * @param sales The map to copy.
+     * @return The copies, sorted by key.
+     */
+    private static <K> Map<K, SalesFigures> copySales(Map<K, SalesFigures> sales) {
+        Map<K, SalesFigures> copy = new TreeMap<>();
+        for (Map.Entry<K, SalesFigures> entry : sales.entrySet()) {
+            copy.put(entry.getKey(), entry.getValue().copy());
+        }
+        return copy;
+    }
+
+    /**
+     * Takes a hold off the expiry wheel.
+     *
+     * @param hold The hold.
+     * @return True if the hold was still waiting to expire, false if it has already expired.
+     */
+    private boolean cancelExpiry(SeatHold hold) {
+        synchronized (holdLock) {
+            return holdWheel.cancel(hold.timeout);
+        }
+    }
+
+    /**
+     * Removes a hold that is off the expiry wheel, gives its seat back to the flight and books
+     * waiting customers into it. The caller holds the flight's lock.
+     *
+     * @param hold The hold to free.
+     */
+    private void freeHold(SeatHold hold) {
+        holds.remove(hold.getId());
+        Flight flight = flights.get(hold.getFlightId());
+        if (flight == null) {
+            return; // The flight has been compacted away
+        }
+        flight.getSeatMap().release(hold.getSeat());
+        flight.release(1);
+        promoteWaitlist(flight);
+    }
+
+    /**
+     * Reserves one seat on a flight for a booking and marks it taken on the seat map. A booking
+     * that already names a seat gets that seat; otherwise it is given the first free seat.
+     *
+     * @param flight  The flight to take a seat on.
+     * @param booking The booking the seat is for.
+     * @throws FlightBookingSystemException If the flight has no remaining seats or the named seat is taken.
+     */
+    private static void reserveSeat(Flight flight, Booking booking) throws FlightBookingSystemException {
+        booking.setSeat(takeSeat(flight, booking.getSeat()));
+    }
+
+    /**
+     * Reserves one seat on a flight and marks it taken on the seat map.
+     *
+     * @param flight The flight to take a seat on.
+     * @param seat   The seat number wanted, or -1 for the first free seat.
+     * @return The seat number taken.
+     * @throws FlightBookingSystemException If the flight has no remaining seats or the named seat is taken.
+     */
+    private static int takeSeat(Flight flight, int seat) throws FlightBookingSystemException {
+        if (!flight.tryReserve(1)) {
+            throw new FlightBookingSystemException("Seats for this flight are fully booked");
+        }
+        SeatMap seatMap = flight.getSeatMap();
+        if (seat < 0) {
+            return seatMap.assignFirstFree();
+        }
+        boolean assigned;
+        try {
+            assigned = seatMap.assign(seat);
+        } catch (IllegalArgumentException ex) {
+            flight.release(1);
+            throw new FlightBookingSystemException(ex.getMessage());
+        }
+        if (!assigned) {
+            flight.release(1);
+            throw new FlightBookingSystemException("Seat " + seatMap.label(seat) + " is already taken");
+        }
+        return seat;
+    }
+
+    /**
+     * Adds a booking to the system's bookings and indexes, to its customer and to its flight's
+     * passengers. The caller has already reserved the booking's seat.
+     *
+     * @param booking The booking to link.
+     */
+    private void linkBooking(Booking booking) {
+        Customer customer = booking.getCustomer();
+        Flight flight = booking.getFlight();
+        bookings.put(booking.getId(), booking);
+        indexBooking(booking); // Add booking to the flight and customer indexes
+        customer.addBooking(booking); // Add booking to customer
+        flight.addPassenger(customer); // Add passenger to flight
+        if (booking.getGroupId() != 0) {
+            lastGroupId.accumulateAndGet(booking.getGroupId(), Math::max);
+            bookingsByGroup.compute(booking.getGroupId(), (k, group) -> {
+                List<Booking> members = group != null ? group : new ArrayList<>();
+                synchronized (members) {
+                    members.add(booking);
+                }
+                return members;
+            });
+        }
+    }
+
+    /**
+     * Links a batch of bookings whose seats are already reserved. Each flight's and each
+     * customer's index entry is updated once for the whole batch rather than once per booking.
+     *
+     * @param batch The bookings to link, in the order they were made.
+     */
+    private void linkBookings(List<Booking> batch) {
+        Map<Integer, List<Booking>> byFlight = new HashMap<>();
+        Map<Integer, List<Booking>> byCustomer = new HashMap<>();
+        Map<String, List<Booking>> byCustomerAndFlight = new HashMap<>();
+        for (Booking booking : batch) {
+            int customerId = booking.getCustomer().getId();
+            int flightId = booking.getFlight().getId();
+            bookings.put(booking.getId(), booking);
+            bookingKeys.add(bookingKey(customerId, flightId, booking.getBookingDate()));
+            byFlight.computeIfAbsent(flightId, k -> new ArrayList<>()).add(booking);
+            byCustomer.computeIfAbsent(customerId, k -> new ArrayList<>()).add(booking);
+            byCustomerAndFlight.computeIfAbsent(customerFlightKey(customerId, flightId), k -> new ArrayList<>()).add(booking);
+            booking.getCustomer().addBooking(booking);
+            booking.getFlight().addPassenger(booking.getCustomer());
+        }
+        for (Map.Entry<Integer, List<Booking>> entry : byFlight.entrySet()) {
+            addToIndex(bookingsByFlight, entry.getKey(), entry.getValue());
+            Flight flight = entry.getValue().get(0).getFlight();
+            int sold = entry.getValue().size();
+            recordSales(flight, 0, sold, (long) sold * flight.getPrice());
+        }
+        for (Map.Entry<Integer, List<Booking>> entry : byCustomer.entrySet()) {
+            addToIndex(bookingsByCustomer, entry.getKey(), entry.getValue());
+            changes.markChanged(ChangeTracker.Kind.BOOKINGS, entry.getKey());
+        }
+        for (Map.Entry<String, List<Booking>> entry : byCustomerAndFlight.entrySet()) {
+            bookingsByCustomerAndFlight.compute(entry.getKey(), (k, matches) -> {
+                Deque<Booking> deque = matches != null ? matches : newBookingDeque();
+                deque.addAll(entry.getValue());
+                return deque;
+            });
+        }
+    }
+
+    /**
+     * Removes a booking from the system's bookings and indexes, from its customer and from its
+     * flight's passengers, and gives its seat back to the flight.
+     *
+     * @param booking The booking to unlink.
+     */
+    private void unlinkBooking(Booking booking) {
+        bookings.remove(booking.getId()); // Remove booking from main bookings list
+        unindexBooking(booking); // Remove booking from the flight and customer indexes
+        booking.getCustomer().removeBooking(booking); // Remove booking reference from customer
+        booking.getFlight().removePassenger(booking.getCustomer()); // Remove customer from flight
+        booking.getFlight().release(1); // Give the seat back to the flight
+        booking.getFlight().getSeatMap().release(booking.getSeat()); // Free the seat on the seat map
+        if (booking.getGroupId() != 0) {
+            bookingsByGroup.computeIfPresent(booking.getGroupId(), (k, group) -> {
+                synchronized (group) {
+                    group.remove(booking);
+                    return group.isEmpty() ? null : group;
+                }
+            });
+        }
+    }
+
+    /**
+     * Adds a booking to the booking key set and the customer-flight, flight and customer indexes.
+     *
+     * @param booking The booking to index.
+     */
+    private void indexBooking(Booking booking) {
+        recordSales(booking.getFlight(), 0, 1, booking.getFlight().getPrice());
+        bookingKeys.add(bookingKey(booking.getCustomer().getId(), booking.getFlight().getId(), booking.getBookingDate()));
+        bookingsByCustomerAndFlight.compute(customerFlightKey(booking.getCustomer().getId(), booking.getFlight().getId()),
+                (k, matches) -> {
+                    Deque<Booking> deque = matches != null ? matches : newBookingDeque();
+                    deque.addLast(booking);
+                    return deque;
+                });
+        addToIndex(bookingsByFlight, booking.getFlight().getId(), List.of(booking));
+        addToIndex(bookingsByCustomer, booking.getCustomer().getId(), List.of(booking));
+        changes.markChanged(ChangeTracker.Kind.BOOKINGS, booking.getCustomer().getId());
+    }
+
+    /**
+     * Removes a booking from the booking key set and the customer-flight, flight and customer indexes.
+     *
+     * @param booking The booking to remove from the indexes.
+     */
+    private void unindexBooking(Booking booking) {
+        recordSales(booking.getFlight(), 0, -1, -booking.getFlight().getPrice());
+        bookingKeys.remove(bookingKey(booking.getCustomer().getId(), booking.getFlight().getId(), booking.getBookingDate()));
+        bookingsByCustomerAndFlight.computeIfPresent(customerFlightKey(booking.getCustomer().getId(), booking.getFlight().getId()),
+                (k, matches) -> {
+                    matches.remove(booking);
+                    return matches.isEmpty() ? null : matches;
+                });
+        removeFromIndex(bookingsByFlight, booking.getFlight().getId(), booking);
+        removeFromIndex(bookingsByCustomer, booking.getCustomer().getId(), booking);
+        changes.markChanged(ChangeTracker.Kind.BOOKINGS, booking.getCustomer().getId());
+    }
+
+    /**
+     * Adds bookings to one index entry, creating the entry if needed. The update is atomic
+     * per entry when the index is a concurrent map.
+     *
+     * @param index    The index to add the bookings to.
+     * @param key      The ID the bookings are filed under.
+     * @param bookings The bookings to add.
+     */
+    private void addToIndex(Map<Integer, Map<Integer, Booking>> index, int key, Collection<Booking> bookings) {
+        index.compute(key, (k, indexed) -> {
+            Map<Integer, Booking> entry = indexed != null ? indexed : newIndexEntry();
+            for (Booking booking : bookings) {
+                entry.put(booking.getId(), booking);
+            }
+            return entry;
+        });
+    }
+
+    /**
+     * Removes a booking from one index entry, dropping the entry once it has no bookings left.
+     * The booking is found by its ID, so the cost does not grow with the size of the entry.
+     *
+     * @param index   The index to remove the booking from.
+     * @param key     The ID the booking is filed under.
+     * @param booking The booking to remove.
+     */
+    private static void removeFromIndex(Map<Integer, Map<Integer, Booking>> index, int key, Booking booking) {
+        index.computeIfPresent(key, (k, indexed) -> {
+            indexed.remove(booking.getId(), booking);
+            return indexed.isEmpty() ? null : indexed;
+        });
+    }
+
+    /**
+     * Creates the map used for one flight's or one customer's bookings, keyed by booking ID in
+     * booking order. In thread-safe mode the map is concurrent so readers can iterate it while
+     * bookings change.
+     *
+     * @return A new, empty index entry.
+     */
+    private Map<Integer, Booking> newIndexEntry() {
+        return threadSafe ? new ConcurrentSkipListMap<>() : new LinkedHashMap<>();
+    }
+
+    /**
+     * Creates the deque used for one customer's bookings on one flight.
+     *
+     * @return A new, empty booking deque.
+     */
+    private Deque<Booking> newBookingDeque() {
+        return threadSafe ? new ConcurrentLinkedDeque<>() : new ArrayDeque<>();
+    }
+
+    /**
+     * Runs an action while holding a set of striped flight locks. The stripes must be sorted so
+     * that every caller takes them in the same order.
+     *
+     * @param stripes The stripe numbers to lock, in ascending order.
+     * @param from    The position in stripes of the next lock to take.
+     * @param action  The action to run once every lock is held.
+     */
+    private void withStripeLocks(int[] stripes, int from, Runnable action) {
+        if (from == stripes.length) {
+            action.run();
+            return;
+        }
+        synchronized (flightLocks[stripes[from]]) {
+            withStripeLocks(stripes, from + 1, action);
+        }
+    }
+
+    /**
+     * Marks the start of a write. Snapshot readers wait until the matching endWrite.
+     */
+    private void beginWrite() {
+        writesStarted.incrementAndGet();
+    }
+
+    /**
+     * Marks the end of a write started with beginWrite.
+     */
+    private void endWrite() {
+        writesCompleted.incrementAndGet();
+    }
+
+    /**
+     * Retrieves the striped lock that guards booking changes on a flight.
+     *
+     * @param flightId The ID of the flight.
+     * @return The lock for the flight's stripe.
+     */
+    private Object lockFor(int flightId) {
+        return flightLocks[flightId & (LOCK_STRIPES - 1)];
+    }
+}
@@ -0,0 +1,116 @@
+package bcu.cmp5332.bookingsystem.model;
+
+/**
+ * Running sales totals for a flight, a route or a departure date: the revenue taken, the seats
+ * sold and the seats available, from which the load factor follows.
+ *
+ * The booking system keeps one set of figures per flight, per route and per departure date and
+ * adjusts them as each booking is made, moved or cancelled and as each flight's price or number
+ * of seats changes, so a report never has to walk the bookings.
+ *
+ * @author Sujal Manandhar
+ *
+ */
+public class SalesFigures {
+
+    private long revenue; // Price of every seat sold
+    private int seatsSold; // Number of bookings
+    private int seats; // Number of seats on the flights counted
+
+    /**
+     * Constructs empty sales figures.
+     */
+    SalesFigures() {
+    }
+
+    /**
+     * Constructs a copy of a set of sales figures.
+     *
+     * @param revenue The revenue taken
+     * @param seatsSold The number of seats sold
+     * @param seats The number of seats available
+     */
+    private SalesFigures(long revenue, int seatsSold, int seats) {
+        this.revenue = revenue;
+        this.seatsSold = seatsSold;
+        this.seats = seats;
+    }
+
+    /**
+     * Retrieves the revenue taken from the seats sold.
+     *
+     * @return The revenue
+     */
+    public synchronized long getRevenue() {
+        return revenue;
+    }
+
+    /**
+     * Retrieves the number of seats sold.
+     *
+     * @return The number of seats sold
+     */
+    public synchronized int getSeatsSold() {
+        return seatsSold;
+    }
+
+    /**
+     * Retrieves the number of seats on the flights counted.
+     *
+     * @return The number of seats
+     */
+    public synchronized int getSeats() {
+        return seats;
+    }
+
+    /**
+     * Retrieves the share of seats that have been sold.
+     *
+     * @return The load factor between 0 and 1, or 0 if there are no seats
+     */
+    public synchronized double getLoadFactor() {
+        return seats == 0 ? 0 : (double) seatsSold / seats;
+    }
+
+    /**
+     * Adjusts the figures.
+     *
+     * @param seats The change in the number of seats
+     * @param seatsSold The change in the number of seats sold
+     * @param revenue The change in revenue
+     */
+    synchronized void add(int seats, int seatsSold, long revenue) {
+        this.seats += seats;
+        this.seatsSold += seatsSold;
+        this.revenue += revenue;
+    }
+
+    /**
+     * Checks whether the figures count nothing at all.
+     *
+     * @return True if there are no seats, no seats sold and no revenue
+     */
+    synchronized boolean isEmpty() {
+        return seats == 0 && seatsSold == 0 && revenue == 0;
+    }
+
+    /**
+     * Copies the figures as they stand, so the copy does not change with later bookings.
+     *
+     * @return A copy of the figures
+     */
+    synchronized SalesFigures copy() {
+        return new SalesFigures(revenue, seatsSold, seats);
+    }
+
+    /**
+     * Generates a textual summary of the figures.
+     *
+     * @return A string giving the revenue, seats sold and load factor
+     */
+    @Override
+    public synchronized String toString() {
+        return "revenue " + revenue + ", " + seatsSold + "/" + seats + " seats sold, load factor "
+                + String.format("%.1f", getLoadFactor() * 100) + "%";
+    }
+}
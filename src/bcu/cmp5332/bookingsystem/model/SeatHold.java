@@ -0,0 +1,95 @@
+package bcu.cmp5332.bookingsystem.model;
+
+/**
+ * A seat held for a customer for a limited time while they decide whether to book it.
+ *
+ * A hold takes a seat on the flight, so the flight's remaining seats go down, but it is not a
+ * booking: it is not listed with the bookings and is not saved. The hold either becomes a booking
+ * when it is confirmed, or gives its seat back when it is released or expires.
+ *
+ * @author Sujal Manandhar
+ *
+ */
+public class SeatHold {
+
+    private final int id; // The hold ID
+    private final int customerId; // The ID of the customer the seat is held for
+    private final int flightId; // The ID of the flight the seat is on
+    private final int seat; // The seat number on the flight's seat map
+    private final String seatLabel; // The seat label, for example "12C"
+    private final long expiresAt; // The time the hold expires, in milliseconds since the epoch
+    TimerWheel.Timeout<SeatHold> timeout; // The hold's entry on the expiry wheel
+
+    /**
+     * Constructs a seat hold.
+     *
+     * @param id The hold ID
+     * @param customerId The ID of the customer the seat is held for
+     * @param flightId The ID of the flight the seat is on
+     * @param seat The seat number on the flight's seat map
+     * @param seatLabel The seat label
+     * @param expiresAt The time the hold expires, in milliseconds since the epoch
+     */
+    SeatHold(int id, int customerId, int flightId, int seat, String seatLabel, long expiresAt) {
+        this.id = id;
+        this.customerId = customerId;
+        this.flightId = flightId;
+        this.seat = seat;
+        this.seatLabel = seatLabel;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Retrieves the hold ID.
+     *
+     * @return The hold ID
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Retrieves the ID of the customer the seat is held for.
+     *
+     * @return The customer ID
+     */
+    public int getCustomerId() {
+        return customerId;
+    }
+
+    /**
+     * Retrieves the ID of the flight the seat is on.
+     *
+     * @return The flight ID
+     */
+    public int getFlightId() {
+        return flightId;
+    }
+
+    /**
+     * Retrieves the held seat number.
+     *
+     * @return The seat number on the flight's seat map
+     */
+    public int getSeat() {
+        return seat;
+    }
+
+    /**
+     * Retrieves the label of the held seat.
+     *
+     * @return The seat label, for example "12C"
+     */
+    public String getSeatLabel() {
+        return seatLabel;
+    }
+
+    /**
+     * Retrieves the time the hold expires.
+     *
+     * @return The expiry time in milliseconds since the epoch
+     */
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+}
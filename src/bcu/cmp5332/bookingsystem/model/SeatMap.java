@@ -0,0 +1,325 @@
+package bcu.cmp5332.bookingsystem.model;
+
+import java.util.Arrays;
+
+/**
+ * Tracks which seats on a flight are taken.
+ *
+ * Seats are laid out row by row, with the columns of each row lettered from A. Seat numbers run
+ * from 0 across each row in turn, so seat {@code row * columns + column} is labelled
+ * {@code (row + 1)} followed by the column letter, for example "12C". When the number of seats
+ * is not a whole number of rows, the last row is short.
+ *
+ * The map is a bitset with one bit per seat, set when the seat is taken, held in an array of
+ * longs. Searches test 64 seats at a time, so finding a free seat or a run of adjacent free seats
+ * stays fast on large aircraft.
+ *
+ * @author Sujal Manandhar
+ *
+ */
+public class SeatMap {
+
+    /**
+     * Number of seats across each row used when no layout is given.
+     */
+    public static final int DEFAULT_COLUMNS = 6;
+
+    private static final int WORD_BITS = 64; // Seats held in each word of the bitset
+
+    private final int columns; // Seats across each row
+    private int capacity; // Number of seats on the flight
+    private long[] taken; // One bit per seat, set when the seat is taken
+    private long[] rowEnds; // One bit per seat, set on the last seat of each row
+    private int numberTaken; // Number of bits set in taken
+
+    /**
+     * Constructs an empty seat map.
+     *
+     * @param capacity The number of seats on the flight
+     * @param columns The number of seats across each row
+     * @throws IllegalArgumentException If capacity is negative, or columns is not between 1 and 26
+     */
+    public SeatMap(int capacity, int columns) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Number of seats must not be negative.");
+        }
+        if (columns < 1 || columns > 26) {
+            throw new IllegalArgumentException("Number of seats across a row must be between 1 and 26.");
+        }
+        this.columns = columns;
+        this.taken = new long[0];
+        this.rowEnds = new long[0];
+        layout(capacity);
+    }
+
+    /**
+     * Constructs an empty seat map with the default number of seats across each row.
+     *
+     * @param capacity The number of seats on the flight
+     */
+    public SeatMap(int capacity) {
+        this(capacity, DEFAULT_COLUMNS);
+    }
+
+    /**
+     * Constructs a copy of a seat map as it is now.
+     *
+     * @param seats The seat map to copy
+     */
+    SeatMap(SeatMap seats) {
+        this.columns = seats.columns;
+        synchronized (seats) {
+            this.capacity = seats.capacity;
+            this.taken = seats.taken.clone();
+            this.rowEnds = seats.rowEnds.clone();
+            this.numberTaken = seats.numberTaken;
+        }
+    }
+
+    /**
+     * Retrieves the number of seats on the flight.
+     *
+     * @return The number of seats
+     */
+    public synchronized int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Retrieves the number of rows, counting a short last row.
+     *
+     * @return The number of rows
+     */
+    public synchronized int getRows() {
+        return (capacity + columns - 1) / columns;
+    }
+
+    /**
+     * Retrieves the number of seats across each row.
+     *
+     * @return The number of columns
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Retrieves the number of seats taken.
+     *
+     * @return The number of taken seats
+     */
+    public synchronized int getNumberTaken() {
+        return numberTaken;
+    }
+
+    /**
+     * Checks whether a seat is free.
+     *
+     * @param seat The seat number
+     * @return True if the seat exists and is not taken
+     */
+    public synchronized boolean isFree(int seat) {
+        return seat >= 0 && seat < capacity && (taken[seat >>> 6] & (1L << seat)) == 0;
+    }
+
+    /**
+     * Finds the lowest-numbered free seat.
+     *
+     * @return The seat number, or -1 if every seat is taken
+     */
+    public synchronized int firstFree() {
+        for (int i = 0; i < taken.length; i++) {
+            long free = ~taken[i];
+            if (free != 0) {
+                int seat = i * WORD_BITS + Long.numberOfTrailingZeros(free);
+                return seat < capacity ? seat : -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the lowest-numbered run of free seats next to each other in one row.
+     *
+     * @param count The number of seats wanted
+     * @return The first seat number of the run, or -1 if no row has that many adjacent free seats
+     */
+    public synchronized int findAdjacent(int count) {
+        if (count < 1 || count > columns) {
+            return -1;
+        }
+        for (int i = 0; i < taken.length; i++) {
+            // A run starts at bit p when seats p .. p+count-1 are free and none of seats
+            // p .. p+count-2 ends a row, so the run stays in one row.
+            long starts = ~bitsFrom(taken, i * WORD_BITS + count - 1, -1L);
+            for (int k = 0; k < count - 1 && starts != 0; k++) {
+                starts &= ~bitsFrom(taken, i * WORD_BITS + k, -1L) & ~bitsFrom(rowEnds, i * WORD_BITS + k, 0L);
+            }
+            if (starts != 0) {
+                return i * WORD_BITS + Long.numberOfTrailingZeros(starts);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Takes a seat.
+     *
+     * @param seat The seat number
+     * @return True if the seat was free and is now taken, false if it was already taken
+     * @throws IllegalArgumentException If the seat does not exist
+     */
+    public synchronized boolean assign(int seat) {
+        checkSeat(seat);
+        long bit = 1L << seat;
+        if ((taken[seat >>> 6] & bit) != 0) {
+            return false;
+        }
+        taken[seat >>> 6] |= bit;
+        numberTaken++;
+        return true;
+    }
+
+    /**
+     * Takes the lowest-numbered free seat.
+     *
+     * @return The seat number taken, or -1 if every seat is taken
+     */
+    public synchronized int assignFirstFree() {
+        int seat = firstFree();
+        if (seat >= 0) {
+            assign(seat);
+        }
+        return seat;
+    }
+
+    /**
+     * Frees a seat. Freeing a seat that is not taken, or that no longer exists, has no effect.
+     *
+     * @param seat The seat number
+     */
+    public synchronized void release(int seat) {
+        if (seat < 0 || seat >= capacity) {
+            return;
+        }
+        long bit = 1L << seat;
+        if ((taken[seat >>> 6] & bit) != 0) {
+            taken[seat >>> 6] &= ~bit;
+            numberTaken--;
+        }
+    }
+
+    /**
+     * Changes the number of seats, keeping the seats already taken.
+     *
+     * @param capacity The new number of seats
+     * @throws IllegalArgumentException If a taken seat would no longer exist
+     */
+    public synchronized void resize(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Number of seats must not be negative.");
+        }
+        for (int seat = capacity; seat < this.capacity; seat++) {
+            if ((taken[seat >>> 6] & (1L << seat)) != 0) {
+                throw new IllegalArgumentException("Seat " + label(seat) + " is taken.");
+            }
+        }
+        layout(capacity);
+    }
+
+    /**
+     * Builds the label of a seat, for example "12C".
+     *
+     * @param seat The seat number
+     * @return The seat label
+     */
+    public String label(int seat) {
+        return (seat / columns + 1) + String.valueOf((char) ('A' + seat % columns));
+    }
+
+    /**
+     * Finds the seat number for a label such as "12C".
+     *
+     * @param label The seat label, with the row number followed by the column letter
+     * @return The seat number
+     * @throws IllegalArgumentException If the label is malformed or names a seat that does not exist
+     */
+    public synchronized int parse(String label) {
+        String trimmed = label == null ? "" : label.trim().toUpperCase();
+        if (trimmed.length() < 2) {
+            throw new IllegalArgumentException("Seat must be a row number followed by a letter, for example 12C.");
+        }
+        int column = trimmed.charAt(trimmed.length() - 1) - 'A';
+        int row;
+        try {
+            row = Integer.parseInt(trimmed.substring(0, trimmed.length() - 1)) - 1;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Seat must be a row number followed by a letter, for example 12C.");
+        }
+        if (row < 0 || column < 0 || column >= columns) {
+            throw new IllegalArgumentException("Seat " + label + " does not exist on this flight.");
+        }
+        int seat = row * columns + column;
+        checkSeat(seat);
+        return seat;
+    }
+
+    /**
+     * Sizes the bitsets for a number of seats. Bits past the last seat are set in taken so that
+     * searches never return them.
+     *
+     * @param capacity The number of seats
+     */
+    private void layout(int capacity) {
+        int words = (capacity + WORD_BITS - 1) / WORD_BITS;
+        long[] resized = Arrays.copyOf(taken, words);
+        for (int seat = this.capacity; seat < capacity && seat < taken.length * WORD_BITS; seat++) {
+            resized[seat >>> 6] &= ~(1L << seat); // Clear the padding left by the old size
+        }
+        if (capacity % WORD_BITS != 0) {
+            resized[words - 1] |= -1L << capacity; // Pad the last word past the last seat
+        }
+        taken = resized;
+        this.capacity = capacity;
+
+        rowEnds = new long[words];
+        for (int seat = columns - 1; seat < capacity; seat += columns) {
+            rowEnds[seat >>> 6] |= 1L << seat;
+        }
+        if (capacity > 0) {
+            rowEnds[(capacity - 1) >>> 6] |= 1L << (capacity - 1); // A short last row ends at the last seat
+        }
+    }
+
+    /**
+     * Reads 64 bits of a bitset starting at any bit position.
+     *
+     * @param bits The bitset
+     * @param start The position of the first bit to read
+     * @param fill The value of bits past the end of the bitset
+     * @return The bits, with the bit at start in the lowest position
+     */
+    private static long bitsFrom(long[] bits, int start, long fill) {
+        int word = start >>> 6;
+        int shift = start & (WORD_BITS - 1);
+        long low = word < bits.length ? bits[word] : fill;
+        if (shift == 0) {
+            return low;
+        }
+        long high = word + 1 < bits.length ? bits[word + 1] : fill;
+        return (low >>> shift) | (high << (WORD_BITS - shift));
+    }
+
+    /**
+     * Checks that a seat number exists on the flight.
+     *
+     * @param seat The seat number
+     * @throws IllegalArgumentException If the seat does not exist
+     */
+    private void checkSeat(int seat) {
+        if (seat < 0 || seat >= capacity) {
+            throw new IllegalArgumentException("Seat " + (seat < 0 ? String.valueOf(seat) : label(seat))
+                    + " does not exist on this flight.");
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package bcu.cmp5332.bookingsystem.model;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timer wheel that expires items at a deadline.
+ *
+ * Time is divided into ticks. The wheel has four levels of 64 slots: level 0 holds items due in
+ * the next 64 ticks, one slot per tick, and each higher level covers 64 times the span of the
+ * level below. When the lowest level wraps around, the next slot of the level above is emptied
+ * into the levels below it. An item therefore moves at most three times before it expires, so
+ * scheduling, cancelling and expiring an item are all amortized O(1), however many items are
+ * outstanding. Items due further ahead than the wheel spans wait in its last slot and are placed
+ * again as the wheel turns.
+ *
+ * The wheel has no thread of its own. It is turned by calling {@link #advance(long, Consumer)}
+ * with the current time, and is not thread-safe; callers must serialize access to it.
+ *
+ * @param <T> The type of item scheduled on the wheel
+ * @author Sujal Manandhar
+ *
+ */
+public class TimerWheel<T> {
+
+    private static final int SLOT_BITS = 6; // 64 slots per level
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_TICKS = 1L << (SLOT_BITS * LEVELS); // Ticks spanned by the whole wheel
+
+    private final long tickMillis; // Length of one tick in milliseconds
+    private final Timeout<T>[][] slots; // Sentinel head of the list in each slot, by level and slot
+    private long currentTick; // The next tick to process; every earlier tick has been processed
+    private int size; // Number of items scheduled
+
+    /**
+     * A scheduled item. The handle can be used to cancel the item before it expires.
+     *
+     * @param <T> The type of item scheduled on the wheel
+     */
+    public static final class Timeout<T> {
+        private final T item; // The scheduled item, null for a slot's sentinel
+        private final long deadlineTick; // The tick at which the item expires
+        private Timeout<T> prev; // Previous entry in the slot's list
+        private Timeout<T> next; // Next entry in the slot's list
+
+        private Timeout(T item, long deadlineTick) {
+            this.item = item;
+            this.deadlineTick = deadlineTick;
+        }
+
+        /**
+         * Retrieves the scheduled item.
+         *
+         * @return The item
+         */
+        public T getItem() {
+            return item;
+        }
+
+        /**
+         * Checks whether the item is still waiting to expire.
+         *
+         * @return True if the item has neither expired nor been cancelled
+         */
+        public boolean isPending() {
+            return next != null;
+        }
+    }
+
+    /**
+     * Constructs an empty timer wheel.
+     *
+     * @param tickMillis The length of one tick in milliseconds; items expire up to one tick late
+     * @param nowMillis The current time in milliseconds
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"}) // Generic array creation
+    public TimerWheel(long tickMillis, long nowMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick length must be a positive number of milliseconds.");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = nowMillis / tickMillis;
+        this.slots = new Timeout[LEVELS][SLOTS];
+        for (Timeout<T>[] level : slots) {
+            for (int i = 0; i < SLOTS; i++) {
+                Timeout<T> head = new Timeout<>(null, 0);
+                head.prev = head;
+                head.next = head;
+                level[i] = head;
+            }
+        }
+    }
+
+    /**
+     * Retrieves the number of items waiting to expire.
+     *
+     * @return The number of scheduled items
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Schedules an item to expire at a deadline.
+     *
+     * @param item The item
+     * @param deadlineMillis The time in milliseconds at which the item expires
+     * @return A handle that can be used to cancel the item
+     */
+    public Timeout<T> schedule(T item, long deadlineMillis) {
+        long deadlineTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis); // Never expire early
+        Timeout<T> timeout = new Timeout<>(item, deadlineTick);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Cancels a scheduled item so it never expires.
+     *
+     * @param timeout The handle returned when the item was scheduled
+     * @return True if the item was cancelled, false if it had already expired or been cancelled
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (!timeout.isPending()) {
+            return false;
+        }
+        unlink(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Turns the wheel to the current time, handing every item whose deadline has passed to a
+     * callback. When the wheel is empty it jumps straight to the current time.
+     *
+     * @param nowMillis The current time in milliseconds
+     * @param onExpire Called once for each expired item, earliest tick first
+     */
+    public void advance(long nowMillis, Consumer<T> onExpire) {
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick <= targetTick) {
+            if (size == 0) {
+                currentTick = targetTick + 1;
+                return;
+            }
+            // Each time a level wraps, pour the next slot of the level above into the levels below
+            for (int level = 1; level < LEVELS; level++) {
+                if (((currentTick >>> (SLOT_BITS * (level - 1))) & SLOT_MASK) != 0) {
+                    break;
+                }
+                cascade(level, (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK));
+            }
+            Timeout<T> head = slots[0][(int) (currentTick & SLOT_MASK)];
+            while (head.next != head) {
+                Timeout<T> timeout = head.next;
+                unlink(timeout);
+                size--;
+                onExpire.accept(timeout.item);
+            }
+            currentTick++;
+        }
+    }
+
+    /**
+     * Moves every item in a slot of a higher level back onto the wheel relative to the current tick.
+     *
+     * @param level The level of the slot
+     * @param slot The slot to empty
+     */
+    private void cascade(int level, int slot) {
+        Timeout<T> head = slots[level][slot];
+        Timeout<T> timeout = head.next;
+        head.next = head;
+        head.prev = head;
+        while (timeout != head) {
+            Timeout<T> next = timeout.next;
+            place(timeout);
+            timeout = next;
+        }
+    }
+
+    /**
+     * Links an item into the slot for its deadline.
+     *
+     * @param timeout The item to place
+     */
+    private void place(Timeout<T> timeout) {
+        long ticks = timeout.deadlineTick - currentTick;
+        long tick = ticks < 0 ? currentTick : timeout.deadlineTick; // Overdue items expire on the next tick processed
+        if (ticks >= MAX_TICKS) {
+            tick = currentTick + MAX_TICKS - 1; // Park in the furthest slot and place again when it comes round
+            ticks = MAX_TICKS - 1;
+        }
+        int level = 0;
+        while (level < LEVELS - 1 && ticks >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        Timeout<T> head = slots[level][(int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK)];
+        timeout.prev = head.prev;
+        timeout.next = head;
+        head.prev.next = timeout;
+        head.prev = timeout;
+    }
+
+    /**
+     * Unlinks an item from its slot.
+     *
+     * @param timeout The item to unlink
+     */
+    private static <T> void unlink(Timeout<T> timeout) {
+        timeout.prev.next = timeout.next;
+        timeout.next.prev = timeout.prev;
+        timeout.prev = null;
+        timeout.next = null;
+    }
+}
@@ -0,0 +1,97 @@
+package bcu.cmp5332.bookingsystem.model;
+
+import java.time.LocalDate;
+
+/**
+ * A customer waiting for a seat on a fully booked flight.
+ * 
+ * Entries are ordered so that the customer to promote next comes first: higher priority first,
+ * then the earliest request among customers with the same priority.
+ * 
+ * @author Sujal Manandhar
+ *
+ */
+public class WaitlistEntry implements Comparable<WaitlistEntry> {
+
+    private final int customerId; // The ID of the waiting customer
+    private final int flightId; // The ID of the flight the customer is waiting for
+    private final LocalDate bookingDate; // The booking date to use when the customer is promoted
+    private final int priority; // The customer's priority, higher is promoted first
+    private final long sequence; // The order in which customers joined the waitlist
+
+    /**
+     * Constructs a waitlist entry.
+     * 
+     * @param customerId The ID of the waiting customer
+     * @param flightId The ID of the flight the customer is waiting for
+     * @param bookingDate The booking date to use when the customer is promoted
+     * @param priority The customer's priority, higher is promoted first
+     * @param sequence The order in which the customer joined the waitlist
+     */
+    public WaitlistEntry(int customerId, int flightId, LocalDate bookingDate, int priority, long sequence) {
+        this.customerId = customerId;
+        this.flightId = flightId;
+        this.bookingDate = bookingDate;
+        this.priority = priority;
+        this.sequence = sequence;
+    }
+
+    /**
+     * Retrieves the ID of the waiting customer.
+     * 
+     * @return The customer ID
+     */
+    public int getCustomerId() {
+        return customerId;
+    }
+
+    /**
+     * Retrieves the ID of the flight the customer is waiting for.
+     * 
+     * @return The flight ID
+     */
+    public int getFlightId() {
+        return flightId;
+    }
+
+    /**
+     * Retrieves the booking date to use when the customer is promoted.
+     * 
+     * @return The booking date
+     */
+    public LocalDate getBookingDate() {
+        return bookingDate;
+    }
+
+    /**
+     * Retrieves the customer's priority.
+     * 
+     * @return The priority, higher is promoted first
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Retrieves the order in which the customer joined the waitlist.
+     * 
+     * @return The sequence number
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Orders entries by priority, highest first, then by sequence, earliest first.
+     * 
+     * @param other The entry to compare with
+     * @return A negative number if this entry is promoted before the other
+     */
+    @Override
+    public int compareTo(WaitlistEntry other) {
+        if (priority != other.priority) {
+            return Integer.compare(other.priority, priority);
+        }
+        return Long.compare(sequence, other.sequence);
+    }
+}
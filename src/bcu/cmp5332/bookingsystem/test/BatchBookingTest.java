@@ -0,0 +1,106 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.BookingRequest;
+import bcu.cmp5332.bookingsystem.model.BookingResult;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+public class BatchBookingTest {
+
+    private static final LocalDate DATE = LocalDate.parse("2024-01-10");
+
+    private FlightBookingSystem fbs;
+
+    @Before
+    public void setUp() throws FlightBookingSystemException {
+        fbs = new FlightBookingSystem();
+        fbs.addFlight(new Flight(1, "FL1", "London", "Paris", LocalDate.parse("2024-02-01"), 2, 100));
+        fbs.addFlight(new Flight(2, "FL2", "London", "Rome", LocalDate.parse("2024-02-01"), 10, 100));
+        for (int id = 1; id <= 3; id++) {
+            fbs.addCustomer(new Customer(id, "Customer " + id, "0700" + id, "c" + id + "@example.com", new ArrayList<>()));
+        }
+    }
+
+    @Test
+    public void testBatchReportsEachRow() throws FlightBookingSystemException {
+        List<BookingResult> results = fbs.addBookings(rows());
+
+        assertEquals(6, results.size());
+        assertTrue(results.get(0).isBooked());
+        assertTrue(results.get(1).isBooked());
+        assertFalse(results.get(2).isBooked()); // Flight 1 has two seats
+        assertFalse(results.get(3).isBooked()); // No flight 99
+        assertFalse(results.get(4).isBooked()); // Same as row 0
+        assertTrue(results.get(5).isBooked());
+        for (int row = 0; row < results.size(); row++) {
+            assertEquals(row, results.get(row).getRow());
+            assertEquals(results.get(row).isBooked(), results.get(row).getError() == null);
+        }
+        assertEquals(0, fbs.numberOfRemainingSeats(1));
+        assertEquals(2, fbs.bookingsForFlight(1).size());
+        assertEquals(2, fbs.bookingsForCustomer(1).size());
+    }
+
+    @Test
+    public void testAtomicBatchBooksNothingOnError() throws FlightBookingSystemException {
+        List<BookingResult> results = fbs.addBookings(rows(), true);
+
+        for (BookingResult result : results) {
+            assertFalse(result.isBooked());
+            assertNotNull(result.getError());
+        }
+        assertEquals(2, fbs.numberOfRemainingSeats(1));
+        assertEquals(10, fbs.numberOfRemainingSeats(2));
+        assertTrue(fbs.getBookings().isEmpty());
+    }
+
+    @Test
+    public void testAtomicBatchBooksEveryRow() throws FlightBookingSystemException {
+        List<BookingRequest> rows = List.of(
+                new BookingRequest(1, 2, DATE),
+                new BookingRequest(2, 2, DATE),
+                new BookingRequest(3, 1, DATE));
+        for (BookingResult result : fbs.addBookings(rows, true)) {
+            assertTrue(result.isBooked());
+        }
+        assertEquals(8, fbs.numberOfRemainingSeats(2));
+        assertEquals(3, fbs.getBookings().size());
+    }
+
+    @Test
+    public void testNamedSeatsTakenBeforeFreeSeats() {
+        List<BookingResult> results = fbs.addBookings(List.of(
+                new BookingRequest(1, 2, DATE),
+                new BookingRequest(2, 2, DATE, "1A"),
+                new BookingRequest(3, 2, DATE, "1A")));
+
+        assertEquals("1B", results.get(0).getBooking().getSeatLabel());
+        assertEquals("1A", results.get(1).getBooking().getSeatLabel());
+        assertFalse(results.get(2).isBooked()); // 1A is taken by row 1
+    }
+
+    // three rows for a two-seat flight, an unknown flight, a duplicate and a row for another flight
+    private static List<BookingRequest> rows() {
+        return List.of(
+                new BookingRequest(1, 1, DATE),
+                new BookingRequest(2, 1, DATE),
+                new BookingRequest(3, 1, DATE),
+                new BookingRequest(1, 99, DATE),
+                new BookingRequest(1, 1, DATE),
+                new BookingRequest(1, 2, DATE));
+    }
+}
@@ -0,0 +1,121 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.data.BinarySnapshotDataManager;
+import bcu.cmp5332.bookingsystem.data.BookingDataManager;
+import bcu.cmp5332.bookingsystem.data.CustomerDataManager;
+import bcu.cmp5332.bookingsystem.data.FlightDataManager;
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Booking;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+public class BinarySnapshotTest {
+
+    private static final LocalDate DATE = LocalDate.parse("2024-01-10");
+
+    @Rule
+    public final DataFiles dataFiles = new DataFiles();
+
+    private FlightBookingSystem fbs;
+
+    @Before
+    public void setUp() throws FlightBookingSystemException {
+        fbs = new FlightBookingSystem();
+        fbs.addFlight(new Flight(1, "FL1", "London", "Paris", LocalDate.parse("2030-02-01"), 12, 150, 4));
+        fbs.addFlight(new Flight(2, "FL2", "London", "Z\u00fcrich", LocalDate.parse("2030-03-01"), 10, 90));
+        fbs.addCustomer(new Customer(1, "Ann", "0701", "ann@example.com", new ArrayList<>()));
+        fbs.addCustomer(new Customer(2, "Bob", "0702", "bob@example.com", new ArrayList<>()));
+        fbs.addCustomer(new Customer(3, "Cat", "0703", "cat@example.com", new ArrayList<>()));
+    }
+
+    @Test
+    public void testRoundTripKeepsEveryField() throws Exception {
+        fbs.addBookingByIds(1, 1, DATE, "2C");
+        int groupId = fbs.addGroupBooking(List.of(2, 3), 2, DATE.plusDays(1));
+        new BinarySnapshotDataManager().storeData(fbs);
+
+        FlightBookingSystem loaded = load();
+        Flight flight = loaded.getFlightByID(1);
+        assertEquals("FL1", flight.getFlightNumber());
+        assertEquals(LocalDate.parse("2030-02-01"), flight.getDepartureDate());
+        assertEquals(12, flight.getNumberOfSeats());
+        assertEquals(150, flight.getPrice());
+        assertEquals(4, flight.getSeatColumns());
+        assertEquals("Z\u00fcrich", loaded.getFlightByID(2).getDestination()); // Non-ASCII survives the dictionary
+        assertEquals("bob@example.com", loaded.getCustomerByID(2).getEmail());
+
+        Booking booking = loaded.bookingsForCustomer(1).get(0);
+        assertEquals(DATE, booking.getBookingDate());
+        assertEquals("2C", booking.getSeatLabel());
+        assertEquals(2, loaded.bookingsForGroup(groupId).size());
+        assertEquals(8, loaded.numberOfRemainingSeats(2));
+    }
+
+    @Test
+    public void testCorruptSnapshotRejected() throws Exception {
+        new BinarySnapshotDataManager().storeData(fbs);
+        Path snapshot = dataFiles.file("snapshot.bin");
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(snapshot, bytes);
+
+        try {
+            load();
+            fail("A flipped bit should fail the checksum");
+        } catch (FlightBookingSystemException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().contains("checksum"));
+        }
+    }
+
+    @Test
+    public void testUnchangedSnapshotNotRewritten() throws Exception {
+        BinarySnapshotDataManager binary = new BinarySnapshotDataManager();
+        binary.storeData(fbs);
+        Path snapshot = dataFiles.file("snapshot.bin");
+        FileTime written = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(snapshot, written);
+
+        binary.storeData(fbs);
+        assertEquals(written, Files.getLastModifiedTime(snapshot));
+
+        fbs.updateCustomer(1, "Ann", "0799", "ann@example.com");
+        binary.storeData(fbs);
+        assertTrue(Files.getLastModifiedTime(snapshot).compareTo(written) > 0);
+        assertEquals("0799", load().getCustomerByID(1).getPhone());
+    }
+
+    @Test
+    public void testFirstLoadReadsTextFiles() throws Exception {
+        fbs.addBookingByIds(3, 2, DATE);
+        new FlightDataManager().storeData(fbs);
+        new CustomerDataManager().storeData(fbs);
+        new BookingDataManager().storeData(fbs);
+
+        FlightBookingSystem loaded = load(); // No snapshot written yet
+        assertEquals(2, loaded.getFlights().size());
+        assertEquals(3, loaded.getCustomers().size());
+        assertEquals(1, loaded.bookingsForFlight(2).size());
+    }
+
+    private static FlightBookingSystem load() throws Exception {
+        FlightBookingSystem loaded = new FlightBookingSystem();
+        new BinarySnapshotDataManager().loadData(loaded);
+        return loaded;
+    }
+}
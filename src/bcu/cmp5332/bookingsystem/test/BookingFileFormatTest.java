@@ -0,0 +1,182 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.data.BinarySnapshotDataManager;
+import bcu.cmp5332.bookingsystem.data.BookingDataManager;
+import bcu.cmp5332.bookingsystem.data.CustomerDataManager;
+import bcu.cmp5332.bookingsystem.data.DataManager;
+import bcu.cmp5332.bookingsystem.data.FlightDataManager;
+import bcu.cmp5332.bookingsystem.data.ParallelDataManager;
+import bcu.cmp5332.bookingsystem.data.SegmentedDataManager;
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Booking;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+public class BookingFileFormatTest {
+
+    private static final String LEGACY_BOOKINGS =
+            "1::Ann::0701::ann@example.com::1::FL1::London::Paris::2030-01-01::10::100::2024-01-10::\n"
+            + "2::Bob::0702::bob@example.com::1::FL1::London::Paris::2030-01-01::10::100::2024-01-11::1C::\n";
+
+    @Rule
+    public final DataFiles dataFiles = new DataFiles();
+
+    @Before
+    public void setUp() throws Exception {
+        write("flights.txt", "1::FL1::London::Paris::2030-01-01::10::100::\n");
+        write("customers.txt", "1::Ann::0701::ann@example.com::\n2::Bob::0702::bob@example.com::\n");
+    }
+
+    @Test
+    public void testLegacyLinesLinkLoadedInstances() throws Exception {
+        write("bookings.txt", LEGACY_BOOKINGS);
+        BookingDataManager bookingData = new BookingDataManager();
+        FlightBookingSystem fbs = load(bookingData);
+
+        List<Booking> bookings = fbs.bookingsForFlight(1);
+        assertEquals(2, bookings.size());
+        assertSame(fbs.getCustomerByID(1), bookings.get(0).getCustomer());
+        assertSame(fbs.getFlightByID(1), bookings.get(0).getFlight());
+        assertEquals(LocalDate.parse("2024-01-11"), bookings.get(1).getBookingDate());
+        assertEquals("1C", bookings.get(1).getSeatLabel());
+        assertEquals(1, fbs.getCustomerByID(2).getBookings().size());
+    }
+
+    @Test
+    public void testLegacyFileRewrittenOnNextSave() throws Exception {
+        write("bookings.txt", LEGACY_BOOKINGS);
+        BookingDataManager bookingData = new BookingDataManager();
+        FlightBookingSystem fbs = load(bookingData);
+        fbs.getChanges().clear(); // Nothing changed since loading
+
+        bookingData.storeData(fbs);
+        List<String> lines = Files.readAllLines(dataFiles.file("bookings.txt"), StandardCharsets.UTF_8);
+        assertEquals(List.of("1::1::2024-01-10::1A::", "2::1::2024-01-11::1C::"), lines);
+    }
+
+    @Test
+    public void testParallelLoaderReadsLegacyLines() throws Exception {
+        write("bookings.txt", LEGACY_BOOKINGS);
+        FlightBookingSystem fbs = new FlightBookingSystem();
+        new ParallelDataManager().loadData(fbs);
+        assertEquals(2, fbs.bookingsForFlight(1).size());
+        assertEquals("1C", fbs.bookingsForCustomer(2).get(0).getSeatLabel());
+    }
+
+    @Test
+    public void testMixedFormatsLoad() throws Exception {
+        write("bookings.txt", "1::1::2024-01-10::\n" + LEGACY_BOOKINGS.substring(LEGACY_BOOKINGS.indexOf('\n') + 1));
+        FlightBookingSystem fbs = load(new BookingDataManager());
+        assertEquals(2, fbs.bookingsForFlight(1).size());
+        assertEquals(8, fbs.numberOfRemainingSeats(1));
+    }
+
+    @Test
+    public void testUnknownCustomerRejected() throws Exception {
+        write("bookings.txt", "3::1::2024-01-10::\n");
+        try {
+            load(new BookingDataManager());
+            fail("Customer 3 does not exist");
+        } catch (FlightBookingSystemException expected) {
+            // Bookings only refer to customers already loaded
+        }
+    }
+
+    @Test
+    public void testDeletedFlightAndCustomerWithBookingsRoundTrip() throws Exception {
+        FlightBookingSystem fbs = withDeletedFlightAndCustomer();
+        new FlightDataManager().storeData(fbs);
+        new CustomerDataManager().storeData(fbs);
+        new BookingDataManager().storeData(fbs);
+
+        assertDeletedKept(load(new BookingDataManager()));
+        FlightBookingSystem parallel = new FlightBookingSystem();
+        new ParallelDataManager().loadData(parallel);
+        assertDeletedKept(parallel);
+    }
+
+    @Test
+    public void testDeletedFlightAndCustomerWithBookingsRoundTripSegmented() throws Exception {
+        FlightBookingSystem fbs = withDeletedFlightAndCustomer();
+        new SegmentedDataManager().storeData(fbs);
+        assertDeletedKept(loadWith(new SegmentedDataManager()));
+
+        FlightBookingSystem reloaded = loadWith(new SegmentedDataManager());
+        reloaded.deleteCustomer(2); // Only its booking segment is rewritten
+        new SegmentedDataManager().storeData(reloaded);
+        FlightBookingSystem again = loadWith(new SegmentedDataManager());
+        assertEquals(0, again.getBookings().size());
+    }
+
+    @Test
+    public void testDeletedFlightAndCustomerWithBookingsRoundTripBinary() throws Exception {
+        FlightBookingSystem fbs = withDeletedFlightAndCustomer();
+        new BinarySnapshotDataManager().storeData(fbs);
+        assertDeletedKept(loadWith(new BinarySnapshotDataManager()));
+    }
+
+    // two flights and two customers, each customer booked on both, then flight 1 and customer 1 deleted
+    private static FlightBookingSystem withDeletedFlightAndCustomer() throws Exception {
+        FlightBookingSystem fbs = new FlightBookingSystem();
+        fbs.addFlight(new Flight(1, "FL1", "London", "Paris", LocalDate.parse("2030-01-01"), 10, 100));
+        fbs.addFlight(new Flight(2, "FL2", "London", "Rome", LocalDate.parse("2030-01-02"), 10, 100));
+        fbs.addCustomer(new Customer(1, "Ann", "0701", "ann@example.com", new ArrayList<>()));
+        fbs.addCustomer(new Customer(2, "Bob", "0702", "bob@example.com", new ArrayList<>()));
+        for (int customerId = 1; customerId <= 2; customerId++) {
+            fbs.addBookingByIds(customerId, 1, LocalDate.parse("2024-01-10"));
+            fbs.addBookingByIds(customerId, 2, LocalDate.parse("2024-01-10"));
+        }
+        fbs.deleteFlight(1);
+        fbs.deleteCustomer(1);
+        return fbs;
+    }
+
+    // checks the system saved by withDeletedFlightAndCustomer loaded back
+    private static void assertDeletedKept(FlightBookingSystem fbs) throws Exception {
+        assertEquals(1, fbs.getFlights().size());
+        assertTrue(fbs.getFlightByID(1).getDeleted()); // Kept for the booking still on it
+        assertFalse(fbs.getFlightByID(2).getDeleted());
+        assertEquals(1, fbs.getCustomers().size());
+        assertEquals(2, fbs.bookingsForCustomer(2).size());
+        assertEquals(0, fbs.bookingsForCustomer(1).size()); // Left out with the customer
+        assertEquals(1, fbs.bookingsForFlight(2).size());
+        assertEquals(9, fbs.numberOfRemainingSeats(2));
+    }
+
+    private static FlightBookingSystem loadWith(DataManager dataManager) throws Exception {
+        FlightBookingSystem fbs = new FlightBookingSystem();
+        dataManager.loadData(fbs);
+        return fbs;
+    }
+
+    private void write(String name, String text) throws Exception {
+        Path file = dataFiles.file(name);
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static FlightBookingSystem load(BookingDataManager bookingData) throws Exception {
+        FlightBookingSystem fbs = new FlightBookingSystem();
+        new FlightDataManager().loadData(fbs);
+        new CustomerDataManager().loadData(fbs);
+        bookingData.loadData(fbs);
+        return fbs;
+    }
+}
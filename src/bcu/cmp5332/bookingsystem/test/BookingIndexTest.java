@@ -0,0 +1,145 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Booking;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+public class BookingIndexTest {
+
+    private static final LocalDate DATE = LocalDate.parse("2024-01-10");
+
+    private FlightBookingSystem fbs;
+
+    @Before
+    public void setUp() throws FlightBookingSystemException {
+        fbs = new FlightBookingSystem();
+        fbs.addFlight(new Flight(1, "FL1", "London", "Paris", LocalDate.parse("2024-02-01"), 10, 100));
+        fbs.addFlight(new Flight(2, "FL2", "London", "Rome", LocalDate.parse("2024-02-02"), 10, 200));
+        fbs.addCustomer(new Customer(1, "Ann", "111", "ann@example.com", new ArrayList<>()));
+        fbs.addCustomer(new Customer(2, "Bob", "222", "bob@example.com", new ArrayList<>()));
+    }
+
+    @Test
+    public void testBookingsForFlightOnlyHoldsThatFlight() throws FlightBookingSystemException {
+        fbs.addBookingByIds(1, 1, DATE);
+        fbs.addBookingByIds(2, 1, DATE);
+        fbs.addBookingByIds(1, 2, DATE);
+
+        assertEquals(2, fbs.bookingsForFlight(1).size());
+        assertEquals(1, fbs.bookingsForFlight(2).size());
+        assertTrue(fbs.bookingsForFlight(3).isEmpty());
+        for (Booking booking : fbs.bookingsForFlight(1)) {
+            assertEquals(1, booking.getFlight().getId());
+        }
+        assertEquals(List.of("Ann", "Bob"), names(fbs.listOfPassengersByFlight(1)));
+    }
+
+    @Test
+    public void testFlightIndexFollowsCancelAndUpdate() throws FlightBookingSystemException {
+        fbs.addBookingByIds(1, 1, DATE);
+        fbs.addBookingByIds(2, 1, DATE);
+
+        fbs.cancelBooking(2, 1);
+        assertEquals(List.of("Ann"), names(fbs.listOfPassengersByFlight(1)));
+
+        fbs.updateBooking(1, 1, 2, null);
+        assertTrue(fbs.bookingsForFlight(1).isEmpty());
+        assertEquals(List.of("Ann"), names(fbs.listOfPassengersByFlight(2)));
+    }
+
+    @Test
+    public void testBookingsByCustomer() throws FlightBookingSystemException {
+        fbs.addBookingByIds(1, 1, DATE);
+        fbs.addBookingByIds(1, 2, DATE);
+        fbs.addBookingByIds(2, 2, DATE);
+
+        assertEquals(2, fbs.bookingListByCustomer(1).size());
+        assertEquals(1, fbs.bookingListByCustomer(2).size());
+        String details = fbs.customerDetailsLong(1);
+        assertTrue(details.contains("Flight #FL1"));
+        assertTrue(details.contains("Flight #FL2"));
+
+        fbs.cancelBooking(1, 2);
+        assertEquals(1, fbs.bookingListByCustomer(1).size());
+        assertEquals(1, fbs.bookingListByCustomer(1).get(0).getFlight().getId());
+        assertTrue(!fbs.customerDetailsLong(1).contains("Flight #FL2"));
+    }
+
+    @Test(expected = FlightBookingSystemException.class)
+    public void testBookingsOfUnknownCustomer() throws FlightBookingSystemException {
+        fbs.bookingListByCustomer(99);
+    }
+
+    @Test
+    public void testDuplicateBookingRejected() throws FlightBookingSystemException {
+        fbs.addBookingByIds(1, 1, DATE);
+        try {
+            fbs.addBooking(new Booking(fbs.getCustomerByID(1), fbs.getFlightByID(1), DATE));
+            fail("A second booking on the same flight and date should be rejected");
+        } catch (FlightBookingSystemException expected) {
+            // Already booked
+        }
+        fbs.addBookingByIds(1, 1, DATE.plusDays(1)); // Another date is a different booking
+        assertEquals(2, fbs.bookingsForFlight(1).size());
+
+        fbs.cancelBooking(1, 1);
+        fbs.cancelBooking(1, 1);
+        fbs.addBookingByIds(1, 1, DATE); // The key is freed by the cancellation
+        assertEquals(1, fbs.bookingsForFlight(1).size());
+    }
+
+    @Test
+    public void testCancelRemovesOldestBookingFirst() throws FlightBookingSystemException {
+        fbs.addBookingByIds(1, 1, DATE);
+        fbs.addBookingByIds(1, 1, DATE.plusDays(5));
+
+        fbs.cancelBooking(1, 1);
+        List<Booking> left = fbs.bookingListByCustomer(1);
+        assertEquals(1, left.size());
+        assertEquals(DATE.plusDays(5), left.get(0).getBookingDate());
+    }
+
+    @Test
+    public void testUpdateMovesBookingKey() throws FlightBookingSystemException {
+        fbs.addBookingByIds(1, 1, DATE);
+        fbs.updateBooking(1, 1, 2, DATE.plusDays(1));
+
+        Booking moved = fbs.bookingListByCustomer(1).get(0);
+        assertEquals(2, moved.getFlight().getId());
+        assertEquals(DATE.plusDays(1), moved.getBookingDate());
+        try {
+            fbs.cancelBooking(1, 1);
+            fail("The booking is no longer on flight 1");
+        } catch (FlightBookingSystemException expected) {
+            // Nothing left to cancel on the old flight
+        }
+        fbs.cancelBooking(1, 2);
+        assertTrue(fbs.bookingListByCustomer(1).isEmpty());
+    }
+
+    @Test(expected = FlightBookingSystemException.class)
+    public void testUpdateMissingBooking() throws FlightBookingSystemException {
+        fbs.updateBooking(2, 1, 2, null);
+    }
+
+    private static List<String> names(List<Customer> customers) {
+        List<String> names = new ArrayList<>();
+        for (Customer customer : customers) {
+            names.add(customer.getName());
+        }
+        return names;
+    }
+}
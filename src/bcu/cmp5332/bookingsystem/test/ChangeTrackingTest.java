@@ -0,0 +1,192 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.data.BookingDataManager;
+import bcu.cmp5332.bookingsystem.data.CustomerDataManager;
+import bcu.cmp5332.bookingsystem.data.DataManager;
+import bcu.cmp5332.bookingsystem.data.FlightDataManager;
+import bcu.cmp5332.bookingsystem.data.SegmentedDataManager;
+import bcu.cmp5332.bookingsystem.model.Booking;
+import bcu.cmp5332.bookingsystem.model.ChangeTracker;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+public class ChangeTrackingTest {
+
+    private static final LocalDate DATE = LocalDate.parse("2024-01-10");
+    private static final FileTime SAVED = FileTime.fromMillis(0);
+
+    @Rule
+    public final DataFiles dataFiles = new DataFiles();
+
+    private FlightBookingSystem fbs;
+
+    @Before
+    public void setUp() throws Exception {
+        fbs = new FlightBookingSystem();
+        fbs.addFlight(new Flight(1, "FL1", "London", "Paris", LocalDate.parse("2030-01-01"), 10, 100));
+        fbs.addFlight(new Flight(1001, "FL1001", "London", "Rome", LocalDate.parse("2030-01-01"), 10, 100));
+        fbs.addCustomer(new Customer(1, "Ann", "0701", "ann@example.com", new ArrayList<>()));
+        fbs.addCustomer(new Customer(1001, "Bob", "0702", "bob@example.com", new ArrayList<>()));
+        fbs.addBookingByIds(1, 1, DATE);
+        fbs.addBookingByIds(1001, 1001, DATE);
+    }
+
+    @Test
+    public void testChangesMarkedByKindAndId() throws Exception {
+        ChangeTracker changes = fbs.getChanges();
+        changes.clear();
+
+        fbs.updateCustomer(1001, "Bob", "0799", "bob@example.com");
+        fbs.cancelBooking(1, 1);
+        assertFalse(changes.isDirty(ChangeTracker.Kind.FLIGHTS));
+        assertEquals(Set.of(1001), changes.getChangedIds(ChangeTracker.Kind.CUSTOMERS));
+        assertEquals(Set.of(1), changes.getChangedIds(ChangeTracker.Kind.BOOKINGS)); // By customer ID
+
+        fbs.updateFlight(1001, 12, 100);
+        assertEquals(Set.of(1001), changes.take(ChangeTracker.Kind.FLIGHTS));
+        assertFalse(changes.isDirty(ChangeTracker.Kind.FLIGHTS));
+        assertNull(changes.take(ChangeTracker.Kind.FLIGHTS));
+
+        changes.restore(ChangeTracker.Kind.FLIGHTS, Set.of(1001)); // As after a failed save
+        assertTrue(changes.isDirty(ChangeTracker.Kind.FLIGHTS));
+        assertEquals(Set.of(1001), changes.getChangedIds(ChangeTracker.Kind.FLIGHTS));
+    }
+
+    @Test
+    public void testTextStoreSkipsUnchangedFiles() throws Exception {
+        DataManager[] managers = {new FlightDataManager(), new CustomerDataManager(), new BookingDataManager()};
+        store(managers);
+        Path[] files = {dataFiles.file("flights.txt"), dataFiles.file("customers.txt"), dataFiles.file("bookings.txt")};
+        for (Path file : files) {
+            Files.setLastModifiedTime(file, SAVED);
+        }
+
+        fbs.updateCustomer(1, "Ann", "0701", "ann@example.org");
+        store(managers);
+        assertEquals(SAVED, Files.getLastModifiedTime(files[0]));
+        assertTrue(Files.getLastModifiedTime(files[1]).compareTo(SAVED) > 0);
+        assertEquals(SAVED, Files.getLastModifiedTime(files[2]));
+        assertTrue(Files.readString(files[1]).contains("ann@example.org"));
+    }
+
+    @Test
+    public void testFailedSaveKeepsChanges() throws Exception {
+        CustomerDataManager customerData = new CustomerDataManager();
+        Path customers = dataFiles.file("customers.txt");
+        Files.createDirectories(customers.resolve("blocked")); // The move over it fails
+        try {
+            customerData.storeData(fbs);
+            fail("The customers file cannot be replaced");
+        } catch (IOException expected) {
+            assertTrue(fbs.getChanges().isDirty(ChangeTracker.Kind.CUSTOMERS));
+        }
+
+        Files.delete(customers.resolve("blocked"));
+        Files.delete(customers);
+        customerData.storeData(fbs);
+        assertFalse(fbs.getChanges().isDirty(ChangeTracker.Kind.CUSTOMERS));
+        assertTrue(Files.readString(customers).contains("Bob"));
+    }
+
+    @Test
+    public void testSegmentedRoundTrip() throws Exception {
+        new SegmentedDataManager().storeData(fbs);
+        for (String name : new String[] {"flights-0.txt", "flights-1.txt", "customers-0.txt", "customers-1.txt",
+                "bookings-0.txt", "bookings-1.txt"}) {
+            assertTrue(name, Files.exists(segment(name)));
+        }
+
+        FlightBookingSystem loaded = new FlightBookingSystem();
+        new SegmentedDataManager().loadData(loaded);
+        assertEquals(2, loaded.getFlights().size());
+        assertEquals("Bob", loaded.getCustomerByID(1001).getName());
+        assertEquals(1001, loaded.bookingsForCustomer(1001).get(0).getFlight().getId());
+        assertEquals(9, loaded.numberOfRemainingSeats(1));
+    }
+
+    @Test
+    public void testSegmentedStoreRewritesChangedSegmentsOnly() throws Exception {
+        SegmentedDataManager segmented = new SegmentedDataManager();
+        segmented.storeData(fbs);
+        for (String name : new String[] {"customers-0.txt", "customers-1.txt", "bookings-0.txt", "bookings-1.txt"}) {
+            Files.setLastModifiedTime(segment(name), SAVED);
+        }
+
+        fbs.updateCustomer(1001, "Bob", "0799", "bob@example.com");
+        fbs.addBookingByIds(1, 1001, DATE);
+        segmented.storeData(fbs);
+        assertEquals(SAVED, Files.getLastModifiedTime(segment("customers-0.txt")));
+        assertTrue(Files.getLastModifiedTime(segment("customers-1.txt")).compareTo(SAVED) > 0);
+        assertTrue(Files.getLastModifiedTime(segment("bookings-0.txt")).compareTo(SAVED) > 0); // Customer 1's bookings
+        assertEquals(SAVED, Files.getLastModifiedTime(segment("bookings-1.txt")));
+
+        FlightBookingSystem loaded = new FlightBookingSystem();
+        new SegmentedDataManager().loadData(loaded);
+        assertEquals("0799", loaded.getCustomerByID(1001).getPhone());
+        assertEquals(2, loaded.bookingsForCustomer(1).size());
+    }
+
+    @Test
+    public void testSegmentedReloadKeepsBookingOrderAndIds() throws Exception {
+        fbs.addBookingByIds(1, 1001, DATE);
+        fbs.cancelBooking(1, 1);
+        fbs.addBookingByIds(1, 1, DATE.plusDays(1));
+        new SegmentedDataManager().storeData(fbs); // Customer 1's bookings come first in the segments
+
+        FlightBookingSystem loaded = new FlightBookingSystem();
+        new SegmentedDataManager().loadData(loaded);
+        assertEquals(bookingOrder(fbs), bookingOrder(loaded));
+        assertEquals(List.of("2:1001", "3:1", "4:1"), bookingOrder(loaded));
+        loaded.addBookingByIds(1001, 1, DATE);
+        assertEquals(5, loaded.bookingsForCustomer(1001).get(1).getId()); // Numbering carries on past the IDs loaded
+    }
+
+    @Test
+    public void testEmptiedSegmentDeleted() throws Exception {
+        SegmentedDataManager segmented = new SegmentedDataManager();
+        segmented.storeData(fbs);
+        fbs.cancelBooking(1001, 1001);
+        segmented.storeData(fbs);
+        assertFalse(Files.exists(segment("bookings-1.txt")));
+        assertTrue(Files.exists(segment("bookings-0.txt")));
+    }
+
+    // each booking's ID and customer ID, in the order the system lists them
+    private static List<String> bookingOrder(FlightBookingSystem fbs) {
+        List<String> order = new ArrayList<>();
+        for (Booking booking : fbs.getBookings()) {
+            order.add(booking.getId() + ":" + booking.getCustomer().getId());
+        }
+        return order;
+    }
+
+    private void store(DataManager[] managers) throws IOException {
+        for (DataManager manager : managers) {
+            manager.storeData(fbs);
+        }
+    }
+
+    private Path segment(String name) {
+        return dataFiles.file("segments").resolve(name);
+    }
+}
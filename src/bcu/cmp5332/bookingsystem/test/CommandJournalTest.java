@@ -0,0 +1,148 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.commands.AddBooking;
+import bcu.cmp5332.bookingsystem.commands.CancelBooking;
+import bcu.cmp5332.bookingsystem.data.FlightBookingSystemData;
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Booking;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+public class CommandJournalTest {
+
+    private static final LocalDate FIRST = LocalDate.parse("2029-01-01");
+    private static final LocalDate SECOND = LocalDate.parse("2029-02-02");
+
+    @Rule
+    public final DataFiles dataFiles = new DataFiles();
+
+    private final ByteArrayOutputStream errors = new ByteArrayOutputStream();
+    private PrintStream console;
+    private FlightBookingSystem fbs;
+
+    @Before
+    public void setUp() throws Exception {
+        console = System.err;
+        System.setErr(new PrintStream(errors, true, "UTF-8"));
+        fbs = new FlightBookingSystem();
+        fbs.addFlight(new Flight(1, "FL1", "London", "Paris", LocalDate.parse("2030-01-01"), 10, 100));
+        fbs.addCustomer(new Customer(1, "Ann", "0701", "ann@example.com", new ArrayList<>()));
+        fbs.addCustomer(new Customer(2, "Bob", "0702", "bob@example.com", new ArrayList<>()));
+        FlightBookingSystemData.store(fbs); // Also empties the journal
+    }
+
+    @After
+    public void tearDown() {
+        System.setErr(console);
+    }
+
+    @Test
+    public void testReplayAfterCrashAppliesJournal() throws Exception {
+        FlightBookingSystemData.execute(new AddBooking(2, 1, FIRST), fbs);
+        FlightBookingSystemData.execute(new AddBooking(2, 1, SECOND), fbs);
+        FlightBookingSystemData.execute(new CancelBooking(2, 1), fbs);
+
+        FlightBookingSystem reloaded = FlightBookingSystemData.load(); // Nothing saved since the setup
+        assertEquals(List.of(SECOND), bookingDates(reloaded, 2));
+        assertEquals(3, reloaded.getLastJournalSequence());
+        assertEquals("", errors.toString("UTF-8"));
+    }
+
+    @Test
+    public void testReplayAfterSaveSkipsSavedCommands() throws Exception {
+        FlightBookingSystemData.execute(new AddBooking(2, 1, FIRST), fbs);
+        FlightBookingSystemData.execute(new AddBooking(2, 1, SECOND), fbs);
+        FlightBookingSystemData.execute(new CancelBooking(2, 1), fbs);
+        byte[] journal = Files.readAllBytes(dataFiles.file("journal.txt"));
+        FlightBookingSystemData.store(fbs);
+        Files.write(dataFiles.file("journal.txt"), journal); // As if the save stopped before emptying it
+
+        FlightBookingSystem reloaded = FlightBookingSystemData.load();
+        assertEquals(List.of(SECOND), bookingDates(reloaded, 2));
+        assertEquals(9, reloaded.numberOfRemainingSeats(1));
+        assertEquals("", errors.toString("UTF-8"));
+
+        FlightBookingSystemData.execute(new AddBooking(1, 1, FIRST), reloaded);
+        assertEquals(4, reloaded.getLastJournalSequence()); // Numbering carries on past the save
+        FlightBookingSystem again = FlightBookingSystemData.load();
+        assertEquals(List.of(FIRST), bookingDates(again, 1));
+        assertEquals(List.of(SECOND), bookingDates(again, 2));
+    }
+
+    @Test
+    public void testCommandRejectedWhenFirstAppliedIsSkipped() throws Exception {
+        try {
+            FlightBookingSystemData.execute(new CancelBooking(1, 1), fbs);
+            fail("Customer 1 has no booking to cancel");
+        } catch (FlightBookingSystemException expected) {
+            // Journaled, then marked as rejected
+        }
+        FlightBookingSystemData.execute(new AddBooking(1, 1, FIRST), fbs);
+
+        FlightBookingSystem reloaded = FlightBookingSystemData.load();
+        assertEquals(List.of(FIRST), bookingDates(reloaded, 1));
+        assertEquals(2, reloaded.getLastJournalSequence());
+        assertEquals("", errors.toString("UTF-8"));
+    }
+
+    @Test
+    public void testCommandRejectedOnReplayIsReported() throws Exception {
+        Files.write(dataFiles.file("journal.txt"), "1::cancelbooking::1::1::\n".getBytes(StandardCharsets.UTF_8));
+
+        FlightBookingSystem reloaded = FlightBookingSystemData.load();
+        assertEquals(1, reloaded.getLastJournalSequence());
+        String reported = errors.toString("UTF-8");
+        assertTrue(reported, reported.contains("line 1"));
+        assertTrue(reported, reported.contains("No booking found"));
+    }
+
+    @Test
+    public void testReplayLeavesConsoleAlone() throws Exception {
+        FlightBookingSystemData.execute(new AddBooking(2, 1, FIRST), fbs);
+        PrintStream stdout = System.out;
+        ByteArrayOutputStream console = new ByteArrayOutputStream();
+        PrintStream capture = new PrintStream(console, true, "UTF-8");
+        System.setOut(capture);
+        try {
+            FlightBookingSystem reloaded = FlightBookingSystemData.load();
+            assertEquals(List.of(FIRST), bookingDates(reloaded, 2));
+            assertSame(capture, System.out); // Never swapped, so other threads keep printing to it
+            assertEquals("", console.toString("UTF-8")); // The replayed command printed nowhere
+
+            ByteArrayOutputStream messages = new ByteArrayOutputStream();
+            new AddBooking(1, 1, SECOND).execute(reloaded, new PrintStream(messages, true, "UTF-8"));
+            assertTrue(messages.toString("UTF-8").startsWith("Booked seat"));
+            assertEquals("", console.toString("UTF-8"));
+        } finally {
+            System.setOut(stdout);
+        }
+    }
+
+    // the booking dates of a customer's bookings, oldest first
+    private static List<LocalDate> bookingDates(FlightBookingSystem fbs, int customerId) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (Booking booking : fbs.bookingsForCustomer(customerId)) {
+            dates.add(booking.getBookingDate());
+        }
+        return dates;
+    }
+}
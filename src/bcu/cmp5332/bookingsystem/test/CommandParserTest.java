@@ -0,0 +1,82 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.commands.AddBooking;
+import bcu.cmp5332.bookingsystem.commands.AddFlight;
+import bcu.cmp5332.bookingsystem.commands.AddGroupBooking;
+import bcu.cmp5332.bookingsystem.commands.Command;
+import bcu.cmp5332.bookingsystem.main.CommandParser;
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+
+public class CommandParserTest {
+
+    private static final LocalDate DATE = LocalDate.parse("2029-01-01");
+
+    private InputStream console;
+    private PrintStream out;
+
+    @Before
+    public void setUp() {
+        console = System.in;
+        out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream())); // Hide the prompts
+    }
+
+    @After
+    public void tearDown() {
+        System.setIn(console);
+        System.setOut(out);
+    }
+
+    @Test
+    public void testAddBookingWithSeat() throws Exception {
+        Command command = parse("addbooking 2 1 12C", "2029-01-01");
+        assertEquals(new AddBooking(2, 1, DATE, "12C").journalRecord(), command.journalRecord());
+    }
+
+    @Test
+    public void testAddBookingWithoutSeat() throws Exception {
+        Command command = parse("addbooking 2 1", "2029-01-01");
+        assertEquals(new AddBooking(2, 1, DATE).journalRecord(), command.journalRecord());
+    }
+
+    @Test
+    public void testGroupBookingListMayHoldSpaces() throws Exception {
+        Command command = parse("addgroupbooking 1 2, 3", "2029-01-01");
+        assertEquals(new AddGroupBooking(List.of(2, 3), 1, DATE).journalRecord(), command.journalRecord());
+    }
+
+    @Test
+    public void testAddFlightSeatsPerRow() throws Exception {
+        Command command = parse("addflight", "FL1", "London", "Paris", "2029-01-01", "40", "100", "4");
+        assertEquals(new AddFlight("FL1", "London", "Paris", DATE, 40, 100, 4).journalRecord(), command.journalRecord());
+
+        command = parse("addflight", "FL1", "London", "Paris", "2029-01-01", "40", "100", "");
+        assertEquals(new AddFlight("FL1", "London", "Paris", DATE, 40, 100).journalRecord(), command.journalRecord());
+    }
+
+    @Test(expected = FlightBookingSystemException.class)
+    public void testAddBookingRejectsNonNumericFlight() throws Exception {
+        parse("addbooking 2 one 12C", "2029-01-01");
+    }
+
+    // parses a command line, answering its prompts with the given lines
+    private static Command parse(String line, String... answers) throws Exception {
+        String input = String.join(System.lineSeparator(), answers) + System.lineSeparator();
+        System.setIn(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+        return CommandParser.parse(line);
+    }
+}
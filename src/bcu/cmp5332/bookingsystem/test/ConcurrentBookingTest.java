@@ -0,0 +1,122 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Booking;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+public class ConcurrentBookingTest {
+
+    private static final LocalDate DATE = LocalDate.parse("2024-01-10");
+    private static final int THREADS = 8;
+    private static final int CUSTOMERS = 400;
+    private static final int SEATS = 50;
+
+    private FlightBookingSystem fbs;
+
+    @Before
+    public void setUp() throws FlightBookingSystemException {
+        fbs = new FlightBookingSystem(true);
+        fbs.addFlight(new Flight(1, "FL1", "London", "Paris", LocalDate.parse("2024-02-01"), SEATS, 100));
+        fbs.addFlight(new Flight(2, "FL2", "London", "Rome", LocalDate.parse("2024-02-01"), SEATS, 100));
+        for (int id = 1; id <= CUSTOMERS; id++) {
+            fbs.addCustomer(new Customer(id, "Customer " + id, "0700" + id, "c" + id + "@example.com", new ArrayList<>()));
+        }
+    }
+
+    @Test
+    public void testConcurrentBookingNeverOversells() throws Exception {
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        run(thread -> {
+            for (int id = thread + 1; id <= CUSTOMERS; id += THREADS) {
+                try {
+                    fbs.addBookingByIds(id, 1, DATE);
+                    booked.incrementAndGet();
+                } catch (FlightBookingSystemException ex) {
+                    rejected.incrementAndGet(); // The flight is full
+                }
+            }
+        });
+
+        assertEquals(SEATS, booked.get());
+        assertEquals(CUSTOMERS - SEATS, rejected.get());
+        assertEquals(0, fbs.numberOfRemainingSeats(1));
+        List<Booking> bookings = fbs.bookingsForFlight(1);
+        assertEquals(SEATS, bookings.size());
+        Set<Integer> seats = new HashSet<>();
+        for (Booking booking : bookings) {
+            assertTrue(seats.add(booking.getSeat())); // No seat handed out twice
+        }
+    }
+
+    @Test
+    public void testConcurrentBookAndCancelKeepsCountsExact() throws Exception {
+        run(thread -> {
+            int flightId = thread % 2 + 1; // Half the threads on each flight
+            for (int id = thread + 1; id <= CUSTOMERS; id += THREADS) {
+                try {
+                    fbs.addBookingByIds(id, flightId, DATE);
+                    if (id % 3 == 0) {
+                        fbs.cancelBooking(id, flightId);
+                    }
+                } catch (FlightBookingSystemException ex) {
+                    // The flight is full
+                }
+            }
+        });
+
+        for (int flightId = 1; flightId <= 2; flightId++) {
+            int bookings = fbs.bookingsForFlight(flightId).size();
+            assertEquals(SEATS, bookings + fbs.numberOfRemainingSeats(flightId));
+            assertEquals(bookings, fbs.getFlightByID(flightId).getSeatMap().getNumberTaken());
+        }
+    }
+
+    // runs a task on several threads started together and waits for all of them
+    private static void run(ThreadTask task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    task.run(thread);
+                } catch (Throwable ex) {
+                    synchronized (failures) {
+                        failures.add(ex);
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue("Booking threads failed: " + failures, failures.isEmpty());
+    }
+
+    private interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+}
@@ -0,0 +1,81 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.rules.ExternalResource;
+
+/**
+ * Moves the data files aside before a test that saves and loads the system and puts them back
+ * afterwards, so each test starts from an empty data directory and the real data is never changed.
+ *
+ * @author Sujal Manandhar
+ */
+public class DataFiles extends ExternalResource {
+
+    public static final Path DIRECTORY = Paths.get("resources/data");
+
+    private Path backup; // Where the real data files are kept during the test
+
+    @Override
+    protected void before() throws IOException {
+        Files.createDirectories(DIRECTORY);
+        backup = Files.createTempDirectory("bookingsystem-data");
+        copy(DIRECTORY, backup);
+        clear(DIRECTORY);
+    }
+
+    @Override
+    protected void after() {
+        try {
+            clear(DIRECTORY);
+            copy(backup, DIRECTORY);
+            clear(backup);
+            Files.delete(backup);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to restore the data files from " + backup, ex);
+        }
+    }
+
+    /**
+     * Retrieves a file in the data directory.
+     *
+     * @param name The file name.
+     * @return The path of the file.
+     */
+    public Path file(String name) {
+        return DIRECTORY.resolve(name);
+    }
+
+    // copies everything under one directory into another
+    private static void copy(Path from, Path to) throws IOException {
+        try (Stream<Path> paths = Files.walk(from)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                Path target = to.resolve(from.relativize(path).toString());
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(target);
+                } else {
+                    Files.copy(path, target);
+                }
+            }
+        }
+    }
+
+    // deletes everything under a directory, leaving the directory itself
+    private static void clear(Path dir) throws IOException {
+        List<Path> paths = new ArrayList<>();
+        try (Stream<Path> walk = Files.walk(dir)) {
+            walk.filter(path -> !path.equals(dir)).forEach(paths::add);
+        }
+        Collections.reverse(paths); // Files before the directories holding them
+        for (Path path : paths) {
+            Files.delete(path);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.data.FlightArchiveFile;
+import bcu.cmp5332.bookingsystem.model.Booking;
+import bcu.cmp5332.bookingsystem.model.ChangeTracker;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+public class FlightArchiveTest {
+
+    private static final LocalDate DATE = LocalDate.parse("2020-01-01");
+
+    @Rule
+    public final DataFiles dataFiles = new DataFiles();
+
+    private FlightBookingSystem fbs;
+
+    @Before
+    public void setUp() throws Exception {
+        fbs = new FlightBookingSystem();
+        fbs.setFlightArchive(new FlightArchiveFile());
+        fbs.addFlight(new Flight(1, "FL1", "London", "Paris", DATE.plusDays(30), 2, 100)); // Departed before the system date
+        fbs.addFlight(new Flight(2, "FL2", "London", "Rome", DATE.plusYears(5), 2, 100));
+        for (int id = 1; id <= 3; id++) {
+            fbs.addCustomer(new Customer(id, "Customer " + id, "0700" + id, "c" + id + "@example.com", new ArrayList<>()));
+        }
+    }
+
+    @Test
+    public void testCompactionArchivesDepartedFlights() throws Exception {
+        fbs.addBookingByIds(1, 1, DATE, "1A");
+        assertEquals(1, fbs.compactFlights());
+        assertEquals(1, fbs.getFlights().size());
+        assertTrue(fbs.bookingsForFlight(1).isEmpty());
+
+        Flight restored = fbs.getFlightByID(1);
+        assertEquals("FL1", restored.getFlightNumber());
+        List<Booking> bookings = fbs.bookingsForFlight(1);
+        assertEquals(1, bookings.size());
+        assertSame(fbs.getCustomerByID(1), bookings.get(0).getCustomer());
+        assertEquals("1A", bookings.get(0).getSeatLabel());
+    }
+
+    @Test
+    public void testCompactionClearsWaitlist() throws Exception {
+        fbs.addBookingByIds(1, 1, DATE);
+        fbs.addBookingByIds(2, 1, DATE);
+        fbs.joinWaitlist(3, 1, DATE, 0);
+        fbs.getChanges().clear();
+
+        fbs.compactFlights();
+        assertTrue(fbs.getWaitlist(1).isEmpty());
+        assertTrue(fbs.getWaitlistDepths().isEmpty());
+        assertTrue(fbs.getChanges().isDirty(ChangeTracker.Kind.WAITLISTS));
+
+        fbs.getFlightByID(1);
+        assertEquals(1, fbs.joinWaitlist(3, 1, DATE, 0)); // No longer counted as waiting
+    }
+
+    @Test
+    public void testArchivingAgainReplacesRecord() throws Exception {
+        fbs.addBookingByIds(1, 1, DATE);
+        fbs.compactFlights();
+        fbs.getFlightByID(1);
+        fbs.addBookingByIds(2, 1, DATE);
+        fbs.compactFlights();
+
+        long records = Files.readAllLines(dataFiles.file("archive.txt"), StandardCharsets.UTF_8).stream()
+                .filter(line -> line.startsWith("F::"))
+                .count();
+        assertEquals(1, records);
+
+        List<Booking> bookings = new ArrayList<>();
+        Flight flight = new FlightArchiveFile().restore(1, bookings); // Reindexed from the file
+        assertEquals(1, flight.getId());
+        assertEquals(2, bookings.size());
+    }
+
+    @Test
+    public void testRestoreDropsBookingsOfDeletedCustomers() throws Exception {
+        fbs.addBookingByIds(1, 1, DATE);
+        fbs.addBookingByIds(2, 1, DATE);
+        fbs.compactFlights();
+        fbs.deleteCustomer(2);
+
+        fbs.getFlightByID(1);
+        List<Booking> bookings = fbs.bookingsForFlight(1);
+        assertEquals(1, bookings.size());
+        assertEquals(1, bookings.get(0).getCustomer().getId());
+        assertEquals(1, fbs.numberOfRemainingSeats(1));
+        assertFalse(fbs.bookingsForCustomer(2).iterator().hasNext());
+    }
+}
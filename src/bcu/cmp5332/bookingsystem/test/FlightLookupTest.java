@@ -0,0 +1,82 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+public class FlightLookupTest {
+
+    private static final LocalDate DEPARTURE = LocalDate.parse("2024-03-01");
+
+    private FlightBookingSystem fbs;
+
+    @Before
+    public void setUp() throws FlightBookingSystemException {
+        fbs = new FlightBookingSystem();
+        fbs.addFlight(new Flight(1, "FL1", "London", "Paris", DEPARTURE, 10, 100));
+    }
+
+    @Test
+    public void testFindFlightByNumberAndDate() throws FlightBookingSystemException {
+        fbs.addFlight(new Flight(2, "FL1", "London", "Paris", DEPARTURE.plusDays(1), 10, 100));
+        assertEquals(1, fbs.findFlight("FL1", DEPARTURE).getId());
+        assertEquals(2, fbs.findFlight("FL1", DEPARTURE.plusDays(1)).getId());
+    }
+
+    @Test(expected = FlightBookingSystemException.class)
+    public void testDuplicateFlightRejected() throws FlightBookingSystemException {
+        fbs.addFlight(new Flight(2, "FL1", "London", "Rome", DEPARTURE, 20, 150));
+    }
+
+    @Test
+    public void testActiveFlightsViewIsLiveAndReadOnly() throws FlightBookingSystemException {
+        Collection<Flight> flights = fbs.getFlights();
+        fbs.addFlight(new Flight(3, "FL3", "London", "Oslo", DEPARTURE, 10, 100));
+        fbs.addFlight(new Flight(2, "FL2", "London", "Rome", DEPARTURE, 10, 100));
+        assertEquals(List.of(1, 2, 3), ids(flights)); // Ordered by ID and kept up to date
+
+        fbs.deleteFlight(2);
+        assertEquals(List.of(1, 3), ids(flights));
+        assertEquals(2, fbs.getFlightByID(2).getId()); // Still found by ID once deleted
+        try {
+            flights.clear();
+            fail("The active flights view should be read-only");
+        } catch (UnsupportedOperationException expected) {
+            // Only the system changes its flights
+        }
+    }
+
+    @Test
+    public void testDeletedFlightFreesNumberAndDate() throws FlightBookingSystemException {
+        fbs.deleteFlight(1);
+        try {
+            fbs.findFlight("FL1", DEPARTURE);
+            fail("A deleted flight should not be found");
+        } catch (FlightBookingSystemException expected) {
+            // The deleted flight no longer holds its number and date
+        }
+        Flight replacement = new Flight(2, "FL1", "London", "Paris", DEPARTURE, 10, 100);
+        fbs.addFlight(replacement);
+        assertSame(replacement, fbs.findFlight("FL1", DEPARTURE));
+    }
+
+    private static List<Integer> ids(Collection<Flight> flights) {
+        List<Integer> ids = new ArrayList<>();
+        for (Flight flight : flights) {
+            ids.add(flight.getId());
+        }
+        return ids;
+    }
+}
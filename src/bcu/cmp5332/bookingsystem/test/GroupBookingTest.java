@@ -0,0 +1,109 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.data.FlightBookingSystemData;
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Booking;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+public class GroupBookingTest {
+
+    private static final LocalDate DATE = LocalDate.parse("2029-01-10");
+
+    @Rule
+    public final DataFiles dataFiles = new DataFiles();
+
+    private FlightBookingSystem fbs;
+
+    @Before
+    public void setUp() throws FlightBookingSystemException {
+        fbs = new FlightBookingSystem();
+        fbs.addFlight(new Flight(1, "FL1", "London", "Paris", LocalDate.parse("2030-02-01"), 12, 100));
+        fbs.addFlight(new Flight(2, "FL2", "London", "Rome", LocalDate.parse("2030-02-01"), 2, 100));
+        for (int id = 1; id <= 4; id++) {
+            fbs.addCustomer(new Customer(id, "Customer " + id, "0700" + id, "c" + id + "@example.com", new ArrayList<>()));
+        }
+    }
+
+    @Test
+    public void testGroupSeatedTogether() throws FlightBookingSystemException {
+        fbs.addBookingByIds(4, 1, DATE, "1B"); // Leaves no three adjacent seats in front of 1C
+        int groupId = fbs.addGroupBooking(List.of(1, 2, 3), 1, DATE);
+
+        List<Booking> group = fbs.bookingsForGroup(groupId);
+        assertEquals(3, group.size());
+        assertEquals(List.of("1C", "1D", "1E"), labels(group));
+        for (Booking booking : group) {
+            assertEquals(groupId, booking.getGroupId());
+        }
+        assertEquals(8, fbs.numberOfRemainingSeats(1));
+    }
+
+    @Test
+    public void testGroupBookedAllOrNothing() throws FlightBookingSystemException {
+        try {
+            fbs.addGroupBooking(List.of(1, 2, 3), 2, DATE);
+            fail("Three customers should not fit on a two-seat flight");
+        } catch (FlightBookingSystemException expected) {
+            // Nobody in the party is booked
+        }
+        try {
+            fbs.addGroupBooking(List.of(1, 99), 1, DATE);
+            fail("A party with an unknown customer should be rejected");
+        } catch (FlightBookingSystemException expected) {
+            // Customer 1 is not booked either
+        }
+        assertTrue(fbs.getBookings().isEmpty());
+        assertEquals(2, fbs.numberOfRemainingSeats(2));
+        assertEquals(12, fbs.numberOfRemainingSeats(1));
+    }
+
+    @Test
+    public void testCancelGroupBooking() throws FlightBookingSystemException {
+        fbs.addBookingByIds(4, 1, DATE);
+        int groupId = fbs.addGroupBooking(List.of(1, 2, 3), 1, DATE);
+
+        assertEquals(3, fbs.cancelGroupBooking(groupId));
+        assertTrue(fbs.bookingsForGroup(groupId).isEmpty());
+        assertEquals(1, fbs.getBookings().size()); // The booking outside the group stays
+        assertEquals(11, fbs.numberOfRemainingSeats(1));
+        try {
+            fbs.cancelGroupBooking(groupId);
+            fail("A cancelled group should not be found again");
+        } catch (FlightBookingSystemException expected) {
+            // The group is gone
+        }
+    }
+
+    @Test
+    public void testGroupSurvivesSaveAndLoad() throws Exception {
+        int groupId = fbs.addGroupBooking(List.of(1, 2), 1, DATE);
+        FlightBookingSystemData.store(fbs);
+
+        FlightBookingSystem reloaded = FlightBookingSystemData.load();
+        assertEquals(List.of("1A", "1B"), labels(reloaded.bookingsForGroup(groupId)));
+        assertEquals(2, reloaded.cancelGroupBooking(groupId));
+        assertEquals(groupId + 1, reloaded.addGroupBooking(List.of(3), 1, DATE)); // Group IDs are not reused
+    }
+
+    private static List<String> labels(List<Booking> bookings) {
+        List<String> labels = new ArrayList<>();
+        for (Booking booking : bookings) {
+            labels.add(booking.getSeatLabel());
+        }
+        return labels;
+    }
+}
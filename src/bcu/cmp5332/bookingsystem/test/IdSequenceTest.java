@@ -0,0 +1,94 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.data.FlightBookingSystemData;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+public class IdSequenceTest {
+
+    @Rule
+    public final DataFiles dataFiles = new DataFiles();
+
+    @Test
+    public void testNextIdFollowsHighestAdded() throws Exception {
+        FlightBookingSystem fbs = new FlightBookingSystem();
+        fbs.addFlight(flight(5));
+        fbs.addCustomer(customer(9));
+        assertEquals(6, fbs.nextFlightId());
+        assertEquals(7, fbs.nextFlightId());
+        assertEquals(10, fbs.nextCustomerId());
+    }
+
+    @Test
+    public void testConcurrentAllocationIsUnique() throws Exception {
+        FlightBookingSystem fbs = new FlightBookingSystem(true);
+        Set<Integer> ids = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    ids.add(fbs.nextCustomerId());
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(8000, ids.size());
+        assertEquals(8001, fbs.nextCustomerId());
+    }
+
+    @Test
+    public void testDeletedIdsNotReusedAfterRestart() throws Exception {
+        FlightBookingSystem fbs = new FlightBookingSystem();
+        for (int id = 1; id <= 3; id++) {
+            fbs.addFlight(flight(id));
+            fbs.addCustomer(customer(id));
+        }
+        fbs.deleteFlight(3); // The highest flight, soft deleted and not saved
+        fbs.deleteCustomer(3);
+        FlightBookingSystemData.store(fbs);
+
+        FlightBookingSystem reloaded = FlightBookingSystemData.load();
+        assertEquals(2, reloaded.getFlights().size());
+        assertEquals(4, reloaded.nextFlightId());
+        assertEquals(4, reloaded.nextCustomerId());
+    }
+
+    @Test
+    public void testSequencesSeededFromDataWithoutSequenceFile() throws Exception {
+        FlightBookingSystem fbs = new FlightBookingSystem();
+        fbs.addFlight(flight(4));
+        fbs.addCustomer(customer(2));
+        FlightBookingSystemData.store(fbs);
+        Files.delete(dataFiles.file("sequences.txt")); // Data saved before the sequences were
+
+        FlightBookingSystem reloaded = FlightBookingSystemData.load();
+        assertEquals(5, reloaded.nextFlightId());
+        assertEquals(3, reloaded.nextCustomerId());
+    }
+
+    private static Flight flight(int id) {
+        return new Flight(id, "FL" + id, "London", "Paris", LocalDate.parse("2030-01-01").plusDays(id), 10, 100);
+    }
+
+    private static Customer customer(int id) {
+        return new Customer(id, "Customer " + id, "0700" + id, "c" + id + "@example.com", new ArrayList<>());
+    }
+}
@@ -0,0 +1,114 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.data.BookingDataManager;
+import bcu.cmp5332.bookingsystem.data.CustomerDataManager;
+import bcu.cmp5332.bookingsystem.data.FlightDataManager;
+import bcu.cmp5332.bookingsystem.data.MappedRecordReader;
+import bcu.cmp5332.bookingsystem.data.RecordReader;
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+public class MappedLoaderTest {
+
+    @Rule
+    public final DataFiles dataFiles = new DataFiles();
+
+    @Test
+    public void testMappedReadsSameRecordsAsStream() throws Exception {
+        Path file = write("records.txt", "1::Caf\u00e9::2024-01-10::\r\n\r\n2::a\\:\\:b::-7::\n3::last::");
+
+        List<List<String>> streamed = readAll(RecordReader.open(file, false));
+        List<List<String>> mapped = readAll(RecordReader.open(file, true));
+        assertEquals(3, mapped.size()); // Blank line skipped, last line has no line break
+        assertEquals(List.of("1", "Caf\u00e9", "2024-01-10"), mapped.get(0));
+        assertEquals(List.of("2", "a::b", "-7"), mapped.get(1));
+        assertEquals(streamed, mapped);
+    }
+
+    @Test
+    public void testSplitPartsStartOnLinesAndCoverFile() throws Exception {
+        StringBuilder text = new StringBuilder();
+        for (int i = 1; i <= 500; i++) {
+            text.append(i).append("::name ").append(i).append("::\n");
+        }
+        Path file = write("records.txt", text.toString());
+
+        List<List<String>> whole = readAll(new MappedRecordReader(file));
+        List<List<String>> parts = new ArrayList<>();
+        List<MappedRecordReader> readers = new MappedRecordReader(file).split(4);
+        assertEquals(4, readers.size());
+        for (MappedRecordReader reader : readers) {
+            List<List<String>> records = readAll(reader);
+            assertTrue(records.get(0).get(1).startsWith("name ")); // Not cut mid-line
+            parts.addAll(records);
+        }
+        assertEquals(whole, parts);
+    }
+
+    @Test
+    public void testMappedManagersLoadStoredFiles() throws Exception {
+        FlightBookingSystem fbs = new FlightBookingSystem();
+        fbs.addFlight(new Flight(1, "FL1", "London", "Paris", LocalDate.parse("2030-01-01"), 10, 100));
+        fbs.addCustomer(new Customer(1, "Ann: \"A\"", "0701", "ann@example.com", new ArrayList<>()));
+        fbs.addBookingByIds(1, 1, LocalDate.parse("2024-01-10"), "1C");
+        new FlightDataManager().storeData(fbs);
+        new CustomerDataManager().storeData(fbs);
+        new BookingDataManager().storeData(fbs);
+
+        FlightBookingSystem loaded = new FlightBookingSystem();
+        new FlightDataManager(true).loadData(loaded);
+        new CustomerDataManager(true).loadData(loaded);
+        new BookingDataManager(true).loadData(loaded);
+        assertEquals("Paris", loaded.getFlightByID(1).getDestination());
+        assertEquals("Ann: \"A\"", loaded.getCustomerByID(1).getName());
+        assertEquals("1C", loaded.bookingsForCustomer(1).get(0).getSeatLabel());
+    }
+
+    @Test
+    public void testMappedErrorReportsLineNumber() throws Exception {
+        write("flights.txt", "1::FL1::London::Paris::2030-01-01::10::100::\n\n2::FL2::London::Rome::2030-01-01::ten::100::\n");
+        try {
+            new FlightDataManager(true).loadData(new FlightBookingSystem());
+            fail("The seat count on line 3 is not a number");
+        } catch (FlightBookingSystemException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().contains("line 3"));
+        }
+    }
+
+    private Path write(String name, String text) throws Exception {
+        Path file = dataFiles.file(name);
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    // every field of every record, as text
+    private static List<List<String>> readAll(RecordReader in) throws Exception {
+        List<List<String>> records = new ArrayList<>();
+        try (RecordReader reader = in) {
+            while (reader.nextRecord()) {
+                List<String> fields = new ArrayList<>();
+                while (reader.hasField()) {
+                    fields.add(reader.nextString());
+                }
+                records.add(fields);
+            }
+        }
+        return records;
+    }
+}
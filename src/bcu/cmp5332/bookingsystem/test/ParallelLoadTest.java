@@ -0,0 +1,98 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.data.BookingDataManager;
+import bcu.cmp5332.bookingsystem.data.CustomerDataManager;
+import bcu.cmp5332.bookingsystem.data.FlightDataManager;
+import bcu.cmp5332.bookingsystem.data.ParallelDataManager;
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Booking;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+public class ParallelLoadTest {
+
+    private static final LocalDate DATE = LocalDate.parse("2024-01-10");
+    private static final int FLIGHTS = 40;
+    private static final int CUSTOMERS = 5000;
+    private static final int BOOKINGS_EACH = 20; // Enough bookings to split the file into several chunks
+
+    @Rule
+    public final DataFiles dataFiles = new DataFiles();
+
+    @Before
+    public void setUp() throws Exception {
+        FlightBookingSystem fbs = new FlightBookingSystem();
+        for (int id = 1; id <= FLIGHTS; id++) {
+            fbs.addFlight(new Flight(id, "FL" + id, "London", "City " + id, LocalDate.parse("2030-01-01"), 3000, 100));
+        }
+        for (int id = 1; id <= CUSTOMERS; id++) {
+            fbs.addCustomer(new Customer(id, "Customer " + id, "0700" + id, "c" + id + "@example.com", new ArrayList<>()));
+            for (int i = 0; i < BOOKINGS_EACH; i++) {
+                fbs.addBookingByIds(id, (id + i) % FLIGHTS + 1, DATE.plusDays(i));
+            }
+        }
+        new FlightDataManager().storeData(fbs);
+        new CustomerDataManager().storeData(fbs);
+        new BookingDataManager().storeData(fbs);
+        assertTrue(Files.size(dataFiles.file("bookings.txt")) > 2 * (1 << 20)); // At least two chunks of about 1 MB
+    }
+
+    @Test
+    public void testParallelLoadMatchesSequentialLoad() throws Exception {
+        FlightBookingSystem sequential = new FlightBookingSystem();
+        new FlightDataManager().loadData(sequential);
+        new CustomerDataManager().loadData(sequential);
+        new BookingDataManager().loadData(sequential);
+        FlightBookingSystem parallel = new FlightBookingSystem();
+        new ParallelDataManager().loadData(parallel);
+
+        assertEquals(FLIGHTS, parallel.getFlights().size());
+        assertEquals(CUSTOMERS, parallel.getCustomers().size());
+        for (int id = 1; id <= CUSTOMERS; id++) {
+            List<Booking> expected = sequential.bookingsForCustomer(id);
+            List<Booking> actual = parallel.bookingsForCustomer(id);
+            assertEquals(BOOKINGS_EACH, actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getId(), actual.get(i).getId()); // Same IDs as a single thread hands out
+                assertEquals(expected.get(i).getFlight().getId(), actual.get(i).getFlight().getId());
+                assertEquals(expected.get(i).getBookingDate(), actual.get(i).getBookingDate());
+                assertEquals(expected.get(i).getSeat(), actual.get(i).getSeat());
+            }
+        }
+        for (int id = 1; id <= FLIGHTS; id++) {
+            assertEquals(sequential.numberOfRemainingSeats(id), parallel.numberOfRemainingSeats(id));
+        }
+    }
+
+    @Test
+    public void testErrorInLaterChunkReportsFileLine() throws Exception {
+        Path bookings = dataFiles.file("bookings.txt");
+        List<String> lines = Files.readAllLines(bookings, StandardCharsets.UTF_8);
+        int last = lines.size() - 1;
+        lines.set(last, lines.get(last).replace(DATE.plusDays(BOOKINGS_EACH - 1).toString(), "2024-13-45"));
+        Files.write(bookings, lines, StandardCharsets.UTF_8);
+
+        try {
+            new ParallelDataManager().loadData(new FlightBookingSystem());
+            fail("The last booking has an invalid date");
+        } catch (FlightBookingSystemException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().contains("line " + (last + 1)));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.data.CustomerDataManager;
+import bcu.cmp5332.bookingsystem.data.DataManager;
+import bcu.cmp5332.bookingsystem.data.RecordReader;
+import bcu.cmp5332.bookingsystem.data.StreamRecordReader;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+public class RecordReaderTest {
+
+    @Rule
+    public final DataFiles dataFiles = new DataFiles();
+
+    @Test
+    public void testEscapedFieldsReadBack() throws Exception {
+        List<String> fields = List.of("a::b", "ends with :", "back\\slash", "two\nlines\r", "", "plain");
+        StringBuilder line = new StringBuilder();
+        for (String field : fields) {
+            assertEquals(field, DataManager.unescape(DataManager.escape(field)));
+            line.append(DataManager.escape(field)).append(DataManager.SEPARATOR);
+        }
+        assertFalse(line.toString().contains("\n"));
+
+        try (RecordReader in = reader(line.toString())) {
+            assertTrue(in.nextRecord());
+            assertEquals(fields.size(), in.remainingFields());
+            List<String> read = new ArrayList<>();
+            while (in.hasField()) {
+                read.add(in.nextString());
+            }
+            assertEquals(fields, read);
+            assertFalse(in.nextRecord());
+        }
+    }
+
+    @Test
+    public void testIntBounds() throws Exception {
+        try (RecordReader in = reader("2147483647::-2147483648::2147483648::::12a::")) {
+            assertTrue(in.nextRecord());
+            assertEquals(Integer.MAX_VALUE, in.nextInt());
+            assertEquals(Integer.MIN_VALUE, in.nextInt());
+            for (int i = 0; i < 3; i++) {
+                try {
+                    in.nextInt();
+                    fail("Field " + (i + 3) + " is not a valid int");
+                } catch (NumberFormatException expected) {
+                    in.skipField();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDates() throws Exception {
+        try (RecordReader in = reader("2024-02-29::2023-02-29::24-1-1::")) {
+            assertTrue(in.nextRecord());
+            assertEquals(LocalDate.parse("2024-02-29"), in.nextDate());
+            try {
+                in.nextDate();
+                fail("2023 is not a leap year");
+            } catch (DateTimeParseException expected) {
+                in.skipField();
+            }
+            try {
+                in.nextDate();
+                fail("Not in yyyy-MM-dd form");
+            } catch (DateTimeParseException expected) {
+                // Rejected without calling LocalDate.parse
+            }
+        }
+    }
+
+    @Test
+    public void testUnreadFieldsSkippedAndLinesCounted() throws Exception {
+        try (RecordReader in = reader("1::skipped::\r\n\n2::::3::\n")) {
+            assertTrue(in.nextRecord());
+            assertEquals(1, in.nextInt());
+            assertTrue(in.nextRecord());
+            assertEquals(3, in.lineNumber());
+            assertEquals(2, in.nextInt());
+            assertTrue(in.isFieldEmpty());
+            assertEquals("", in.nextString());
+            assertEquals(3, in.nextInt());
+            assertFalse(in.hasField());
+            assertFalse(in.nextRecord());
+        }
+    }
+
+    @Test
+    public void testLineLongerThanBuffer() throws Exception {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            name.append((char) ('a' + i % 26));
+        }
+        try (RecordReader in = reader("1::" + name + "::2::\n3::")) {
+            assertTrue(in.nextRecord());
+            assertEquals(1, in.nextInt());
+            assertEquals(name.toString(), in.nextString());
+            assertEquals(2, in.nextInt());
+            assertTrue(in.nextRecord());
+            assertEquals(3, in.nextInt());
+        }
+    }
+
+    @Test
+    public void testCustomerWithSeparatorInNameSurvivesStore() throws Exception {
+        FlightBookingSystem fbs = new FlightBookingSystem();
+        fbs.addCustomer(new Customer(1, "Ann::Lee\nJr.", "07\\01", "ann@example.com", new ArrayList<>()));
+        new CustomerDataManager().storeData(fbs);
+
+        FlightBookingSystem loaded = new FlightBookingSystem();
+        new CustomerDataManager().loadData(loaded);
+        Customer customer = loaded.getCustomerByID(1);
+        assertEquals("Ann::Lee\nJr.", customer.getName());
+        assertEquals("07\\01", customer.getPhone());
+        assertEquals("ann@example.com", customer.getEmail());
+    }
+
+    private static RecordReader reader(String text) {
+        return new StreamRecordReader(new StringReader(text));
+    }
+}
@@ -0,0 +1,137 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.data.CustomerDataManager;
+import bcu.cmp5332.bookingsystem.data.RecordReader;
+import bcu.cmp5332.bookingsystem.data.RecordWriter;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+public class RecordWriterTest {
+
+    @Rule
+    public final DataFiles dataFiles = new DataFiles();
+
+    @Test
+    public void testFieldsReadBack() throws Exception {
+        Path file = dataFiles.file("records.txt");
+        try (RecordWriter out = new RecordWriter(file)) {
+            out.writeInt(0).writeInt(-42).writeInt(Integer.MIN_VALUE).writeInt(Integer.MAX_VALUE).endRecord();
+            out.writeDate(LocalDate.parse("0999-01-09")).writeDate(LocalDate.parse("2024-12-31")).endRecord();
+            out.writeString("a::b\\c\nd").writeString("Z\u00fcrich::\u00e9").writeString(null).writeString("").endRecord();
+            out.commit();
+        }
+
+        assertEquals("0::-42::-2147483648::2147483647::", Files.readAllLines(file, StandardCharsets.UTF_8).get(0));
+        try (RecordReader in = RecordReader.open(file, false)) {
+            assertTrue(in.nextRecord());
+            assertEquals(0, in.nextInt());
+            assertEquals(-42, in.nextInt());
+            assertEquals(Integer.MIN_VALUE, in.nextInt());
+            assertEquals(Integer.MAX_VALUE, in.nextInt());
+            assertTrue(in.nextRecord());
+            assertEquals(LocalDate.parse("0999-01-09"), in.nextDate());
+            assertEquals(LocalDate.parse("2024-12-31"), in.nextDate());
+            assertTrue(in.nextRecord());
+            assertEquals("a::b\\c\nd", in.nextString());
+            assertEquals("Z\u00fcrich::\u00e9", in.nextString());
+            assertEquals("null", in.nextString());
+            assertEquals("", in.nextString());
+            assertFalse(in.nextRecord());
+        }
+    }
+
+    @Test
+    public void testCloseWithoutCommitKeepsOldFile() throws Exception {
+        Path file = dataFiles.file("records.txt");
+        Files.write(file, "1::old::\n".getBytes(StandardCharsets.UTF_8));
+        try (RecordWriter out = new RecordWriter(file)) {
+            out.writeInt(2).writeString("new").endRecord();
+            // A failed save never reaches commit()
+        }
+        assertEquals("1::old::\n", new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+        assertFalse(Files.exists(dataFiles.file("records.txt.tmp")));
+    }
+
+    @Test
+    public void testCommitReplacesFileWhole() throws Exception {
+        Path file = dataFiles.file("records.txt");
+        Files.write(file, "1::old::\n".getBytes(StandardCharsets.UTF_8));
+        try (RecordWriter out = new RecordWriter(file)) {
+            out.writeInt(2).writeString("new").endRecord();
+            assertEquals("1::old::\n", new String(Files.readAllBytes(file), StandardCharsets.UTF_8)); // Untouched until the commit
+            out.commit();
+        }
+        assertEquals("2::new::\n", new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+        assertFalse(Files.exists(dataFiles.file("records.txt.tmp")));
+    }
+
+    @Test
+    public void testRecordsLargerThanBuffer() throws Exception {
+        Path file = dataFiles.file("records.txt");
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < (3 << 20) / 4; i++) {
+            large.append(i % 2 == 0 ? "ab:c" : "\u00e9\u00e9");
+        }
+        try (RecordWriter out = new RecordWriter(file)) {
+            for (int i = 0; i < 100000; i++) {
+                out.writeInt(i).writeString("customer " + i).endRecord(); // More than the buffer holds
+            }
+            out.writeString(large.toString()).endRecord(); // Larger than the buffer on its own
+            out.commit();
+        }
+
+        try (RecordReader in = RecordReader.open(file, true)) {
+            for (int i = 0; i < 100000; i++) {
+                assertTrue(in.nextRecord());
+                assertEquals(i, in.nextInt());
+                assertEquals("customer " + i, in.nextString());
+            }
+            assertTrue(in.nextRecord());
+            assertEquals(large.toString(), in.nextString());
+            assertFalse(in.nextRecord());
+        }
+    }
+
+    @Test
+    public void testManagerReusesBufferAcrossSaves() throws Exception {
+        FlightBookingSystem fbs = new FlightBookingSystem();
+        for (int id = 1; id <= 3; id++) {
+            fbs.addCustomer(new Customer(id, "Customer " + id, "070" + id, "c" + id + "@example.com", new ArrayList<>()));
+        }
+        CustomerDataManager customerData = new CustomerDataManager();
+        customerData.storeData(fbs);
+        fbs.deleteCustomer(2);
+        fbs.deleteCustomer(3);
+        customerData.storeData(fbs); // Same buffer, fewer records
+
+        assertEquals(List.of("1::Customer 1::0701::c1@example.com::"),
+                Files.readAllLines(dataFiles.file("customers.txt"), StandardCharsets.UTF_8));
+        assertFalse(Files.exists(dataFiles.file("customers.txt.tmp")));
+    }
+
+    @Test
+    public void testEmptyCommitWritesEmptyFile() throws Exception {
+        Path file = dataFiles.file("records.txt");
+        try (RecordWriter out = new RecordWriter(file)) {
+            out.commit();
+        }
+        assertEquals(0, Files.size(file));
+        try (RecordReader in = RecordReader.open(file, false)) {
+            assertFalse(in.nextRecord());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Booking;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+import bcu.cmp5332.bookingsystem.model.SalesFigures;
+
+public class SalesFiguresTest {
+
+    private static final LocalDate DATE = LocalDate.parse("2024-01-10");
+    private static final LocalDate DEPARTURE = LocalDate.parse("2024-02-01");
+
+    private FlightBookingSystem fbs;
+
+    @Before
+    public void setUp() throws FlightBookingSystemException {
+        fbs = new FlightBookingSystem();
+        fbs.addFlight(new Flight(1, "FL1", "London", "Paris", DEPARTURE, 10, 100));
+        fbs.addFlight(new Flight(2, "FL2", "London", "Paris", DEPARTURE.plusDays(1), 10, 150));
+        fbs.addFlight(new Flight(3, "FL3", "London", "Rome", DEPARTURE, 4, 200));
+        fbs.addCustomer(new Customer(1, "Ann", "0701", "ann@example.com", new ArrayList<>()));
+        fbs.addCustomer(new Customer(2, "Bob", "0702", "bob@example.com", new ArrayList<>()));
+        fbs.addBookingByIds(1, 1, DATE);
+        fbs.addBookingByIds(2, 1, DATE);
+        fbs.addBookingByIds(1, 2, DATE);
+        fbs.addBookingByIds(1, 3, DATE);
+    }
+
+    @Test
+    public void testFiguresByFlightRouteAndDate() {
+        assertFigures(fbs.getFlightSales(1), 200, 2, 10);
+        assertEquals(0.2, fbs.getFlightSales(1).getLoadFactor(), 1e-9);
+        assertFigures(fbs.getSalesByRoute().get("London to Paris"), 350, 3, 20);
+        assertFigures(fbs.getSalesByRoute().get("London to Rome"), 200, 1, 4);
+        assertFigures(fbs.getSalesByDate().get(DEPARTURE), 400, 3, 14);
+        assertFigures(fbs.getSalesByDate().get(DEPARTURE.plusDays(1)), 150, 1, 10);
+    }
+
+    @Test
+    public void testCancelAndMoveBooking() throws FlightBookingSystemException {
+        fbs.cancelBooking(2, 1);
+        assertFigures(fbs.getFlightSales(1), 100, 1, 10);
+
+        fbs.updateBooking(1, 2, 3, DATE.plusDays(1));
+        assertFigures(fbs.getFlightSales(2), 0, 0, 10);
+        assertFigures(fbs.getFlightSales(3), 400, 2, 4);
+        assertFigures(fbs.getSalesByRoute().get("London to Paris"), 100, 1, 20);
+        assertFigures(fbs.getSalesByRoute().get("London to Rome"), 400, 2, 4);
+        assertFiguresMatchBookings();
+    }
+
+    @Test
+    public void testUpdateFlightRepricesSoldSeats() throws FlightBookingSystemException {
+        fbs.updateFlight(3, 8, 250);
+        assertFigures(fbs.getFlightSales(3), 250, 1, 8);
+        assertFigures(fbs.getSalesByDate().get(DEPARTURE), 450, 3, 18);
+
+        fbs.addBookingByIds(2, 3, DATE);
+        assertFigures(fbs.getFlightSales(3), 500, 2, 8);
+        assertFiguresMatchBookings();
+    }
+
+    @Test
+    public void testDeletedFlightNotCounted() throws FlightBookingSystemException {
+        fbs.deleteFlight(1);
+        assertFalse(fbs.getSalesByFlight().containsKey(1));
+        assertFigures(fbs.getSalesByRoute().get("London to Paris"), 150, 1, 10);
+        assertFigures(fbs.getSalesByDate().get(DEPARTURE), 200, 1, 4);
+    }
+
+    private static void assertFigures(SalesFigures figures, long revenue, int seatsSold, int seats) {
+        assertEquals(revenue, figures.getRevenue());
+        assertEquals(seatsSold, figures.getSeatsSold());
+        assertEquals(seats, figures.getSeats());
+    }
+
+    // checks the running figures against a full pass over the bookings
+    private void assertFiguresMatchBookings() {
+        for (Map.Entry<Integer, SalesFigures> entry : fbs.getSalesByFlight().entrySet()) {
+            int flightId = entry.getKey();
+            long revenue = 0;
+            int sold = 0;
+            for (Booking booking : fbs.bookingsForFlight(flightId)) {
+                revenue += booking.getFlight().getPrice();
+                sold++;
+            }
+            assertEquals(revenue, entry.getValue().getRevenue());
+            assertEquals(sold, entry.getValue().getSeatsSold());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Booking;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+import bcu.cmp5332.bookingsystem.model.SeatHold;
+
+public class SeatHoldTest {
+
+    private static final LocalDate DATE = LocalDate.parse("2029-01-10");
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private FlightBookingSystem fbs;
+    private TestClock clock;
+
+    @Before
+    public void setUp() throws FlightBookingSystemException {
+        fbs = new FlightBookingSystem();
+        clock = new TestClock();
+        fbs.setClock(clock);
+        fbs.addFlight(new Flight(1, "FL1", "London", "Paris", LocalDate.parse("2030-02-01"), 2, 100));
+        fbs.addCustomer(new Customer(1, "Ann", "0701", "ann@example.com", new ArrayList<>()));
+        fbs.addCustomer(new Customer(2, "Bob", "0702", "bob@example.com", new ArrayList<>()));
+    }
+
+    @Test
+    public void testHoldTakesSeatUntilItExpires() throws FlightBookingSystemException {
+        SeatHold hold = fbs.placeHold(1, 1, "1B", TTL);
+        Flight flight = fbs.getFlightByID(1);
+        assertEquals(1, fbs.numberOfRemainingSeats(1));
+        assertFalse(flight.getSeatMap().isFree(1));
+
+        clock.advance(TTL.minusSeconds(1));
+        assertNotNull(fbs.getHold(hold.getId()));
+        clock.advance(Duration.ofSeconds(1));
+        assertNull(fbs.getHold(hold.getId()));
+        assertEquals(2, fbs.numberOfRemainingSeats(1));
+        assertTrue(flight.getSeatMap().isFree(1));
+    }
+
+    @Test
+    public void testConfirmBooksHeldSeat() throws FlightBookingSystemException {
+        SeatHold hold = fbs.placeHold(1, 1, "1B", TTL);
+        Booking booking = fbs.confirmHold(hold.getId(), DATE);
+
+        assertEquals("1B", booking.getSeatLabel());
+        assertEquals(1, fbs.numberOfRemainingSeats(1));
+        clock.advance(TTL.multipliedBy(2));
+        assertEquals(0, fbs.expireHolds()); // A confirmed hold no longer expires
+        assertEquals(1, fbs.bookingsForFlight(1).size());
+    }
+
+    @Test
+    public void testReleasedHoldCannotBeConfirmed() throws FlightBookingSystemException {
+        SeatHold hold = fbs.placeHold(1, 1, null, TTL);
+        fbs.releaseHold(hold.getId());
+        assertEquals(2, fbs.numberOfRemainingSeats(1));
+        try {
+            fbs.confirmHold(hold.getId(), DATE);
+            fail("A released hold should not be confirmed");
+        } catch (FlightBookingSystemException expected) {
+            // The seat was given back
+        }
+    }
+
+    @Test
+    public void testExpiredHoldGoesToWaitlist() throws FlightBookingSystemException {
+        fbs.placeHold(1, 1, null, TTL);
+        fbs.placeHold(1, 1, null, TTL.multipliedBy(2));
+        assertNull(fbs.addBookingOrWaitlist(2, 1, DATE, null)); // Both seats are held
+
+        clock.advance(TTL);
+        assertEquals(1, fbs.expireHolds());
+        assertEquals(2, fbs.bookingsForFlight(1).get(0).getCustomer().getId());
+        assertTrue(fbs.getWaitlist(1).isEmpty());
+    }
+
+    // a clock that only moves when told to
+    private static final class TestClock extends Clock {
+
+        private Instant now = Instant.parse("2029-01-10T09:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
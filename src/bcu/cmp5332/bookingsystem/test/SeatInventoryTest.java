@@ -0,0 +1,160 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+public class SeatInventoryTest {
+
+    private static final LocalDate DATE = LocalDate.parse("2024-01-10");
+
+    private Flight flight;
+
+    @Before
+    public void setUp() {
+        flight = new Flight(1, "FL1", "London", "Paris", LocalDate.parse("2024-02-01"), 10, 100);
+    }
+
+    @Test
+    public void testReserveAndRelease() {
+        assertTrue(flight.tryReserve(4));
+        assertEquals(6, flight.getRemainingNumberOfSeats());
+        assertFalse(flight.tryReserve(7)); // Not enough left, nothing taken
+        assertEquals(6, flight.getRemainingNumberOfSeats());
+        flight.release(4);
+        assertEquals(10, flight.getRemainingNumberOfSeats());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReserveRejectsNonPositiveCount() {
+        flight.tryReserve(0);
+    }
+
+    @Test
+    public void testConcurrentReservationsStopAtCapacity() throws InterruptedException {
+        AtomicInteger reserved = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    if (flight.tryReserve(1)) {
+                        reserved.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(10, reserved.get());
+        assertEquals(0, flight.getRemainingNumberOfSeats());
+    }
+
+    @Test
+    public void testCapacityChangeKeepsReservedSeats() {
+        flight.tryReserve(3);
+        flight.setNumberOfSeats(20);
+        assertEquals(17, flight.getRemainingNumberOfSeats());
+        flight.setNumberOfSeats(5);
+        assertEquals(2, flight.getRemainingNumberOfSeats());
+        try {
+            flight.setNumberOfSeats(2);
+            fail("Capacity below the reserved seats should be rejected");
+        } catch (IllegalArgumentException expected) {
+            // Three seats are still reserved
+        }
+        assertEquals(5, flight.getNumberOfSeats());
+        assertEquals(2, flight.getRemainingNumberOfSeats());
+    }
+
+    @Test
+    public void testUpdateFlightMovesRemainingSeats() throws FlightBookingSystemException {
+        FlightBookingSystem fbs = new FlightBookingSystem();
+        fbs.addFlight(flight);
+        fbs.addCustomer(new Customer(1, "Ann", "0700", "ann@example.com", new ArrayList<>()));
+        fbs.addBookingByIds(1, 1, DATE);
+
+        fbs.updateFlight(1, 12, 100);
+        assertEquals(11, fbs.numberOfRemainingSeats(1));
+        try {
+            fbs.updateFlight(1, 0, 100);
+            fail("A flight needs at least one seat");
+        } catch (IllegalArgumentException expected) {
+            // Rejected before the capacity changes
+        }
+        assertEquals(11, fbs.numberOfRemainingSeats(1));
+    }
+
+    @Test
+    public void testShrinkMovesBookingsIntoFreeSeats() throws FlightBookingSystemException {
+        FlightBookingSystem fbs = withCustomers(3);
+        fbs.addBookingByIds(1, 1, DATE, flight.getSeatMap().label(8));
+        fbs.addBookingByIds(2, 1, DATE, flight.getSeatMap().label(9));
+        fbs.addBookingByIds(3, 1, DATE, flight.getSeatMap().label(1));
+
+        fbs.updateFlight(1, 5, 100); // Seats 8 and 9 would no longer exist
+        assertEquals(5, flight.getNumberOfSeats());
+        assertEquals(2, fbs.numberOfRemainingSeats(1));
+        assertEquals(0, fbs.bookingsForCustomer(1).get(0).getSeat()); // Lowest free seats first
+        assertEquals(2, fbs.bookingsForCustomer(2).get(0).getSeat());
+        assertEquals(1, fbs.bookingsForCustomer(3).get(0).getSeat());
+        assertEquals(3, flight.getSeatMap().getNumberTaken());
+    }
+
+    @Test
+    public void testShrinkBelowTakenSeatsMovesNothing() throws FlightBookingSystemException {
+        FlightBookingSystem fbs = withCustomers(3);
+        for (int customerId = 1; customerId <= 3; customerId++) {
+            fbs.addBookingByIds(customerId, 1, DATE, flight.getSeatMap().label(6 + customerId));
+        }
+        try {
+            fbs.updateFlight(1, 2, 100);
+            fail("Three booked seats do not fit in two");
+        } catch (FlightBookingSystemException expected) {
+            // Checked before any booking moves
+        }
+        assertEquals(10, flight.getNumberOfSeats());
+        assertEquals(9, fbs.bookingsForCustomer(3).get(0).getSeat());
+    }
+
+    @Test
+    public void testShrinkRejectedWhileSeatHeld() throws FlightBookingSystemException {
+        FlightBookingSystem fbs = withCustomers(1);
+        fbs.placeHold(1, 1, flight.getSeatMap().label(9), Duration.ofMinutes(5));
+        try {
+            fbs.updateFlight(1, 5, 100);
+            fail("A held seat is not moved");
+        } catch (FlightBookingSystemException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().contains("held"));
+        }
+        assertEquals(10, flight.getNumberOfSeats());
+    }
+
+    // a system holding the flight and customers 1 to count
+    private FlightBookingSystem withCustomers(int count) throws FlightBookingSystemException {
+        FlightBookingSystem fbs = new FlightBookingSystem();
+        fbs.addFlight(flight);
+        for (int id = 1; id <= count; id++) {
+            fbs.addCustomer(new Customer(id, "Customer " + id, "070" + id, "c" + id + "@example.com", new ArrayList<>()));
+        }
+        return fbs;
+    }
+}
@@ -0,0 +1,79 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.data.FlightBookingSystemData;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+import bcu.cmp5332.bookingsystem.model.SeatMap;
+
+public class SeatMapTest {
+
+    @Rule
+    public final DataFiles dataFiles = new DataFiles();
+
+    @Test
+    public void testLabelsFollowColumns() {
+        SeatMap seats = new SeatMap(20, 4);
+        assertEquals("1A", seats.label(0));
+        assertEquals("2B", seats.label(5));
+        assertEquals(5, seats.parse("2b"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseRejectsColumnPastRowEnd() {
+        new SeatMap(20, 4).parse("1E");
+    }
+
+    @Test
+    public void testFindAdjacentStaysInOneRow() {
+        SeatMap seats = new SeatMap(12, 6);
+        for (int seat = 0; seat < 4; seat++) {
+            seats.assign(seat); // 1A to 1D
+        }
+        assertEquals(4, seats.findAdjacent(2)); // 1E and 1F
+        assertEquals(6, seats.findAdjacent(3)); // Not 1E, 1F and 2A across the row end
+        assertEquals(-1, seats.findAdjacent(7)); // Wider than a row
+    }
+
+    @Test
+    public void testFindAdjacentAcrossBitsetWords() {
+        SeatMap seats = new SeatMap(140, 6);
+        for (int seat = 0; seat < 63; seat++) {
+            seats.assign(seat);
+        }
+        assertEquals(63, seats.findAdjacent(3)); // 11D to 11F, split over the first two words
+        seats.assign(64);
+        assertEquals(66, seats.findAdjacent(3));
+    }
+
+    @Test
+    public void testFindAdjacentWithNoRoom() {
+        SeatMap seats = new SeatMap(4, 2);
+        seats.assign(1);
+        seats.assign(2);
+        assertEquals(-1, seats.findAdjacent(2));
+        assertEquals(0, seats.findAdjacent(1));
+    }
+
+    @Test
+    public void testSeatColumnsSavedWithFlight() throws Exception {
+        FlightBookingSystem fbs = new FlightBookingSystem();
+        fbs.addFlight(new Flight(1, "FL1", "London", "Paris", LocalDate.parse("2030-01-01"), 40, 100, 4));
+        fbs.addCustomer(new Customer(1, "Ann", "0701", "ann@example.com", new ArrayList<>()));
+        fbs.addBookingByIds(1, 1, LocalDate.parse("2029-12-01"), "2D");
+        FlightBookingSystemData.store(fbs);
+
+        FlightBookingSystem reloaded = FlightBookingSystemData.load();
+        Flight flight = reloaded.getFlightByID(1);
+        assertEquals(4, flight.getSeatColumns());
+        assertEquals("2D", reloaded.bookingsForFlight(1).get(0).getSeatLabel());
+    }
+}
@@ -0,0 +1,195 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.Booking;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightArchive;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSnapshot;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+
+public class SnapshotTest {
+
+    private static final LocalDate DATE = LocalDate.parse("2024-01-10");
+
+    private FlightBookingSystem fbs;
+
+    @Before
+    public void setUp() throws FlightBookingSystemException {
+        fbs = new FlightBookingSystem(true);
+        fbs.addFlight(new Flight(1, "FL1", "London", "Paris", LocalDate.parse("2024-02-01"), 10, 100));
+        fbs.addFlight(new Flight(2, "FL2", "London", "Rome", LocalDate.parse("2024-02-01"), 10, 100));
+        fbs.addCustomer(new Customer(1, "Ann", "0701", "ann@example.com", new ArrayList<>()));
+        fbs.addCustomer(new Customer(2, "Bob", "0702", "bob@example.com", new ArrayList<>()));
+    }
+
+    @Test
+    public void testListingSnapshotSkipsBookings() throws FlightBookingSystemException {
+        fbs.addBookingByIds(1, 1, DATE);
+        fbs.addBookingByIds(1, 2, DATE);
+        FlightBookingSnapshot snapshot = fbs.snapshot();
+
+        assertFalse(snapshot.hasBookings());
+        assertEquals(2, snapshot.getFlights().size());
+        assertEquals(9, snapshot.getRemainingSeats(1));
+        assertEquals(2, snapshot.getBookingCount(1));
+        assertEquals(0, snapshot.getBookingCount(2));
+        try {
+            snapshot.getBookings();
+            fail("A snapshot without bookings should not list them");
+        } catch (IllegalStateException expected) {
+            // Only snapshot(true) copies the bookings
+        }
+    }
+
+    @Test
+    public void testBookingCopiesAreDetached() throws FlightBookingSystemException {
+        int groupId = fbs.addGroupBooking(List.of(1, 2), 1, DATE);
+        FlightBookingSnapshot snapshot = fbs.snapshot(true);
+        fbs.updateBooking(1, 1, 2, DATE.plusDays(1));
+
+        List<Booking> bookings = snapshot.getBookings();
+        assertEquals(2, bookings.size());
+        for (Booking booking : bookings) {
+            assertEquals(1, booking.getFlight().getId());
+            assertEquals(DATE, booking.getBookingDate());
+            assertEquals(groupId, booking.getGroupId());
+        }
+    }
+
+    @Test
+    public void testSnapshotCachedUntilNextWrite() throws FlightBookingSystemException {
+        FlightBookingSnapshot listing = fbs.snapshot();
+        assertSame(listing, fbs.snapshot());
+
+        FlightBookingSnapshot full = fbs.snapshot(true);
+        assertNotSame(listing, full); // The cached snapshot had no bookings
+        assertSame(full, fbs.snapshot()); // A snapshot with bookings also serves listings
+
+        fbs.addBookingByIds(2, 1, DATE);
+        FlightBookingSnapshot after = fbs.snapshot();
+        assertTrue(after.getVersion() > full.getVersion());
+        assertEquals(1, after.getBookingCount(2));
+    }
+
+    @Test
+    public void testRowValuesFixedWhenSnapshotTaken() throws FlightBookingSystemException {
+        fbs.addBookingByIds(1, 1, DATE);
+        FlightBookingSnapshot snapshot = fbs.snapshot(true);
+        fbs.updateFlight(1, 12, 250);
+        fbs.updateCustomer(1, "Anne", "0799", "anne@example.com");
+
+        Flight flight = snapshot.getFlights().get(0);
+        assertEquals(100, flight.getPrice());
+        assertEquals(10, flight.getNumberOfSeats());
+        Customer customer = snapshot.getCustomers().get(0);
+        assertEquals("Ann", customer.getName());
+        assertEquals("ann@example.com", customer.getEmail());
+        Booking booking = snapshot.getBookings().get(0);
+        assertSame(customer, booking.getCustomer()); // Bookings refer to the copies
+        assertSame(flight, booking.getFlight());
+        assertEquals(250, fbs.getFlightByID(1).getPrice());
+    }
+
+    @Test
+    public void testReaderTakesLastSnapshotWhenWriteNeverEnds() throws Exception {
+        FlightBookingSnapshot before = fbs.snapshot();
+        CountDownLatch release = new CountDownLatch(1);
+        Thread compaction = startStuckCompaction(release);
+
+        assertSame(before, fbs.snapshot()); // Older but consistent, and the writer is not held up
+        release.countDown();
+        compaction.join(5000);
+        assertEquals(2, fbs.snapshot().getFlights().size());
+    }
+
+    @Test
+    public void testReaderNeverBlocksWriter() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Thread compaction = startStuckCompaction(release);
+
+        AtomicReference<FlightBookingSnapshot> result = new AtomicReference<>();
+        Thread reader = new Thread(() -> result.set(fbs.snapshot(true)));
+        reader.start();
+        reader.join(200);
+        assertTrue(reader.isAlive()); // No snapshot to fall back on, so it keeps retrying
+        assertNotSame(Thread.State.BLOCKED, reader.getState());
+
+        release.countDown();
+        compaction.join(5000);
+        reader.join(5000);
+        assertEquals(2, result.get().getFlights().size()); // Copied once the compaction finished
+    }
+
+    // starts compacting away a departed flight, and returns once the archive holds the write open
+    private Thread startStuckCompaction(CountDownLatch release) throws Exception {
+        CountDownLatch archiving = new CountDownLatch(1);
+        fbs.setFlightArchive(new BlockingArchive(archiving, release));
+        fbs.addFlight(new Flight(3, "FL3", "London", "Oslo", LocalDate.parse("2020-01-01"), 10, 100)); // Departed
+        Thread compaction = new Thread(() -> {
+            try {
+                fbs.compactFlights();
+            } catch (FlightBookingSystemException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        compaction.start();
+        assertTrue(archiving.await(5, TimeUnit.SECONDS)); // The write is now in progress
+        return compaction;
+    }
+
+    // an archive that blocks while archiving until it is released
+    private static final class BlockingArchive implements FlightArchive {
+
+        private final CountDownLatch archiving;
+        private final CountDownLatch release;
+
+        BlockingArchive(CountDownLatch archiving, CountDownLatch release) {
+            this.archiving = archiving;
+            this.release = release;
+        }
+
+        @Override
+        public void archive(Flight flight, Collection<Booking> bookings) {
+            archiving.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public boolean contains(int flightId) {
+            return false;
+        }
+
+        @Override
+        public Flight restore(int flightId, Collection<Booking> bookings) {
+            return null;
+        }
+
+        @Override
+        public int getLastFlightId() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.model.TimerWheel;
+
+public class TimerWheelTest {
+
+    @Test
+    public void testExpiresAtDeadlineNotBefore() {
+        TimerWheel<String> wheel = new TimerWheel<>(10, 0);
+        wheel.schedule("a", 25); // Rounded up to the tick at 30
+        List<String> expired = new ArrayList<>();
+
+        wheel.advance(29, expired::add);
+        assertTrue(expired.isEmpty());
+        wheel.advance(30, expired::add);
+        assertEquals(List.of("a"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testExpiresEarliestFirst() {
+        TimerWheel<String> wheel = new TimerWheel<>(1, 0);
+        wheel.schedule("late", 5000);
+        wheel.schedule("early", 3);
+        wheel.schedule("middle", 70);
+        List<String> expired = new ArrayList<>();
+
+        wheel.advance(10000, expired::add);
+        assertEquals(List.of("early", "middle", "late"), expired);
+    }
+
+    @Test
+    public void testCascadeKeepsEveryDeadline() {
+        TimerWheel<Long> wheel = new TimerWheel<>(1, 0);
+        long[] deadlines = {1, 63, 64, 65, 4095, 4096, 4097, 64 * 64 * 5 + 17, 64 * 64 * 64 + 1, 64 * 64 * 64 * 2 + 300};
+        for (long deadline : deadlines) {
+            wheel.schedule(deadline, deadline);
+        }
+        Map<Long, Long> expiredAt = new HashMap<>();
+        long end = deadlines[deadlines.length - 1];
+        for (long now = 0; now <= end; now += 7) {
+            long at = now;
+            wheel.advance(now, deadline -> expiredAt.put(deadline, at));
+        }
+        wheel.advance(end, deadline -> expiredAt.put(deadline, end));
+
+        assertEquals(deadlines.length, expiredAt.size());
+        for (long deadline : deadlines) {
+            long at = expiredAt.get(deadline);
+            assertTrue("Item due at " + deadline + " expired early at " + at, at >= deadline);
+            assertTrue("Item due at " + deadline + " expired late at " + at, at < deadline + 7);
+        }
+    }
+
+    @Test
+    public void testDeadlineBeyondWheelSpan() {
+        TimerWheel<String> wheel = new TimerWheel<>(1, 0);
+        long deadline = (1L << 24) + 100; // Past the last slot of the top level
+        wheel.schedule("far", deadline);
+        List<String> expired = new ArrayList<>();
+
+        wheel.advance(deadline - 1, expired::add);
+        assertTrue(expired.isEmpty());
+        wheel.advance(deadline, expired::add);
+        assertEquals(List.of("far"), expired);
+    }
+
+    @Test
+    public void testCancelledItemNeverExpires() {
+        TimerWheel<String> wheel = new TimerWheel<>(10, 0);
+        TimerWheel.Timeout<String> timeout = wheel.schedule("a", 100);
+        wheel.schedule("b", 100);
+
+        assertTrue(wheel.cancel(timeout));
+        assertFalse(timeout.isPending());
+        assertFalse(wheel.cancel(timeout));
+        assertEquals(1, wheel.size());
+        List<String> expired = new ArrayList<>();
+        wheel.advance(1000, expired::add);
+        assertEquals(List.of("b"), expired);
+    }
+
+    @Test
+    public void testEmptyWheelJumpsToNow() {
+        TimerWheel<String> wheel = new TimerWheel<>(10, 0);
+        List<String> expired = new ArrayList<>();
+        wheel.advance(1_000_000_000L, expired::add);
+        wheel.schedule("a", 1_000_000_050L);
+
+        wheel.advance(1_000_000_040L, expired::add);
+        assertTrue(expired.isEmpty());
+        wheel.advance(1_000_000_050L, expired::add);
+        assertEquals(List.of("a"), expired);
+    }
+}
@@ -0,0 +1,137 @@
+package bcu.cmp5332.bookingsystem.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import bcu.cmp5332.bookingsystem.data.FlightBookingSystemData;
+import bcu.cmp5332.bookingsystem.main.FlightBookingSystemException;
+import bcu.cmp5332.bookingsystem.model.ChangeTracker;
+import bcu.cmp5332.bookingsystem.model.Customer;
+import bcu.cmp5332.bookingsystem.model.Flight;
+import bcu.cmp5332.bookingsystem.model.FlightBookingSystem;
+import bcu.cmp5332.bookingsystem.model.WaitlistEntry;
+
+public class WaitlistTest {
+
+    private static final LocalDate DATE = LocalDate.parse("2029-01-10");
+
+    @Rule
+    public final DataFiles dataFiles = new DataFiles();
+
+    private FlightBookingSystem fbs;
+
+    @Before
+    public void setUp() throws FlightBookingSystemException {
+        fbs = new FlightBookingSystem();
+        fbs.addFlight(new Flight(1, "FL1", "London", "Paris", LocalDate.parse("2030-02-01"), 1, 100));
+        fbs.addFlight(new Flight(2, "FL2", "London", "Rome", LocalDate.parse("2030-02-01"), 1, 100));
+        for (int id = 1; id <= 4; id++) {
+            fbs.addCustomer(new Customer(id, "Customer " + id, "0700" + id, "c" + id + "@example.com", new ArrayList<>()));
+        }
+        fbs.addBookingByIds(1, 1, DATE);
+        fbs.addBookingByIds(1, 2, DATE);
+    }
+
+    @Test
+    public void testFullFlightPutsCustomerOnWaitlist() throws FlightBookingSystemException {
+        assertNull(fbs.addBookingOrWaitlist(2, 1, DATE, null));
+        assertEquals(List.of(2), customers(fbs.getWaitlist(1)));
+        assertEquals(1, (int) fbs.getWaitlistDepths().get(1));
+    }
+
+    @Test
+    public void testPromotedByPriorityThenJoinOrder() throws FlightBookingSystemException {
+        fbs.joinWaitlist(2, 1, DATE, 0);
+        fbs.joinWaitlist(3, 1, DATE, 5);
+        fbs.joinWaitlist(4, 1, DATE, 0);
+        assertEquals(List.of(3, 2, 4), customers(fbs.getWaitlist(1)));
+
+        fbs.cancelBooking(1, 1);
+        assertEquals(3, fbs.bookingsForFlight(1).get(0).getCustomer().getId());
+        assertEquals(List.of(2, 4), customers(fbs.getWaitlist(1)));
+
+        fbs.updateFlight(1, 3, 100); // Two more seats
+        assertEquals(3, fbs.bookingsForFlight(1).size());
+        assertTrue(fbs.getWaitlist(1).isEmpty());
+    }
+
+    @Test
+    public void testDeletedFlightDropsWaitlist() throws FlightBookingSystemException {
+        fbs.joinWaitlist(2, 1, DATE, 0);
+        fbs.getChanges().clear();
+
+        fbs.deleteFlight(1);
+        assertTrue(fbs.getWaitlist(1).isEmpty());
+        assertTrue(fbs.getChanges().isDirty(ChangeTracker.Kind.WAITLISTS));
+        try {
+            fbs.joinWaitlist(3, 1, DATE, 0);
+            fail("A deleted flight should not take a waitlist");
+        } catch (FlightBookingSystemException expected) {
+            // The flight is gone
+        }
+    }
+
+    @Test
+    public void testDeletedCustomerLeavesEveryWaitlist() throws FlightBookingSystemException {
+        fbs.joinWaitlist(2, 1, DATE, 0);
+        fbs.joinWaitlist(2, 2, DATE, 0);
+        fbs.joinWaitlist(3, 2, DATE, 0);
+        fbs.getChanges().clear();
+
+        fbs.deleteCustomer(2);
+        assertTrue(fbs.getWaitlist(1).isEmpty());
+        assertEquals(List.of(3), customers(fbs.getWaitlist(2)));
+        assertEquals(1, fbs.getWaitlistDepths().size());
+        assertTrue(fbs.getChanges().isDirty(ChangeTracker.Kind.WAITLISTS));
+    }
+
+    @Test
+    public void testWaitlistReloadsAfterDeletes() throws Exception {
+        fbs.addFlight(new Flight(3, "FL3", "London", "Oslo", LocalDate.parse("2030-02-01"), 1, 100));
+        fbs.joinWaitlist(2, 3, DATE, 0);
+        fbs.joinWaitlist(3, 2, DATE, 2);
+        fbs.joinWaitlist(4, 2, DATE, 0);
+        fbs.deleteFlight(3); // Not saved, so a waitlist line for it would stop the load
+        fbs.deleteCustomer(4);
+        FlightBookingSystemData.store(fbs);
+
+        FlightBookingSystem reloaded = FlightBookingSystemData.load();
+        assertEquals(List.of(3), customers(reloaded.getWaitlist(2)));
+        assertEquals(2, reloaded.getWaitlist(2).get(0).getPriority());
+    }
+
+    @Test
+    public void testStaleWaitlistLinesSkippedOnLoad() throws Exception {
+        fbs.joinWaitlist(2, 1, DATE, 0);
+        FlightBookingSystemData.store(fbs);
+        String stale = "99::2::2029-01-10::0::" + System.lineSeparator() // No such flight
+                + "1::99::2029-01-10::0::" + System.lineSeparator() // No such customer
+                + "1::1::2029-01-10::0::" + System.lineSeparator(); // Already booked
+        Files.write(dataFiles.file("waitlist.txt"), stale.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        FlightBookingSystem reloaded = FlightBookingSystemData.load();
+        assertEquals(List.of(2), customers(reloaded.getWaitlist(1)));
+        assertEquals(1, reloaded.getWaitlistDepths().size());
+    }
+
+    private static List<Integer> customers(List<WaitlistEntry> entries) {
+        List<Integer> ids = new ArrayList<>();
+        for (WaitlistEntry entry : entries) {
+            ids.add(entry.getCustomerId());
+        }
+        return ids;
+    }
+}